@@ -25,11 +25,13 @@ public class InitializationTasks {
     @Inject
     public InitializationTasks(CheckForUpdate checkForUpdate,
             CheckTargetVersion checkTargetVersion,
-            PollingTasks pollingTasks) {
+            PollingTasks pollingTasks,
+            PrefetchMetadata prefetchMetadata) {
         this.tasks = new InitializedTask[] {
                 checkForUpdate,
                 checkTargetVersion,
-                pollingTasks
+                pollingTasks,
+                prefetchMetadata
         };
     }
 
@@ -28,13 +28,18 @@ import org.slf4j.LoggerFactory;
 
 import elemental2.promise.Promise;
 
+import static org.jboss.hal.config.Settings.Key.BATCH_WINDOW;
+import static org.jboss.hal.config.Settings.Key.CACHE_TTL;
 import static org.jboss.hal.config.Settings.Key.COLLECT_USER_DATA;
 import static org.jboss.hal.config.Settings.Key.LOCALE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.POLL;
 import static org.jboss.hal.config.Settings.Key.POLL_TIME;
+import static org.jboss.hal.config.Settings.Key.PREFETCH_METADATA;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
 import static org.jboss.hal.config.Settings.Key.TITLE;
+import static org.jboss.hal.config.Settings.Key.TOPOLOGY_REFRESH;
+import static org.jboss.hal.config.Settings.Key.WIRE_FORMAT;
 
 /**
  * Loads the settings. Please make sure this is one of the last bootstrap function. This function loads the run-as role which is
@@ -61,6 +66,11 @@ public final class LoadSettings implements Task<FlowContext> {
         settings.load(PAGE_SIZE, Settings.DEFAULT_PAGE_SIZE);
         settings.load(POLL, true);
         settings.load(POLL_TIME, Settings.DEFAULT_POLL_TIME);
+        settings.load(WIRE_FORMAT, Settings.DEFAULT_WIRE_FORMAT);
+        settings.load(BATCH_WINDOW, null);
+        settings.load(CACHE_TTL, null);
+        settings.load(PREFETCH_METADATA, false);
+        settings.load(TOPOLOGY_REFRESH, false);
         settings.load(RUN_AS, null);
         logger.debug("Load settings: {}", settings);
         return Promise.resolve(context);
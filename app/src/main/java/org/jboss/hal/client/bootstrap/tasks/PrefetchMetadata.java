@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.bootstrap.tasks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.js.JsHelper;
+import org.jboss.hal.meta.processing.MetadataProcessor;
+import org.jboss.hal.meta.resource.RequiredResources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Stopwatch;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.jboss.hal.config.Settings.Key.PREFETCH_METADATA;
+
+/**
+ * Reads the metadata of all presenters and columns in the background, so that they don't have to wait for the metadata
+ * when they're visited the first time. The metadata is processed one id after the other when the browser is idle.
+ * Metadata which is already in the registries or databases is not read again.
+ */
+public class PrefetchMetadata implements InitializedTask {
+
+    private static final int IDLE_TIMEOUT = 5000;
+    private static final Logger logger = LoggerFactory.getLogger(PrefetchMetadata.class);
+
+    private final Settings settings;
+    private final RequiredResources requiredResources;
+    private final MetadataProcessor metadataProcessor;
+
+    @Inject
+    public PrefetchMetadata(Settings settings, RequiredResources requiredResources,
+            MetadataProcessor metadataProcessor) {
+        this.settings = settings;
+        this.requiredResources = requiredResources;
+        this.metadataProcessor = metadataProcessor;
+    }
+
+    @Override
+    public void run() {
+        if (settings.get(PREFETCH_METADATA).asBoolean()) {
+            Deque<String> ids = new ArrayDeque<>(requiredResources.getIds());
+            logger.info("Prefetch metadata for {} ids", ids.size());
+            Stopwatch stopwatch = Stopwatch.createStarted();
+            JsHelper.requestIdle(() -> next(ids, stopwatch), IDLE_TIMEOUT);
+        }
+    }
+
+    private void next(Deque<String> ids, Stopwatch stopwatch) {
+        String id = ids.poll();
+        if (id == null) {
+            logger.info("Prefetched metadata in {} ms", stopwatch.elapsed(MILLISECONDS));
+        } else {
+            metadataProcessor.process(id, Progress.NOOP)
+                    .then(__ -> {
+                        JsHelper.requestIdle(() -> next(ids, stopwatch), IDLE_TIMEOUT);
+                        return null;
+                    })
+                    .catch_(error -> {
+                        // not all resources exist in all environments
+                        logger.debug("Unable to prefetch metadata for {}: {}", id, error);
+                        JsHelper.requestIdle(() -> next(ids, stopwatch), IDLE_TIMEOUT);
+                        return null;
+                    });
+        }
+    }
+}
@@ -22,6 +22,7 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderContext;
 import org.jboss.hal.core.finder.FinderPathFactory;
@@ -81,6 +82,7 @@ public class BrowseByColumn extends StaticItemColumn {
     @Inject
     public BrowseByColumn(Finder finder,
             Environment environment,
+            Settings settings,
             SecurityContextRegistry securityContextRegistry,
             @Footer Provider<Progress> progress,
             EventBus eventBus,
@@ -95,7 +97,7 @@ public class BrowseByColumn extends StaticItemColumn {
         super(finder, Ids.DOMAIN_BROWSE_BY, resources.constants().browseBy(),
                 Arrays.asList(
                         new StaticItem.Builder(Names.TOPOLOGY)
-                                .onPreview(new TopologyPreview(securityContextRegistry, environment, dispatcher,
+                                .onPreview(new TopologyPreview(securityContextRegistry, environment, settings, dispatcher,
                                         progress, eventBus, places, finderPathFactory, hostActions,
                                         serverGroupActions, serverActions, resources))
                                 .build(),
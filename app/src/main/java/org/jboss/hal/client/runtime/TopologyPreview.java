@@ -15,18 +15,23 @@
  */
 package org.jboss.hal.client.runtime;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import javax.inject.Provider;
 
 import org.jboss.elemento.Elements;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.finder.StaticItem;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.TopologyState;
 import org.jboss.hal.core.runtime.TopologyTasks;
 import org.jboss.hal.core.runtime.group.ServerGroup;
 import org.jboss.hal.core.runtime.group.ServerGroupActionEvent;
@@ -60,7 +65,9 @@ import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.NodeList;
 
+import static elemental2.dom.DomGlobal.clearTimeout;
 import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.Collections.singletonList;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
@@ -73,6 +80,9 @@ import static org.jboss.elemento.Elements.p;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.elemento.Elements.td;
 import static org.jboss.elemento.EventType.click;
+import static org.jboss.hal.config.Settings.DEFAULT_POLL_TIME;
+import static org.jboss.hal.config.Settings.Key.POLL_TIME;
+import static org.jboss.hal.config.Settings.Key.TOPOLOGY_REFRESH;
 import static org.jboss.hal.core.runtime.TopologyTasks.serverConfigsOfHost;
 import static org.jboss.hal.core.runtime.TopologyTasks.startedServerOperations;
 import static org.jboss.hal.core.runtime.TopologyTasks.topology;
@@ -100,6 +110,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
     private static final long TOPOLOGY_TIMEOUT = 5_000; // milli seconds
 
     private final Environment environment;
+    private final Settings settings;
     private final Dispatcher dispatcher;
     private final Provider<Progress> progress;
     private final EventBus eventBus;
@@ -107,10 +118,17 @@ class TopologyPreview extends PreviewContent<StaticItem>
     private final TopologyStatus topologyStatus;
     private final TopologyElements topologyElements;
     private final TopologyAttributes topologyAttributes;
+    private final Map<String, Server> cachedServers;
+    private List<Host> cachedHosts;
+    private List<ServerGroup> cachedServerGroups;
+    private int pendingHosts; // connected hosts whose server configs have not been read (yet)
+    private boolean attached;
+    private double refreshHandle;
 
     public TopologyPreview(
             SecurityContextRegistry securityContextRegistry,
             Environment environment,
+            Settings settings,
             Dispatcher dispatcher,
             Provider<Progress> progress,
             EventBus eventBus,
@@ -123,6 +141,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
         super(Names.TOPOLOGY, resources.previews().runtimeTopology());
 
         this.environment = environment;
+        this.settings = settings;
         this.dispatcher = dispatcher;
         this.progress = progress;
         this.eventBus = eventBus;
@@ -133,6 +152,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
                 securityContextRegistry, hostActions, serverGroupActions, serverActions,
                 environment, resources);
         this.topologyAttributes = new TopologyAttributes(places, finderPathFactory, hostActions, serverActions, resources);
+        this.cachedServers = new HashMap<>();
 
         eventBus.addHandler(HostActionEvent.getType(), this);
         eventBus.addHandler(HostResultEvent.getType(), this);
@@ -163,6 +183,8 @@ class TopologyPreview extends PreviewContent<StaticItem>
                         finishUpdate();
                         List<Host> hosts = context.get(TopologyTasks.HOSTS);
                         List<ServerGroup> serverGroups = context.get(TopologyTasks.SERVER_GROUPS);
+                        cachedHosts = hosts;
+                        cachedServerGroups = serverGroups;
                         topologyElements.update(hosts, serverGroups);
                         updateServers(hosts, serverGroups);
 
@@ -181,6 +203,10 @@ class TopologyPreview extends PreviewContent<StaticItem>
     }
 
     private void startUpdate() {
+        cachedHosts = null;
+        cachedServerGroups = null;
+        cachedServers.clear();
+        pendingHosts = 0;
         topologyStatus.reset();
         topologyAttributes.hideAll();
         topologyElements.startUpdate();
@@ -190,6 +216,110 @@ class TopologyPreview extends PreviewContent<StaticItem>
         topologyElements.finishUpdate();
     }
 
+    // ------------------------------------------------------ incremental refresh
+
+    @Override
+    public void attach() {
+        super.attach();
+        attached = true;
+        scheduleRefresh();
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        attached = false;
+        clearTimeout(refreshHandle);
+    }
+
+    private void scheduleRefresh() {
+        clearTimeout(refreshHandle);
+        if (attached && settings.get(TOPOLOGY_REFRESH).asBoolean()) {
+            int pollTime = settings.get(POLL_TIME).asInt(DEFAULT_POLL_TIME);
+            refreshHandle = setTimeout(__ -> refresh(), pollTime * 1000);
+        }
+    }
+
+    /**
+     * Reads the state of all hosts and servers and replaces the elements of the hosts, server groups and servers whose state
+     * has changed. Falls back to a full update if hosts or servers have been added or removed.
+     * <p>
+     * The refresh needs the server configs of all connected hosts. As long as they're not read, the refresh is skipped.
+     * If the server configs of a host could not be read at all, the topology is refreshed by the next full update only.
+     */
+    private void refresh() {
+        if (!topologyComplete() || !topologyElements.isVisible()) {
+            scheduleRefresh();
+            return;
+        }
+        dispatcher.execute(TopologyState.operation())
+                .then(result -> {
+                    // the topology might have been updated in the meantime
+                    if (topologyComplete()) {
+                        TopologyState state = new TopologyState(result);
+                        if (state.sameTopology(cachedHosts, cachedServers.values())) {
+                            patch(state);
+                        } else {
+                            logger.debug("Hosts or servers have been added or removed. Update topology.");
+                            update(null);
+                        }
+                    }
+                    scheduleRefresh();
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.debug("Unable to refresh topology: {}", error);
+                    scheduleRefresh();
+                    return null;
+                });
+    }
+
+    private boolean topologyComplete() {
+        return cachedHosts != null && pendingHosts == 0;
+    }
+
+    private void patch(TopologyState state) {
+        for (Host host : cachedHosts) {
+            if (state.update(host)) {
+                topologyElements.replaceHost(host, () -> topologyElements.hostElement(host), __ -> hostDetails(host));
+            }
+        }
+
+        Set<String> serverGroupNames = new HashSet<>();
+        for (Server server : cachedServers.values()) {
+            if (state.update(server)) {
+                serverGroupNames.add(server.getServerGroup());
+                topologyElements.replaceServer(server, () -> topologyElements.serverElement(server),
+                        __ -> serverDetails(server));
+                if (server.isStarted()) {
+                    startedServerOperations(singletonList(server))
+                            .forEach((__, composite) -> dispatcher.execute(composite)
+                                    .then(result -> {
+                                        server.addServerAttributes(result.step(0).get(RESULT));
+                                        server.setBootErrors(!result.step(1).get(RESULT).asList().isEmpty());
+                                        topologyElements.replaceServer(server,
+                                                () -> topologyElements.serverElement(server),
+                                                ___ -> serverDetails(server));
+                                        return null;
+                                    })
+                                    .catch_(failure -> {
+                                        logger.debug("Unable to read attributes of server {}: {}",
+                                                server.getServerAddress(), failure);
+                                        return null;
+                                    }));
+                }
+            }
+        }
+
+        for (ServerGroup serverGroup : cachedServerGroups) {
+            if (serverGroupNames.contains(serverGroup.getName())) {
+                topologyElements.replaceServerGroup(serverGroup,
+                        () -> topologyElements.serverGroupElement(serverGroup),
+                        __ -> serverGroupDetails(serverGroup));
+            }
+        }
+    }
+
     // ------------------------------------------------------ host
 
     private void hostDetails(Host host) {
@@ -254,6 +384,7 @@ class TopologyPreview extends PreviewContent<StaticItem>
 
     @SuppressWarnings("Convert2MethodRef")
     private void updateServers(List<Host> hosts, List<ServerGroup> serverGroups) {
+        pendingHosts = (int) hosts.stream().filter(Host::isConnected).count();
         for (Host host : hosts) {
             if (host.isConnected()) {
                 // 1. Read server configs
@@ -262,6 +393,11 @@ class TopologyPreview extends PreviewContent<StaticItem>
                         .subscribe(context -> {
                             if (context.successful()) {
                                 List<Server> servers = context.get(TopologyTasks.SERVERS);
+                                // ignore the servers of an outdated update
+                                if (hosts == cachedHosts) {
+                                    servers.forEach(server -> cachedServers.put(server.getId(), server));
+                                    pendingHosts--;
+                                }
                                 for (ServerGroup serverGroup : serverGroups) {
                                     List<HTMLElement> serverElements = servers.stream()
                                             .filter(sc -> host.getName().equals(sc.getHost()) &&
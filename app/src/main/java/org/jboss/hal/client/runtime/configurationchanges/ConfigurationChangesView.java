@@ -34,8 +34,8 @@ import org.jboss.hal.resources.Messages;
 import org.jboss.hal.resources.Resources;
 
 import static java.util.Collections.emptyList;
-import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.ballroom.dataprovider.KeyComparator.comparing;
 import static org.jboss.hal.client.runtime.configurationchanges.ConfigurationChangesPresenter.HOST_CONFIGURATION_CHANGES_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.resources.Ids.CONFIGURATION_CHANGES;
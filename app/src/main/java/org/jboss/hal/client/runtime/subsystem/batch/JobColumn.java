@@ -17,8 +17,8 @@ package org.jboss.hal.client.runtime.subsystem.batch;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +39,8 @@ import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -61,8 +63,8 @@ import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import elemental2.dom.HTMLElement;
 import elemental2.promise.Promise;
 
-import static elemental2.dom.DomGlobal.clearInterval;
-import static elemental2.dom.DomGlobal.setInterval;
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.Arrays.asList;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_TEMPLATE;
@@ -79,6 +81,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PROPERTIES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ONLY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RUNNING_EXECUTIONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.START_JOB;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBDEPLOYMENT;
@@ -92,7 +95,9 @@ public class JobColumn extends FinderColumn<JobNode> {
     private final Dispatcher dispatcher;
     private final MetadataRegistry metadataRegistry;
     private final Resources resources;
-    private final Map<String, Double> intervalHandles;
+    private final Map<String, JobNode> runningJobs;
+    private double pollHandle;
+    private int pollRun;
 
     @Inject
     public JobColumn(Finder finder,
@@ -117,20 +122,23 @@ public class JobColumn extends FinderColumn<JobNode> {
         this.dispatcher = dispatcher;
         this.metadataRegistry = metadataRegistry;
         this.resources = resources;
-        this.intervalHandles = new HashMap<>();
+        this.runningJobs = new LinkedHashMap<>();
+        this.pollHandle = -1;
+        this.pollRun = 0;
 
         setItemsProvider(context -> deploymentResources.readChildren(BATCH_JBERET, JOB, JobNode::new).then(jobs -> {
             // turn progress animation on/off
-            clearIntervals();
+            stopPolling();
             for (JobNode job : jobs) {
                 String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
                 if (job.getRunningExecutions() > 0) {
                     ItemMonitor.startProgress(jobId);
-                    intervalHandles.put(jobId, setInterval(o -> pollJob(job), POLLING_INTERVAL));
+                    runningJobs.put(jobId, job);
                 } else {
                     ItemMonitor.stopProgress(jobId);
                 }
             }
+            schedulePolling();
             return Promise.resolve(jobs);
         }));
 
@@ -210,22 +218,87 @@ public class JobColumn extends FinderColumn<JobNode> {
         setPreviewCallback(itm -> new JobPreview(this, itm, finderPathFactory, places, resources));
     }
 
-    private void pollJob(JobNode job) {
-        Operation operation = new Operation.Builder(job.getAddress(), READ_ATTRIBUTE_OPERATION)
-                .param(NAME, RUNNING_EXECUTIONS)
-                .build();
-        String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
-        dispatcher.execute(operation,
-                result -> {
-                    if (result.asInt() == 0) {
-                        ItemMonitor.stopProgress(jobId);
-                        if (intervalHandles.containsKey(jobId)) {
-                            double handle = intervalHandles.remove(jobId);
-                            clearInterval(handle);
+    private void schedulePolling() {
+        if (!runningJobs.isEmpty()) {
+            int run = pollRun;
+            pollHandle = setTimeout(o -> pollJobs(run), POLLING_INTERVAL);
+        }
+    }
+
+    /**
+     * Reads the running executions of all running jobs using one composite operation. If the composite operation fails
+     * (e.g. because a job has been removed in the meantime), the jobs are read one by one.
+     */
+    private void pollJobs(int run) {
+        List<String> jobIds = new ArrayList<>(runningJobs.keySet());
+        List<Operation> operations = new ArrayList<>();
+        for (JobNode job : runningJobs.values()) {
+            operations.add(new Operation.Builder(job.getAddress(), READ_ATTRIBUTE_OPERATION)
+                    .param(NAME, RUNNING_EXECUTIONS)
+                    .build());
+        }
+        dispatcher.execute(new Composite(operations),
+                (CompositeResult result) -> {
+                    if (run == pollRun) { // otherwise polling has been stopped or restarted in the meantime
+                        int[] executions = new int[jobIds.size()];
+                        for (int i = 0; i < executions.length; i++) {
+                            executions[i] = result.step(i).get(RESULT).asInt();
                         }
-                        JobColumn.this.refresh(RESTORE_SELECTION);
+                        updateRunningJobs(jobIds, executions);
+                    }
+                }, (o, failure) -> {
+                    if (run == pollRun) {
+                        pollEachJob(run, jobIds, operations);
                     }
-                }, (o, failure) -> ItemMonitor.stopProgress(jobId));
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pollEachJob(int run, List<String> jobIds, List<Operation> operations) {
+        // -1 marks the jobs which cannot be read
+        Promise<Integer>[] promises = operations.stream()
+                .map(operation -> dispatcher.execute(operation)
+                        .then(result -> Promise.resolve(result.asInt()))
+                        .catch_(error -> Promise.resolve(-1)))
+                .toArray(Promise[]::new);
+        Promise.all(promises).then(results -> {
+            if (run == pollRun) {
+                int[] executions = new int[results.length];
+                for (int i = 0; i < executions.length; i++) {
+                    executions[i] = results[i];
+                }
+                updateRunningJobs(jobIds, executions);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Stops polling of the jobs without running executions (0) and of the jobs which cannot be read (-1). Refreshes the
+     * column if a job has finished, which also restarts polling for the jobs which are still running.
+     */
+    private void updateRunningJobs(List<String> jobIds, int[] executions) {
+        boolean finished = false;
+        for (int i = 0; i < jobIds.size(); i++) {
+            if (executions[i] <= 0) {
+                String jobId = jobIds.get(i);
+                ItemMonitor.stopProgress(jobId);
+                runningJobs.remove(jobId);
+                finished |= executions[i] == 0;
+            }
+        }
+        if (finished) {
+            refresh(RESTORE_SELECTION);
+        } else {
+            schedulePolling();
+        }
+    }
+
+    private void stopPolling() {
+        pollRun++;
+        clearTimeout(pollHandle);
+        pollHandle = -1;
+        runningJobs.clear();
     }
 
     private void startJob(JobNode job) {
@@ -282,13 +355,6 @@ public class JobColumn extends FinderColumn<JobNode> {
     @Override
     public void detach() {
         super.detach();
-        clearIntervals();
-    }
-
-    private void clearIntervals() {
-        for (Double handle : intervalHandles.values()) {
-            clearInterval(handle);
-        }
-        intervalHandles.clear();
+        stopPolling();
     }
 }
@@ -30,6 +30,7 @@ import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemsProvider;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.metrics.MetricsSampler;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.dmr.Composite;
@@ -124,6 +125,7 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
             Finder finder,
             FinderPathFactory finderPathFactory,
             ItemActionFactory itemActionFactory,
+            MetricsSampler metricsSampler,
             Places places) {
 
         super(new Builder<DataSource>(finder, Ids.DATA_SOURCE_RUNTIME, Names.DATASOURCE)
@@ -343,7 +345,7 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
         });
 
         setPreviewCallback(item -> new DataSourcePreview(this, server, item, environment, dispatcher, statementContext,
-                serverActions, finderPathFactory, places, resources));
+                serverActions, metricsSampler, finderPathFactory, places, resources));
     }
 
     private void testConnection(DataSource dataSource) {
@@ -21,6 +21,8 @@ import java.util.List;
 import org.jboss.elemento.Elements;
 import org.jboss.hal.ballroom.Alert;
 import org.jboss.hal.ballroom.EmptyState;
+import org.jboss.hal.ballroom.PatternFly;
+import org.jboss.hal.ballroom.chart.Line;
 import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.datasource.DataSource;
@@ -28,6 +30,8 @@ import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.runtime.metrics.MetricsSampler;
+import org.jboss.hal.core.runtime.metrics.Sampler;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
 import org.jboss.hal.dmr.Composite;
@@ -63,6 +67,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESTART;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STATISTICS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STATISTICS_ENABLED;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_HOST;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_SERVER;
@@ -76,12 +81,19 @@ import static org.jboss.hal.resources.CSS.underline;
  */
 class DataSourcePreview extends PreviewContent<DataSource> {
 
+    private static final String ACTIVE_COUNT = "ActiveCount";
+    private static final String IN_USE_COUNT = "InUseCount";
+    private static final String POOL = "pool";
+    private static final String WAIT_COUNT = "WaitCount";
+
     private final Server server;
     private final DataSource dataSource;
     private final Environment environment;
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
     private final ResourceAddress dataSourceAddress;
+    private final MetricsSampler metricsSampler;
+    private final Sampler poolSampler;
 
     private final EmptyState fromDeployment;
     private final EmptyState noStatistics;
@@ -92,9 +104,12 @@ class DataSourcePreview extends PreviewContent<DataSource> {
     private final HTMLElement poolHeader;
     private final Utilization activeConnections;
     private final Utilization maxUsedConnections;
+    private final Line poolHistory;
     private final HTMLElement cacheHeader;
     private final Utilization hitCount;
     private final Utilization missCount;
+    private boolean attached;
+    private boolean sampling;
 
     DataSourcePreview(DataSourceColumn column,
             Server server,
@@ -103,6 +118,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
             Dispatcher dispatcher,
             StatementContext statementContext,
             ServerActions serverActions,
+            MetricsSampler metricsSampler,
             FinderPathFactory finderPathFactory,
             Places places,
             Resources resources) {
@@ -114,6 +130,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.dataSourceAddress = column.dataSourceAddress(dataSource);
+        this.metricsSampler = metricsSampler;
 
         if (dataSource.fromDeployment()) {
             FinderPath path = finderPathFactory.deployment(dataSource.getDeployment());
@@ -178,6 +195,19 @@ class DataSourcePreview extends PreviewContent<DataSource> {
         missCount = new Utilization(resources.constants().missCount(), resources.constants().count(),
                 environment.isStandalone(), false);
 
+        poolHistory = new Line.Builder()
+                .add(ACTIVE_COUNT, resources.constants().active(), PatternFly.colors.blue)
+                .add(IN_USE_COUNT, resources.constants().inUse(), PatternFly.colors.green)
+                .add(WAIT_COUNT, resources.constants().waiting(), PatternFly.colors.orange)
+                .build();
+        registerAttachable(poolHistory);
+        poolSampler = new Sampler.Builder(new ResourceAddress().add(dataSourceAddress).add(STATISTICS, POOL))
+                .gauge(ACTIVE_COUNT)
+                .gauge(IN_USE_COUNT)
+                .gauge(WAIT_COUNT)
+                .onSample(sampler -> poolHistory.update(sampler.values()))
+                .build();
+
         getHeaderContainer().appendChild(refresh = refreshLink(() -> update(null)));
         previewBuilder()
                 .add(fromDeployment)
@@ -188,6 +218,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                 .add(poolHeader = h(2).css(underline).textContent(Names.CONNECTION_POOL).element())
                 .add(activeConnections)
                 .add(maxUsedConnections)
+                .add(poolHistory)
                 .add(cacheHeader = h(2).css(underline)
                         .textContent(resources.constants().preparedStatementCache()).element())
                 .add(hitCount)
@@ -201,6 +232,29 @@ class DataSourcePreview extends PreviewContent<DataSource> {
         disabledWarning.element().classList.add(hidden);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        attached = true;
+        sample();
+    }
+
+    @Override
+    public void detach() {
+        attached = false;
+        sample();
+        super.detach();
+    }
+
+    /** Samples the pool statistics as long as the preview is attached and statistics are enabled. */
+    private void sample() {
+        if (attached && sampling) {
+            metricsSampler.start(poolSampler);
+        } else {
+            metricsSampler.stop(poolSampler);
+        }
+    }
+
     @Override
     @SuppressWarnings("HardCodedStringLiteral")
     public void update(DataSource ds) {
@@ -213,6 +267,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
             setVisible(poolHeader, false);
             setVisible(activeConnections.element(), false);
             setVisible(maxUsedConnections.element(), false);
+            setVisible(poolHistory.element(), false);
             setVisible(cacheHeader, false);
             setVisible(hitCount.element(), false);
             setVisible(missCount.element(), false);
@@ -252,7 +307,10 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                 setVisible(poolHeader, statisticsEnabled);
                 setVisible(activeConnections.element(), statisticsEnabled);
                 setVisible(maxUsedConnections.element(), statisticsEnabled);
+                setVisible(poolHistory.element(), statisticsEnabled);
                 setVisible(cacheHeader, statisticsEnabled);
+                sampling = statisticsEnabled && dataSource.isEnabled();
+                sample();
                 setVisible(hitCount.element(), statisticsEnabled);
                 setVisible(missCount.element(), statisticsEnabled);
 
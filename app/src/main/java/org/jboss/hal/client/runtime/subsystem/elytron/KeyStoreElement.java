@@ -18,6 +18,7 @@ package org.jboss.hal.client.runtime.subsystem.elytron;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.jboss.elemento.IsElement;
 import org.jboss.hal.ballroom.Attachable;
@@ -42,6 +43,7 @@ import org.jboss.hal.resources.Resources;
 
 import elemental2.dom.HTMLElement;
 
+import static java.util.stream.Collectors.toSet;
 import static org.jboss.elemento.Elements.h;
 import static org.jboss.elemento.Elements.p;
 import static org.jboss.elemento.Elements.section;
@@ -198,17 +200,20 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
             table1.enableButton(5, table1.hasSelection());
             table1.enableButton(6, table1.hasSelection());
             if (table1.hasSelection()) {
-                String alias = table1.selectedRow().asString();
-                String value = aliasDetailsMapping.get(alias);
-                if (value != null) {
-                    aliasDetails.setValue(value);
-                } else {
-                    aliasDetails.clearValue();
-                }
+                showAliasDetails(table1.selectedRow().asString());
             }
         });
     }
 
+    private void showAliasDetails(String alias) {
+        String value = aliasDetailsMapping.get(alias);
+        if (value != null) {
+            aliasDetails.setValue(value);
+        } else {
+            aliasDetails.clearValue();
+        }
+    }
+
     @Override
     public void detach() {
         table.detach();
@@ -241,8 +246,15 @@ public class KeyStoreElement implements IsElement<HTMLElement>, Attachable {
     }
 
     private void updateAliases(List<ModelNode> items) {
-        aliasesTable.update(items);
-        formAlias.clear();
+        Set<String> aliases = items.stream().map(ModelNode::asString).collect(toSet());
+        aliasDetailsMapping.keySet().retainAll(aliases);
+        aliasesTable.reconcile(items, ModelNode::asString);
+        // reconcile() keeps the selection if the selected alias still exists
+        if (aliasesTable.hasSelection()) {
+            showAliasDetails(aliasesTable.selectedRow().asString());
+        } else {
+            formAlias.clear();
+        }
     }
 
     private void updateAliasDetails(ModelNode details) {
@@ -38,6 +38,8 @@ import org.jboss.hal.resources.UIConstants;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.NameToken;
@@ -45,11 +47,9 @@ import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
-import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_TEMPLATE;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.PROFILE_LOG_FILE_TEMPLATE;
@@ -61,12 +61,14 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_LOG_FILE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SKIP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.TAIL;
 import static org.jboss.hal.meta.token.NameTokens.LOG_FILE;
 
 public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresenter.MyView, LogFilePresenter.MyProxy> {
 
     private static final int REFRESH_INTERVAL = 1000;
+    private static final Logger logger = LoggerFactory.getLogger(LogFilePresenter.class);
 
     private final FinderPathFactory finderPathFactory;
     private final Dispatcher dispatcher;
@@ -74,8 +76,14 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     private final Resources resources;
     private String logFileName;
     private String loggingProfile;
+    private final LogTail logTail;
+    private final LogPages logPages;
     private LogFile logFile;
-    private double intervalHandle;
+    private boolean loadingPage;
+    private int pageRun; // lines which were read for an older editor content are ignored
+    private boolean tailMode;
+    private int tailRun;
+    private double tailHandle;
 
     @Inject
     public LogFilePresenter(EventBus eventBus,
@@ -95,7 +103,13 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         this.logFileName = null;
         this.loggingProfile = null;
         this.logFile = null;
-        this.intervalHandle = -1;
+        this.logTail = new LogTail(LogFiles.LINES);
+        this.logPages = new LogPages(LogFiles.LINES, LogFiles.MAX_PAGES);
+        this.loadingPage = false;
+        this.pageRun = 0;
+        this.tailMode = false;
+        this.tailRun = 0;
+        this.tailHandle = -1;
     }
 
     @Override
@@ -104,6 +118,12 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         getView().setPresenter(this);
     }
 
+    @Override
+    protected void onHide() {
+        super.onHide();
+        stopTail();
+    }
+
     @Override
     public void prepareFromRequest(PlaceRequest request) {
         super.prepareFromRequest(request);
@@ -137,18 +157,22 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
                     .param("lines", LogFiles.LINES)
                     .param("tail", true)
                     .build();
+            int run = newPageRun();
             dispatcher.execute(new Composite(logFileOp, contentOp),
                     (CompositeResult result) -> {
                         clearTimeout(handle);
+                        if (run != pageRun) {
+                            return;
+                        }
                         if (loggingProfile == null) {
                             logFile = new LogFile(logFileName, result.step(0).get(RESULT));
                         } else {
                             logFile = new LogFile(logFileName, loggingProfile, result.step(0).get(RESULT));
                         }
-                        List<ModelNode> linesRead = result.step(1).get(RESULT).asList();
-                        String content = linesRead.stream().map(ModelNode::asString)
-                                .collect(joining("\n"));
-                        getView().show(logFile, linesRead.size(), content);
+                        List<String> linesRead = lines(result.step(1).get(RESULT));
+                        logTail.reset(linesRead);
+                        logPages.reset(0, linesRead);
+                        getView().show(logFile, linesRead.size(), String.join("\n", linesRead));
                     },
                     (operation, failure) -> {
                         clearTimeout(handle);
@@ -162,43 +186,54 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
     void reloadFile() {
         if (logFile != null) {
-            int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
-            double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+            if (tailMode) {
+                // ignore the pending tail reads and go on with the reloaded lines
+                clearTimeout(tailHandle);
+                restartTail(++tailRun);
             } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+                reloadFile(() -> {}, () -> {});
             }
-            // noinspection HardCodedStringLiteral
-            Operation operation = new Operation.Builder(address, READ_LOG_FILE)
-                    .param(LINES, linesToRead)
-                    .param(TAIL, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                clearTimeout(handle);
-                List<ModelNode> linesRead = result.asList();
-                String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
-                getView().refresh(linesRead.size(), content);
-            }, (op, failure) -> {
-                clearTimeout(handle);
-                MessageEvent.fire(getEventBus(),
-                        Message.error(resources.messages().logFileError(logFileName), failure));
-            });
         } else {
             MessageEvent.fire(getEventBus(), Message.error(resources.messages().noLogFile()));
         }
     }
 
+    private void reloadFile(Runnable loaded, Runnable failed) {
+        double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
+        int run = newPageRun();
+        dispatcher.execute(readLogFile(0, LogFiles.LINES), result -> {
+            clearTimeout(handle);
+            if (run != pageRun) {
+                return;
+            }
+            List<String> linesRead = lines(result);
+            logTail.reset(linesRead);
+            logPages.reset(0, linesRead);
+            getView().refresh(linesRead.size(), String.join("\n", linesRead));
+            loaded.run();
+        }, (op, failure) -> {
+            clearTimeout(handle);
+            MessageEvent.fire(getEventBus(),
+                    Message.error(resources.messages().logFileError(logFileName), failure));
+            failed.run();
+        });
+    }
+
     void toggleTailMode(boolean on) {
         if (logFile != null) {
             if (on) {
-                if (!inTailMode()) {
-                    intervalHandle = setInterval((o) -> reloadFile(), REFRESH_INTERVAL);
+                if (!tailMode) {
+                    tailMode = true;
+                    if (logPages.atEnd()) {
+                        newPageRun(); // the lines are appended to the current content
+                        scheduleTail();
+                    } else {
+                        // the lines are appended to the end of the log file
+                        restartTail(tailRun);
+                    }
                 }
             } else {
-                clearInterval(intervalHandle);
-                intervalHandle = -1;
+                stopTail();
                 reloadFile();
             }
         } else {
@@ -206,8 +241,225 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         }
     }
 
-    private boolean inTailMode() {
-        return intervalHandle != -1;
+    private void scheduleTail() {
+        if (tailMode) {
+            int run = tailRun;
+            tailHandle = setTimeout((o) -> tail(run), REFRESH_INTERVAL);
+        }
+    }
+
+    /** Reloads the end of the log file and starts tailing once the new lines are shown. */
+    private void restartTail(int run) {
+        reloadFile(() -> {
+            if (tailMode && run == tailRun) {
+                scheduleTail();
+            }
+        }, () -> {
+            if (tailMode && run == tailRun) {
+                tailHandle = setTimeout((o) -> restartTail(run), REFRESH_INTERVAL);
+            }
+        });
+    }
+
+    private void stopTail() {
+        tailMode = false;
+        tailRun++; // ignore responses which are still in flight
+        clearTimeout(tailHandle);
+        tailHandle = -1;
+    }
+
+    /** Reads only the lines added since the last read and appends them to the editor. */
+    private void tail(int run) {
+        int window = logTail.window();
+        dispatcher.execute(readLogFile(0, window), result -> {
+            if (tailMode && run == tailRun) {
+                List<String> linesRead = lines(result);
+                List<String> newLines = logTail.newLines(linesRead);
+                if (newLines == null) {
+                    if (window < logTail.window()) {
+                        logger.debug("More than {} lines added to {}. Read {} lines", window, logFileName,
+                                logTail.window());
+                        tail(run);
+                    } else {
+                        // rotated or more lines added than we can read: start over
+                        MessageEvent.fire(getEventBus(),
+                                Message.warning(resources.messages().logFileReloaded(window, logFileName)));
+                        restartTail(run);
+                    }
+                } else {
+                    if (!newLines.isEmpty()) {
+                        getView().append(newLines.toArray(new String[0]), LogFiles.TAIL_LINES);
+                    }
+                    scheduleTail();
+                }
+            }
+        }, (op, failure) -> {
+            if (tailMode && run == tailRun) {
+                MessageEvent.fire(getEventBus(),
+                        Message.error(resources.messages().logFileError(logFileName), failure));
+                scheduleTail();
+            }
+        });
+    }
+
+    // ------------------------------------------------------ paging
+
+    /** Adds the page before the first line of the editor. Called when the user scrolls to the top. */
+    void loadOlder() {
+        if (logFile != null && !tailMode && !loadingPage && !logPages.atStart()) {
+            loadingPage = true;
+            int run = pageRun;
+            int page = logPages.older();
+            dispatcher.execute(readLogFile(logPages.skip(page), LogFiles.LINES), result -> {
+                if (run == pageRun) {
+                    loadingPage = false;
+                    List<String> linesRead = lines(result);
+                    logPages.addOlder(linesRead);
+                    if (!linesRead.isEmpty()) {
+                        getView().addOlder(linesRead.toArray(new String[0]), logPages.size());
+                        rangeStatus();
+                    }
+                }
+            }, (op, failure) -> {
+                if (run == pageRun) {
+                    loadingPage = false;
+                    MessageEvent.fire(getEventBus(),
+                            Message.error(resources.messages().logFileError(logFileName), failure));
+                }
+            });
+        }
+    }
+
+    /** Adds the page after the last line of the editor. Called when the user scrolls to the bottom. */
+    void loadNewer() {
+        if (logFile != null && !tailMode && !loadingPage && !logPages.atEnd()) {
+            loadingPage = true;
+            int run = pageRun;
+            int page = logPages.newer();
+            dispatcher.execute(readLogFile(logPages.skip(page), LogFiles.LINES), result -> {
+                if (run == pageRun) {
+                    loadingPage = false;
+                    List<String> linesRead = lines(result);
+                    logPages.addNewer(linesRead);
+                    getView().addNewer(linesRead.toArray(new String[0]), logPages.size());
+                    rangeStatus();
+                }
+            }, (op, failure) -> {
+                if (run == pageRun) {
+                    loadingPage = false;
+                    MessageEvent.fire(getEventBus(),
+                            Message.error(resources.messages().logFileError(logFileName), failure));
+                }
+            });
+        }
+    }
+
+    /** Starts a new editor content. Pages and search results which are still read for the old content are ignored. */
+    private int newPageRun() {
+        loadingPage = false;
+        return ++pageRun;
+    }
+
+    private void rangeStatus() {
+        getView().rangeStatus(logPages.firstLineFromEnd(), logPages.lastLineFromEnd());
+    }
+
+    // ------------------------------------------------------ search
+
+    /**
+     * Searches the lines before the first line of the editor. Called if there's no match in the editor. The lines are read
+     * in chunks of {@link LogFiles#SEARCH_LINES} lines from the end of the log file, but not rendered. If there's a match,
+     * the page containing the match is shown.
+     */
+    void search(String query) {
+        if (logFile != null && !tailMode && !logPages.atStart()) {
+            double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
+            searchChunk(query, logPages.firstLineFromEnd(), handle, pageRun);
+        }
+    }
+
+    private void searchChunk(String query, int skip, double handle, int run) {
+        dispatcher.execute(readLogFile(skip, LogFiles.SEARCH_LINES), result -> {
+            if (run != pageRun) {
+                clearTimeout(handle);
+                return;
+            }
+            List<String> linesRead = lines(result);
+            // search backwards: the nearest match is the one closest to the end of the chunk
+            int index = -1;
+            for (int i = linesRead.size() - 1; i >= 0; i--) {
+                if (linesRead.get(i).contains(query)) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index != -1) {
+                int lineFromEnd = skip + linesRead.size() - index;
+                showMatch(query, lineFromEnd, handle);
+            } else {
+                int searched = skip + linesRead.size();
+                if (linesRead.size() == LogFiles.SEARCH_LINES && searched < LogFiles.MAX_SEARCH_LINES) {
+                    searchChunk(query, searched, handle, run);
+                } else {
+                    clearTimeout(handle);
+                    getView().stopLoading();
+                    rangeStatus();
+                    MessageEvent.fire(getEventBus(),
+                            Message.info(resources.messages().logFileSearchNoMatch(query, searched)));
+                }
+            }
+        }, (op, failure) -> {
+            clearTimeout(handle);
+            if (run == pageRun) {
+                getView().stopLoading();
+                MessageEvent.fire(getEventBus(),
+                        Message.error(resources.messages().logFileError(logFileName), failure));
+            }
+        });
+    }
+
+    private void showMatch(String query, int lineFromEnd, double handle) {
+        int page = logPages.page(lineFromEnd);
+        int run = newPageRun();
+        dispatcher.execute(readLogFile(logPages.skip(page), LogFiles.LINES), result -> {
+            clearTimeout(handle);
+            if (run != pageRun) {
+                return;
+            }
+            List<String> linesRead = lines(result);
+            logPages.reset(page, linesRead);
+            // row of the match within the page (0-based)
+            int row = linesRead.size() - (lineFromEnd - logPages.skip(page));
+            getView().showMatch(String.join("\n", linesRead), row, query);
+            rangeStatus();
+        }, (op, failure) -> {
+            clearTimeout(handle);
+            if (run == pageRun) {
+                getView().stopLoading();
+                MessageEvent.fire(getEventBus(),
+                        Message.error(resources.messages().logFileError(logFileName), failure));
+            }
+        });
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private Operation readLogFile(int skip, int lines) {
+        ResourceAddress address;
+        if (loggingProfile == null) {
+            address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+        } else {
+            address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+        }
+        return new Operation.Builder(address, READ_LOG_FILE)
+                .param(LINES, lines)
+                .param(SKIP, skip)
+                .param(TAIL, true)
+                .build();
+    }
+
+    private List<String> lines(ModelNode result) {
+        return result.asList().stream().map(ModelNode::asString).collect(toList());
     }
 
     // @formatter:off
@@ -224,7 +476,20 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
         void refresh(int lines, String content);
 
-        int visibleLines();
+        /** Appends the lines and removes the oldest lines if there are more than {@code maxLines} lines. */
+        void append(String[] lines, int maxLines);
+
+        /** Inserts the lines at the top and removes the last lines if there are more than {@code maxLines} lines. */
+        void addOlder(String[] lines, int maxLines);
+
+        /** Appends the lines and removes the first lines if there are more than {@code maxLines} lines. */
+        void addNewer(String[] lines, int maxLines);
+
+        void rangeStatus(int from, int to);
+
+        void showMatch(String content, int row, String query);
+
+        void stopLoading();
     }
     // @formatter:on
 }
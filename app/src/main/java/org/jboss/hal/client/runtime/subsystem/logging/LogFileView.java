@@ -25,6 +25,8 @@ import org.jboss.hal.ballroom.Search;
 import org.jboss.hal.ballroom.Skeleton;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.ballroom.editor.AceEditor;
+import org.jboss.hal.ballroom.editor.Document;
+import org.jboss.hal.ballroom.editor.Editor;
 import org.jboss.hal.ballroom.editor.Options;
 import org.jboss.hal.ballroom.form.SwitchBridge;
 import org.jboss.hal.config.Environment;
@@ -40,7 +42,6 @@ import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLInputElement;
 
-import static elemental2.dom.DomGlobal.document;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static elemental2.dom.DomGlobal.window;
 import static java.lang.Math.max;
@@ -79,7 +80,6 @@ import static org.jboss.hal.resources.CSS.spinner;
 import static org.jboss.hal.resources.CSS.spinnerLg;
 import static org.jboss.hal.resources.UIConstants.BODY;
 import static org.jboss.hal.resources.UIConstants.CONTAINER;
-import static org.jboss.hal.resources.UIConstants.HASH;
 import static org.jboss.hal.resources.UIConstants.PLACEMENT;
 import static org.jboss.hal.resources.UIConstants.TOGGLE;
 import static org.jboss.hal.resources.UIConstants.TOOLTIP;
@@ -117,7 +117,12 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         this.logFiles = logFiles;
         this.resources = resources;
 
-        search = new Search.Builder(Ids.LOG_FILE_SEARCH, query -> editor.getEditor().find(query))
+        search = new Search.Builder(Ids.LOG_FILE_SEARCH, query -> {
+            if (editor.getEditor().find(query) == null) {
+                // no match in the editor: search the lines before
+                presenter.search(query);
+            }
+        })
                 .onPrevious(query -> editor.getEditor().findPrevious())
                 .onNext(query -> editor.getEditor().findNext())
                 .build();
@@ -183,6 +188,14 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
         editor.getEditor().$blockScrolling = 1;
         editor.getEditor().setTheme("ace/theme/logfile"); // NON-NLS
         editor.getEditor().getSession().setMode("ace/mode/logfile"); // NON-NLS
+        editor.getEditor().getSession().on("changeScrollTop", scrollTop -> { // NON-NLS
+            Editor aceEditor = editor.getEditor();
+            if (aceEditor.getFirstVisibleRow() == 0) {
+                presenter.loadOlder();
+            } else if (aceEditor.getLastVisibleRow() >= aceEditor.getSession().getLength() - 1) {
+                presenter.loadNewer();
+            }
+        });
 
         adjustEditorHeight();
         window.onresize = event -> {
@@ -276,14 +289,63 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
     }
 
     @Override
-    public int visibleLines() {
-        int lineHeight = 15;
-        HTMLElement lineElement = (HTMLElement) document.querySelector(
-                HASH + Ids.LOG_FILE_EDITOR + " .ace_text-layer .ace_line"); // NON-NLS
-        if (lineElement != null) {
-            lineHeight = lineElement.offsetHeight;
+    public void append(String[] lines, int maxLines) {
+        Document document = editor.getEditor().getSession().getDocument();
+        document.insertFullLines(document.getLength(), lines);
+        int length = document.getLength();
+        if (length > maxLines) {
+            document.removeFullLines(0, length - maxLines - 1);
+            length = maxLines;
+        }
+        statusUpdate(length);
+        editor.getEditor().gotoLine(length, 0, false);
+    }
+
+    @Override
+    public void addOlder(String[] lines, int maxLines) {
+        Document document = editor.getEditor().getSession().getDocument();
+        int firstVisibleRow = editor.getEditor().getFirstVisibleRow();
+        document.insertFullLines(0, lines);
+        int length = document.getLength();
+        if (length > maxLines) {
+            document.removeFullLines(maxLines, length - 1);
         }
-        return editor.element().offsetHeight / lineHeight;
+        // keep the lines the user is looking at in place
+        editor.getEditor().scrollToLine(firstVisibleRow + lines.length, false, false);
+    }
+
+    @Override
+    public void addNewer(String[] lines, int maxLines) {
+        Document document = editor.getEditor().getSession().getDocument();
+        int firstVisibleRow = editor.getEditor().getFirstVisibleRow();
+        document.insertFullLines(document.getLength(), lines);
+        int length = document.getLength();
+        int removed = 0;
+        if (length > maxLines) {
+            removed = length - maxLines;
+            document.removeFullLines(0, removed - 1);
+        }
+        editor.getEditor().scrollToLine(max(0, firstVisibleRow - removed), false, false);
+    }
+
+    @Override
+    public void rangeStatus(int from, int to) {
+        String statusText = resources.messages().logFileRangeStatus(from, to, Format.time(new Date()));
+        status.textContent = statusText;
+        status.title = statusText;
+    }
+
+    @Override
+    public void showMatch(String content, int row, String query) {
+        editorContainer.classList.remove(logFileLoading);
+        editor.getEditor().getSession().setValue(content);
+        editor.getEditor().gotoLine(row + 1, 0, false);
+        editor.getEditor().find(query);
+    }
+
+    @Override
+    public void stopLoading() {
+        editorContainer.classList.remove(logFileLoading);
     }
 
     private void statusUpdate(int lines) {
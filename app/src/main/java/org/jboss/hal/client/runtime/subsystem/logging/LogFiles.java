@@ -51,6 +51,28 @@ public class LogFiles {
      */
     static final int LINES = 2000;
 
+    /**
+     * The maximum number of lines in the log file viewer in tail mode. If new lines exceed this limit, the oldest lines are
+     * removed.
+     */
+    static final int TAIL_LINES = 10000;
+
+    /**
+     * The maximum number of pages of {@link #LINES} lines in the log file viewer. If the user scrolls beyond this window,
+     * the pages are read on demand.
+     */
+    static final int MAX_PAGES = 5;
+
+    /**
+     * The number of lines read at once when searching the log file.
+     */
+    static final int SEARCH_LINES = 10000;
+
+    /**
+     * Searching the log file stops after this number of lines counted from the end of the log file.
+     */
+    static final int MAX_SEARCH_LINES = 500000;
+
     private final Dispatcher dispatcher;
     private final Environment environment;
     private final StatementContext statementContext;
@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Bounded window of consecutive pages of a log file. Pages are counted from the end of the log file: Page 0 contains the
+ * last {@code pageSize} lines, page 1 the lines before and so on. Page {@code n} is read using {@code read-log-file} with
+ * {@code tail=true}, {@code skip=n * pageSize} and {@code lines=pageSize}.
+ * <p>
+ * The window contains at most {@code maxPages} pages. Adding an older page removes the newest page and vice versa, once
+ * the window is full.
+ */
+class LogPages {
+
+    private final int pageSize;
+    private final int maxPages;
+    private final LinkedList<List<String>> pages; // oldest page first
+    private int newest;
+    private boolean startOfFile;
+
+    LogPages(int pageSize, int maxPages) {
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+        this.pages = new LinkedList<>();
+        this.newest = 0;
+        this.startOfFile = false;
+    }
+
+    /** Starts over with one page. */
+    void reset(int page, List<String> lines) {
+        pages.clear();
+        pages.add(lines);
+        newest = page;
+        startOfFile = lines.size() < pageSize;
+    }
+
+    /**
+     * Adds the page before the oldest page.
+     *
+     * @return the number of lines removed from the end of the window
+     */
+    int addOlder(List<String> lines) {
+        int removed = 0;
+        startOfFile = lines.size() < pageSize;
+        if (lines.isEmpty()) {
+            // the oldest page happened to end at the start of the log file
+            return removed;
+        }
+        pages.addFirst(lines);
+        if (pages.size() > maxPages) {
+            removed = pages.removeLast().size();
+            newest++;
+        }
+        return removed;
+    }
+
+    /**
+     * Adds the page after the newest page.
+     *
+     * @return the number of lines removed from the start of the window
+     */
+    int addNewer(List<String> lines) {
+        int removed = 0;
+        pages.addLast(lines);
+        newest--;
+        if (pages.size() > maxPages) {
+            removed = pages.removeFirst().size();
+            startOfFile = false;
+        }
+        return removed;
+    }
+
+    /** @return the page which has to be read to add an older page */
+    int older() {
+        return newest + pages.size();
+    }
+
+    /** @return the page which has to be read to add a newer page */
+    int newer() {
+        return newest - 1;
+    }
+
+    int skip(int page) {
+        return page * pageSize;
+    }
+
+    int page(int lineFromEnd) {
+        return (lineFromEnd - 1) / pageSize;
+    }
+
+    /** @return whether the window contains the end of the log file */
+    boolean atEnd() {
+        return newest == 0;
+    }
+
+    /** @return whether the window contains the start of the log file */
+    boolean atStart() {
+        return startOfFile;
+    }
+
+    /** @return the number of the first line in the window counted from the end of the log file (1-based) */
+    int firstLineFromEnd() {
+        return skip(newest) + size();
+    }
+
+    /** @return the number of the last line in the window counted from the end of the log file (1-based) */
+    int lastLineFromEnd() {
+        return skip(newest) + 1;
+    }
+
+    int size() {
+        int size = 0;
+        for (List<String> page : pages) {
+            size += page.size();
+        }
+        return size;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Finds the lines which have been added to a log file since it was read the last time. Remembers the last lines seen so
+ * far (the tail) and looks for the longest overlap between the end of the tail and the start of the lines read from the
+ * end of the log file. Only the lines after the overlap are new.
+ * <p>
+ * The number of lines to read from the end of the log file (the window) adapts to the number of new lines: It shrinks if
+ * only a few lines have been added and grows if there's no overlap because more lines than the window have been added.
+ * In that case {@link #newLines(List)} returns {@code null} and the caller has to read the lines again using the bigger
+ * window. If there's no overlap even for the maximal window, the log file has to be {@linkplain #reset(List) read
+ * again}.
+ */
+class LogTail {
+
+    /** The minimal number of lines which must overlap to accept a match. Reduces false matches of repeated lines. */
+    static final int MIN_OVERLAP = 10;
+    static final int MIN_WINDOW = 50;
+
+    private final int maxWindow;
+    private final List<String> tail;
+    private int window;
+
+    LogTail(int maxWindow) {
+        this.maxWindow = max(maxWindow, MIN_WINDOW);
+        this.tail = new ArrayList<>();
+        this.window = MIN_WINDOW;
+    }
+
+    /** Starts over with the specified lines, which are the last lines of the log file. */
+    void reset(List<String> lines) {
+        tail.clear();
+        updateTail(lines);
+        window = MIN_WINDOW;
+    }
+
+    /** @return the number of lines to read from the end of the log file */
+    int window() {
+        return window;
+    }
+
+    /** @return whether the window can't grow any further */
+    boolean maxWindow() {
+        return window == maxWindow;
+    }
+
+    /**
+     * Returns the new lines and updates the tail and window.
+     *
+     * @param lines the last {@link #window()} lines of the log file
+     * @return the lines which have been added since the last call or {@link #reset(List)} or {@code null} if the lines
+     * don't overlap with the lines seen so far. In that case the window has been doubled. If the window is already at
+     * its {@linkplain #maxWindow() maximum}, the log file has been rotated or more lines than the maximal window have
+     * been added.
+     */
+    List<String> newLines(List<String> lines) {
+        int overlap = overlap(lines);
+        if (overlap == -1) {
+            window = min(window * 2, maxWindow);
+            return null;
+        }
+        List<String> newLines = new ArrayList<>(lines.subList(overlap, lines.size()));
+        window = min(max(2 * newLines.size() + MIN_OVERLAP, MIN_WINDOW), maxWindow);
+        updateTail(newLines);
+        return newLines;
+    }
+
+    /**
+     * @return the length of the longest prefix of {@code lines} which is also a suffix of the tail or -1 if there's no
+     * such prefix with at least {@link #MIN_OVERLAP} lines (or all lines of the tail if the tail is shorter)
+     */
+    private int overlap(List<String> lines) {
+        int required = min(tail.size(), MIN_OVERLAP);
+        for (int length = min(tail.size(), lines.size()); length >= required; length--) {
+            if (lines.subList(0, length).equals(tail.subList(tail.size() - length, tail.size()))) {
+                return length;
+            }
+        }
+        return -1;
+    }
+
+    private void updateTail(List<String> lines) {
+        tail.addAll(lines.subList(max(0, lines.size() - maxWindow), lines.size()));
+        if (tail.size() > maxWindow) {
+            tail.subList(0, tail.size() - maxWindow).clear();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.messaging;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.hal.ballroom.dataprovider.FilterValue;
+import org.jboss.hal.ballroom.dataprovider.PageRequest;
+import org.jboss.hal.ballroom.dataprovider.PagingSource;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.dmr.dispatch.Dispatcher.ErrorCallback;
+
+import static java.lang.Math.min;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FILTER;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.JMS_DELIVERY_MODE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.JMS_MESSAGE_ID;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.JMS_PRIORITY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_MESSAGES;
+
+/**
+ * Paging source for the messages of a JMS queue. The toolbar filters are turned into a JMS selector which is passed
+ * to {@code list-messages}, so only the matching messages are sent to the browser. {@code list-messages} cannot
+ * return a range of messages: The messages of the current filters are kept and the pages are served from them.
+ */
+class JmsMessageSource implements PagingSource<JmsMessage> {
+
+    private final Dispatcher dispatcher;
+    private final ResourceAddress address;
+    private final ErrorCallback errorCallback;
+    private String filters; // the filters of the current messages
+    private List<JmsMessage> messages;
+    private List<JmsMessage> sorted;
+    private Comparator<JmsMessage> comparator;
+
+    JmsMessageSource(Dispatcher dispatcher, ResourceAddress address, ErrorCallback errorCallback) {
+        this.dispatcher = dispatcher;
+        this.address = address;
+        this.errorCallback = errorCallback;
+    }
+
+    @Override
+    public void load(PageRequest<JmsMessage> request, PageCallback<JmsMessage> callback) {
+        String filters = new TreeMap<>(request.getFilters()).entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue().getValue())
+                .collect(joining(","));
+        if (messages != null && filters.equals(this.filters)) {
+            callback.onPage(page(request), messages.size());
+
+        } else {
+            Operation.Builder builder = new Operation.Builder(address, LIST_MESSAGES);
+            String selector = selector(request.getFilters());
+            if (!selector.isEmpty()) {
+                builder.param(FILTER, selector);
+            }
+            dispatcher.execute(builder.build(), result -> {
+                // apply the toolbar filters which are not part of the selector
+                this.filters = filters;
+                this.messages = result.asList().stream()
+                        .map(JmsMessage::new)
+                        .filter(message -> matches(message, request.getFilters()))
+                        .collect(toList());
+                this.sorted = messages;
+                this.comparator = null;
+                callback.onPage(page(request), messages.size());
+            }, (operation, error) -> {
+                // forget the messages, so that the next request reads them again
+                this.filters = null;
+                this.messages = null;
+                this.sorted = null;
+                this.comparator = null;
+                errorCallback.onError(operation, error);
+                callback.onError(error);
+            });
+        }
+    }
+
+    private List<JmsMessage> page(PageRequest<JmsMessage> request) {
+        if (request.getComparator() != comparator) {
+            comparator = request.getComparator();
+            if (comparator == null) {
+                sorted = messages;
+            } else {
+                sorted = new ArrayList<>(messages);
+                sorted.sort(comparator);
+            }
+        }
+        int from = min(request.getFirst(), sorted.size());
+        int to = min(from + request.getPageSize(), sorted.size());
+        return sorted.subList(from, to);
+    }
+
+    private boolean matches(JmsMessage message, Map<String, FilterValue<JmsMessage>> filters) {
+        for (FilterValue<JmsMessage> filterValue : filters.values()) {
+            if (!filterValue.getFilter().test(message, filterValue.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String selector(Map<String, FilterValue<JmsMessage>> filters) {
+        List<String> conditions = new ArrayList<>();
+        new TreeMap<>(filters).forEach((name, filterValue) -> {
+            String value = filterValue.getValue();
+            if (JMS_MESSAGE_ID.equals(name) || JMS_DELIVERY_MODE.equals(name)) {
+                conditions.add(name + " LIKE '%" + escapeLike(value) + "%' ESCAPE '!'");
+            } else if (JMS_PRIORITY.equals(name)) {
+                // a priority which is not a number does not match any message
+                conditions.add(name + " = " + (value.matches("\\d+") ? value : "'" + escape(value) + "'"));
+            }
+        });
+        return String.join(" AND ", conditions);
+    }
+
+    private String escape(String value) {
+        return value.replace("'", "''");
+    }
+
+    private String escapeLike(String value) {
+        return escape(value).replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -215,10 +215,10 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     }
 
     private void readAll() {
-        ResourceAddress address = queueAddress();
-        Operation operation = new Operation.Builder(address, LIST_MESSAGES).build();
-        dispatcher.execute(operation,
-                result -> getView().showAll(result.asList().stream().map(JmsMessage::new).collect(toList())));
+        // page through the messages and pass the filters to the server
+        getView().showPaged(new JmsMessageSource(dispatcher, queueAddress(),
+                (operation, error) -> MessageEvent.fire(getEventBus(),
+                        Message.error(resources.messages().readMessagesError(queue, error)))));
     }
 
     private boolean showAll() {
@@ -453,6 +453,8 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
         void showMany(long count);
 
         void showAll(List<JmsMessage> messages);
+
+        void showPaged(JmsMessageSource source);
     }
     // @formatter:on
 }
@@ -125,6 +125,11 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
         dataProvider.update(messages);
     }
 
+    @Override
+    public void showPaged(JmsMessageSource source) {
+        dataProvider.load(source);
+    }
+
     private void refresh() {
         if (presenter != null) {
             presenter.reload();
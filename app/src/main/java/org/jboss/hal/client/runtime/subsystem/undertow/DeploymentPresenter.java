@@ -16,12 +16,14 @@
 package org.jboss.hal.client.runtime.subsystem.undertow;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
-import javax.inject.Provider;
 
 import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.core.finder.Finder;
@@ -32,24 +34,23 @@ import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
 import org.jboss.hal.core.mvp.SupportsExpertMode;
 import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
-import org.jboss.hal.flow.FlowContext;
-import org.jboss.hal.flow.Progress;
-import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
-import org.jboss.hal.spi.Footer;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 import org.jboss.hal.spi.Requires;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.web.bindery.event.shared.EventBus;
 import com.gwtplatform.mvp.client.annotations.NameToken;
@@ -59,18 +60,17 @@ import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import elemental2.promise.Promise;
 
+import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.client.runtime.subsystem.undertow.AddressTemplates.WEB_DEPLOYMENT_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.undertow.AddressTemplates.WEB_DEPLOYMENT_TEMPLATE;
 import static org.jboss.hal.client.runtime.subsystem.undertow.AddressTemplates.WEB_SUBDEPLOYMENT_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.undertow.AddressTemplates.WEB_SUBDEPLOYMENT_TEMPLATE;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.CREATION_TIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.GET_SESSION_CREATION_TIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.GET_SESSION_LAST_ACCESSED_TIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INVALIDATE_SESSION;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.LAST_ACCESSED_TIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_SESSIONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.LIST_SESSION_ATTRIBUTES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
@@ -83,22 +83,19 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.UNDERTOW;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.WEBSOCKET;
 import static org.jboss.hal.dmr.ModelNodeHelper.asNamedNodes;
 import static org.jboss.hal.dmr.ModelNodeHelper.failSafePropertyList;
-import static org.jboss.hal.flow.Flow.sequential;
 
 public class DeploymentPresenter
         extends ApplicationFinderPresenter<DeploymentPresenter.MyView, DeploymentPresenter.MyProxy>
         implements SupportsExpertMode {
 
-    private static final String SERVLETS = "servlets";
-    private static final String WEBSOCKETS = "websockets";
-    private static final String SESSION_IDS = "session-ids";
-    private static final String SESSIONS = "sessions";
+    private static final Logger logger = LoggerFactory.getLogger(DeploymentPresenter.class);
 
     private final Dispatcher dispatcher;
     private final FinderPathFactory finderPathFactory;
     private final StatementContext statementContext;
     private final Resources resources;
-    private final Provider<Progress> progress;
+    private final Map<String, Session> sessions;
+    private final Set<String> resolving;
     private String deploymentName;
     private String subdeploymentName;
 
@@ -111,14 +108,14 @@ public class DeploymentPresenter
             Dispatcher dispatcher,
             FinderPathFactory finderPathFactory,
             StatementContext statementContext,
-            Resources resources,
-            @Footer Provider<Progress> progress) {
+            Resources resources) {
         super(eventBus, view, myProxy, finder);
         this.dispatcher = dispatcher;
         this.finderPathFactory = finderPathFactory;
         this.statementContext = statementContext;
         this.resources = resources;
-        this.progress = progress;
+        this.sessions = new HashMap<>();
+        this.resolving = new HashSet<>();
     }
 
     @Override
@@ -132,6 +129,7 @@ public class DeploymentPresenter
         super.prepareFromRequest(request);
         deploymentName = request.getParameter(DEPLOYMENT, null);
         subdeploymentName = request.getParameter(SUBDEPLOYMENT, null);
+        sessions.clear();
     }
 
     @Override
@@ -151,80 +149,114 @@ public class DeploymentPresenter
     @Override
     protected void reload() {
         ResourceAddress address = deploymentAddress();
-
-        // task 1: read sessions ids, servlets and websockets
         Operation readResourceOp = new Operation.Builder(address, READ_RESOURCE_OPERATION)
                 .param(INCLUDE_RUNTIME, true)
                 .param(RECURSIVE, true)
                 .build();
         Operation listSessionsOp = new Operation.Builder(address, LIST_SESSIONS).build();
-        Task<FlowContext> task1 = context -> dispatcher.execute(new Composite(readResourceOp, listSessionsOp))
-                .then(result -> {
-                    ModelNode readResourceResult = result.step(0).get(RESULT);
-                    List<NamedNode> servlets = asNamedNodes(failSafePropertyList(readResourceResult, SERVLET));
-                    List<NamedNode> websockets = asNamedNodes(failSafePropertyList(readResourceResult, WEBSOCKET));
+        dispatcher.execute(new Composite(readResourceOp, listSessionsOp), (CompositeResult result) -> {
+            ModelNode readResourceResult = result.step(0).get(RESULT);
+            List<NamedNode> servlets = asNamedNodes(failSafePropertyList(readResourceResult, SERVLET));
+            List<NamedNode> websockets = asNamedNodes(failSafePropertyList(readResourceResult, WEBSOCKET));
 
-                    // sorted session ids (important for step 2!)
-                    ModelNode listSessionsResult = result.step(1).get(RESULT);
-                    List<String> sessionIds = listSessionsResult.isDefined()
-                            ? listSessionsResult.asList().stream().map(ModelNode::asString).sorted().collect(toList())
-                            : Collections.emptyList();
+            // The creation and last accessed time are resolved page by page (see resolveSessions()).
+            // Known sessions are reused, so that the session table keeps their rows and times.
+            ModelNode listSessionsResult = result.step(1).get(RESULT);
+            List<Session> sessions = listSessionsResult.isDefined()
+                    ? listSessionsResult.asList().stream().map(ModelNode::asString).sorted().map(this::session)
+                            .collect(toList())
+                    : Collections.emptyList();
+            this.sessions.clear();
+            sessions.forEach(session -> this.sessions.put(session.getSessionId(), session));
+            resolving.clear();
 
-                    context.set(SERVLETS, servlets);
-                    context.set(WEBSOCKETS, websockets);
-                    context.set(SESSION_IDS, sessionIds);
-                    return Promise.resolve(context);
-                });
+            getView().updateSessionStatistics(readResourceResult);
+            getView().updateSessions(sessions);
+            getView().updateServlets(servlets);
+            getView().updateWebsockets(websockets);
+        });
+    }
 
-        // task 2: read session creation and last access times
-        Task<FlowContext> task2 = context -> {
-            List<String> sessionIds = context.get(SESSION_IDS);
-            if (sessionIds.isEmpty()) {
-                context.set(SESSIONS, Collections.emptyList());
-                return Promise.resolve(context);
-            } else {
-                List<Operation> operations = new ArrayList<>();
-                for (String id : sessionIds) {
-                    operations.add(new Operation.Builder(address, GET_SESSION_CREATION_TIME)
-                            .param(SESSION_ID, id)
-                            .build());
-                    operations.add(new Operation.Builder(address, GET_SESSION_LAST_ACCESSED_TIME)
-                            .param(SESSION_ID, id)
-                            .build());
+    private Session session(String sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            session.markStale();
+        } else {
+            session = new Session(sessionId);
+        }
+        return session;
+    }
+
+    /**
+     * Reads the creation and last accessed time of the specified sessions. Called with the sessions of the current page
+     * whenever the session table has been drawn. Sessions which are already resolved (or being resolved) are skipped.
+     */
+    void resolveSessions(List<Session> sessions) {
+        List<Session> unresolved = sessions.stream()
+                .filter(session -> !session.isResolved() && !resolving.contains(session.getSessionId()))
+                .collect(toList());
+        if (!unresolved.isEmpty()) {
+            ResourceAddress address = deploymentAddress();
+            List<Operation> operations = new ArrayList<>();
+            for (Session session : unresolved) {
+                resolving.add(session.getSessionId());
+                operations.addAll(sessionTimes(address, session));
+            }
+            dispatcher.execute(new Composite(operations), (CompositeResult result) -> {
+                int i = 0;
+                for (Session session : unresolved) {
+                    resolving.remove(session.getSessionId());
+                    session.resolve(result.step(i).get(RESULT), result.step(i + 1).get(RESULT));
+                    i += 2;
                 }
-                return dispatcher.execute(new Composite(operations))
+                getView().redrawSessions();
+            }, (operation, failure) -> {
+                // most likely some sessions have been invalidated in the meantime
+                logger.debug("Unable to resolve {} sessions: {}. Resolve them one by one", unresolved.size(), failure);
+                resolveEachSession(address, unresolved);
+            });
+        }
+    }
+
+    /**
+     * Resolves the sessions one by one. Sessions which cannot be resolved stay unresolved, so that they're read again
+     * the next time they're shown.
+     */
+    @SuppressWarnings("unchecked")
+    private void resolveEachSession(ResourceAddress address, List<Session> sessions) {
+        Promise<Boolean>[] promises = sessions.stream()
+                .map(session -> dispatcher.execute(new Composite(sessionTimes(address, session)))
                         .then(result -> {
-                            int i = 0;
-                            List<Session> sessions = new ArrayList<>();
-                            for (String sessionId : sessionIds) {
-                                ModelNode modelNode = new ModelNode();
-                                if (result.step(i).isDefined() && result.step(i).get(RESULT).isDefined()) {
-                                    modelNode.get(CREATION_TIME).set(result.step(i).get(RESULT));
-                                }
-                                i++;
-                                if (result.step(i).isDefined() && result.step(i).get(RESULT).isDefined()) {
-                                    modelNode.get(LAST_ACCESSED_TIME).set(result.step(i).get(RESULT));
-                                }
-                                i++;
-                                sessions.add(new Session(sessionId, modelNode));
-                            }
-                            context.set(SESSIONS, sessions);
-                            return Promise.resolve(context);
-                        });
+                            resolving.remove(session.getSessionId());
+                            session.resolve(result.step(0).get(RESULT), result.step(1).get(RESULT));
+                            return Promise.resolve(true);
+                        })
+                        .catch_(error -> {
+                            resolving.remove(session.getSessionId());
+                            logger.debug("Unable to resolve session {}: {}", session.getSessionId(), error);
+                            return Promise.resolve(false);
+                        }))
+                .toArray(Promise[]::new);
+        Promise.all(promises).then(resolved -> {
+            // redraw only if something has changed: a redraw reads the unresolved sessions again
+            for (Boolean r : resolved) {
+                if (r) {
+                    getView().redrawSessions();
+                    break;
+                }
             }
-        };
-
-        sequential(new FlowContext(progress.get()), Arrays.asList(task1, task2))
-                .then(context -> {
-                    List<Session> sessions = context.get(SESSIONS);
-                    List<NamedNode> servlets = context.get(SERVLETS);
-                    List<NamedNode> websockets = context.get(WEBSOCKETS);
+            return null;
+        });
+    }
 
-                    getView().updateSessions(sessions);
-                    getView().updateServlets(servlets);
-                    getView().updateWebsockets(websockets);
-                    return null;
-                });
+    private List<Operation> sessionTimes(ResourceAddress address, Session session) {
+        return asList(
+                new Operation.Builder(address, GET_SESSION_CREATION_TIME)
+                        .param(SESSION_ID, session.getSessionId())
+                        .build(),
+                new Operation.Builder(address, GET_SESSION_LAST_ACCESSED_TIME)
+                        .param(SESSION_ID, session.getSessionId())
+                        .build());
     }
 
     void invalidateSession(Session session) {
@@ -269,8 +301,12 @@ public class DeploymentPresenter
     }
 
     public interface MyView extends HalView, HasPresenter<DeploymentPresenter> {
+        void updateSessionStatistics(ModelNode deployment);
+
         void updateSessions(List<Session> sessions);
 
+        void redrawSessions();
+
         void updateSessionAttributes(List<Property> attributes);
 
         void updateServlets(List<NamedNode> model);
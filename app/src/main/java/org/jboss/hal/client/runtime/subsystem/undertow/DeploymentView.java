@@ -28,6 +28,7 @@ import org.jboss.hal.ballroom.table.Table;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mbui.table.ModelNodeTable;
 import org.jboss.hal.core.mvp.HalViewImpl;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.meta.Metadata;
@@ -47,6 +48,7 @@ import static org.jboss.hal.client.runtime.subsystem.undertow.AddressTemplates.W
 import static org.jboss.hal.client.runtime.subsystem.undertow.AddressTemplates.WEB_DEPLOYMENT_TEMPLATE;
 import static org.jboss.hal.client.runtime.subsystem.undertow.AddressTemplates.WEB_DEPLOYMENT_WEBSOCKETS_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafeGet;
 import static org.jboss.hal.resources.CSS.*;
 import static org.jboss.hal.resources.CSS.table;
 import static org.jboss.hal.resources.Ids.FORM;
@@ -55,6 +57,8 @@ import static org.jboss.hal.resources.Ids.UNDERTOW_RUNTIME;
 
 public class DeploymentView extends HalViewImpl implements DeploymentPresenter.MyView {
 
+    private final Resources resources;
+    private final HTMLElement sessionStatistics;
     private final Table<Session> sessionTable;
     private final HTMLElement attributesElement;
     private final HTMLElement attributesTableBody;
@@ -67,6 +71,7 @@ public class DeploymentView extends HalViewImpl implements DeploymentPresenter.M
 
     @Inject
     public DeploymentView(MetadataRegistry metadataRegistry, Resources resources) {
+        this.resources = resources;
 
         // ------------------------------------------------------ sessions
 
@@ -78,10 +83,15 @@ public class DeploymentView extends HalViewImpl implements DeploymentPresenter.M
                         table -> presenter.invalidateSession(table.selectedRow()), Scope.SELECTED,
                         Constraint.executable(WEB_DEPLOYMENT_TEMPLATE, INVALIDATE_SESSION))
                 .column(SESSION_ID, Names.SESSION_ID, (cell, type, row, meta) -> row.getName())
+                // stale sessions show their last known times until they're read again
                 .column(CREATION_TIME, resources.constants().creationTime(),
-                        (cell, type, row, meta) -> Format.mediumDateTime(row.getCreationTime()))
+                        (cell, type, row, meta) -> row.isResolved() || row.hasDefined(CREATION_TIME)
+                                ? Format.mediumDateTime(row.getCreationTime())
+                                : resources.constants().loading())
                 .column(LAST_ACCESSED_TIME, resources.constants().lastAccessedTime(),
-                        (cell, type, row, meta) -> Format.mediumDateTime(row.getLastAccessTime()))
+                        (cell, type, row, meta) -> row.isResolved() || row.hasDefined(LAST_ACCESSED_TIME)
+                                ? Format.mediumDateTime(row.getLastAccessTime())
+                                : resources.constants().loading())
                 .build();
 
         attributesElement = div().css(marginTopLarge)
@@ -97,6 +107,7 @@ public class DeploymentView extends HalViewImpl implements DeploymentPresenter.M
 
         HTMLElement sessionSection = section()
                 .add(h(1).textContent(Names.SESSIONS))
+                .add(sessionStatistics = p().element())
                 .add(sessionTable)
                 .add(attributesElement).element();
 
@@ -174,6 +185,7 @@ public class DeploymentView extends HalViewImpl implements DeploymentPresenter.M
                 Elements.setVisible(attributesElement, false);
             }
         });
+        sessionTable.onDraw(table -> presenter.resolveSessions(table.getVisibleRows()));
         servletsTable.bindForm(servletsForm);
         websocketsTable.bindForm(websocketsForm);
     }
@@ -183,10 +195,31 @@ public class DeploymentView extends HalViewImpl implements DeploymentPresenter.M
         this.presenter = presenter;
     }
 
+    @Override
+    public void updateSessionStatistics(ModelNode deployment) {
+        sessionStatistics.textContent = String.join(" / ",
+                statistic(resources.constants().activeSessions(), deployment, ACTIVE_SESSIONS),
+                statistic(resources.constants().expiredSessions(), deployment, EXPIRED_SESSIONS),
+                statistic(resources.constants().rejectedSessions(), deployment, REJECTED_SESSIONS),
+                statistic(resources.constants().maxActiveSessions(), deployment, MAX_ACTIVE_SESSIONS));
+    }
+
+    private String statistic(String label, ModelNode deployment, String attribute) {
+        ModelNode value = failSafeGet(deployment, attribute);
+        return label + ": " + (value.isDefined() ? value.asString() : Names.NOT_AVAILABLE);
+    }
+
     @Override
     public void updateSessions(List<Session> sessions) {
-        sessionTable.update(sessions);
+        sessionTable.reconcile(sessions, Session::getSessionId);
         Elements.setVisible(attributesElement, sessionTable.hasSelection());
+        // reconcile() doesn't draw the table if no session has been added or removed
+        presenter.resolveSessions(sessionTable.getVisibleRows());
+    }
+
+    @Override
+    public void redrawSessions() {
+        sessionTable.redrawVisibleRows();
     }
 
     @Override
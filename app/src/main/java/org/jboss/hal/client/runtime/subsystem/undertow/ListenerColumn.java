@@ -27,6 +27,7 @@ import org.jboss.hal.core.finder.FinderColumn;
 import org.jboss.hal.core.finder.FinderSegment;
 import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemDisplay;
+import org.jboss.hal.core.runtime.metrics.MetricsSampler;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
@@ -82,7 +83,8 @@ public class ListenerColumn extends FinderColumn<NamedNode> {
             Dispatcher dispatcher,
             Resources resources,
             EventBus eventBus,
-            StatementContext statementContext) {
+            StatementContext statementContext,
+            MetricsSampler metricsSampler) {
 
         super(new Builder<NamedNode>(finder, Ids.UNDERTOW_RUNTIME_LISTENER, Names.LISTENER)
                 .columnAction(columnActionFactory.refresh(Ids.UNDERTOW_LISTENER_REFRESH))
@@ -138,7 +140,8 @@ public class ListenerColumn extends FinderColumn<NamedNode> {
                         return Promise.resolve(emptyList());
                     }
                 })
-                .onPreview(server -> new ListenerPreview(dispatcher, statementContext, resources, server)));
+                .onPreview(server -> new ListenerPreview(dispatcher, statementContext, metricsSampler, resources,
+                        server)));
         this.dispatcher = dispatcher;
         this.resources = resources;
         this.eventBus = eventBus;
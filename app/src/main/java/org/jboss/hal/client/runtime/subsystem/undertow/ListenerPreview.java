@@ -22,8 +22,11 @@ import org.jboss.hal.ballroom.EmptyState;
 import org.jboss.hal.ballroom.PatternFly;
 import org.jboss.hal.ballroom.chart.Donut;
 import org.jboss.hal.ballroom.chart.GroupedBar;
+import org.jboss.hal.ballroom.chart.Line;
 import org.jboss.hal.core.finder.PreviewAttributes;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.runtime.metrics.MetricsSampler;
+import org.jboss.hal.core.runtime.metrics.Sampler;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -53,6 +56,7 @@ class ListenerPreview extends PreviewContent<NamedNode> {
 
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
+    private final MetricsSampler metricsSampler;
     private final Resources resources;
 
     private final EmptyState noStatistics;
@@ -61,11 +65,17 @@ class ListenerPreview extends PreviewContent<NamedNode> {
     private final GroupedBar processingTime;
     private final HTMLElement requestsElement;
     private final Donut requests;
+    private final Line requestHistory;
+    private final Sampler requestSampler;
+    private boolean attached;
+    private boolean sampling;
 
-    ListenerPreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources, NamedNode server) {
+    ListenerPreview(Dispatcher dispatcher, StatementContext statementContext, MetricsSampler metricsSampler,
+            Resources resources, NamedNode server) {
         super(server.getName());
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
+        this.metricsSampler = metricsSampler;
         this.resources = resources;
 
         getHeaderContainer().appendChild(refreshLink(() -> update(server)));
@@ -96,9 +106,22 @@ class ListenerPreview extends PreviewContent<NamedNode> {
                 .responsive(true)
                 .build();
         registerAttachable(requests);
+
+        // requests and errors per sampling interval
+        requestHistory = new Line.Builder()
+                .add(REQUEST_COUNT, Names.REQUESTS, PatternFly.colors.green)
+                .add(ERROR_COUNT, resources.constants().error(), PatternFly.colors.red)
+                .build();
+        registerAttachable(requestHistory);
+        requestSampler = new Sampler.Builder(address(server))
+                .counter(REQUEST_COUNT)
+                .counter(ERROR_COUNT)
+                .onSample(sampler -> requestHistory.update(sampler.values()))
+                .build();
         requestsElement = section()
                 .add(h(2, Names.REQUESTS))
-                .add(requests).element();
+                .add(requests)
+                .add(requestHistory).element();
 
         previewBuilder().addAll(previewAttributes);
         previewBuilder()
@@ -111,14 +134,35 @@ class ListenerPreview extends PreviewContent<NamedNode> {
         setVisible(requestsElement, false);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        attached = true;
+        sample();
+    }
+
+    @Override
+    public void detach() {
+        attached = false;
+        sample();
+        super.detach();
+    }
+
+    /** Samples the request and error count as long as the preview is attached and statistics are enabled. */
+    private void sample() {
+        if (attached && sampling) {
+            metricsSampler.start(requestSampler);
+        } else {
+            metricsSampler.stop(requestSampler);
+        }
+    }
+
     @Override
     public void update(NamedNode item) {
         // the HAL_LISTENER_TYPE and HAL_WEB_SERVER is added to the model in ListenerColumn class.
         String listenerType = item.asModelNode().get(HAL_LISTENER_TYPE).asString();
         String webserver = item.asModelNode().get(HAL_WEB_SERVER).asString();
-        ResourceAddress address = AddressTemplate.of(WEB_SERVER_ADDRESS + "/" + listenerType + "=" + item.getName())
-                .resolve(statementContext, webserver);
-        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+        Operation operation = new Operation.Builder(address(item), READ_RESOURCE_OPERATION)
                 .param(INCLUDE_RUNTIME, true)
                 .param(RESOLVE_EXPRESSIONS, true)
                 .build();
@@ -158,9 +202,19 @@ class ListenerPreview extends PreviewContent<NamedNode> {
             setVisible(noStatistics.element(), !statisticsEnabled);
             setVisible(processingElement, statisticsEnabled);
             setVisible(requestsElement, statisticsEnabled);
+            sampling = statisticsEnabled;
+            sample();
         });
     }
 
+    private ResourceAddress address(NamedNode listener) {
+        // the HAL_LISTENER_TYPE and HAL_WEB_SERVER is added to the model in ListenerColumn class.
+        String listenerType = listener.asModelNode().get(HAL_LISTENER_TYPE).asString();
+        String webserver = listener.asModelNode().get(HAL_WEB_SERVER).asString();
+        return AddressTemplate.of(WEB_SERVER_ADDRESS + "/" + listenerType + "=" + listener.getName())
+                .resolve(statementContext, webserver);
+    }
+
     private void recordProcessingTime(NamedNode listener) {
         // the HAL_LISTENER_TYPE and HAL_WEB_SERVER is added to the model in ListenerColumn class.
         String webserver = listener.asModelNode().get(HAL_WEB_SERVER).asString();
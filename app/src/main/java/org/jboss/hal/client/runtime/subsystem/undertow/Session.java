@@ -26,8 +26,38 @@ import static org.jboss.hal.dmr.ModelNodeHelper.failSafeDate;
 
 class Session extends NamedNode {
 
-    Session(String sessionId, ModelNode modelNode) {
-        super(sessionId, modelNode);
+    private boolean resolved;
+
+    /** Creates a session whose creation and last accessed time are not yet resolved. */
+    Session(String sessionId) {
+        super(sessionId, new ModelNode());
+        this.resolved = false;
+    }
+
+    void resolve(ModelNode creationTime, ModelNode lastAccessedTime) {
+        if (creationTime.isDefined()) {
+            get(CREATION_TIME).set(creationTime);
+        } else {
+            remove(CREATION_TIME);
+        }
+        if (lastAccessedTime.isDefined()) {
+            get(LAST_ACCESSED_TIME).set(lastAccessedTime);
+        } else {
+            remove(LAST_ACCESSED_TIME);
+        }
+        resolved = true;
+    }
+
+    /**
+     * Marks the session as unresolved, so that the times are read again. The current times are kept and shown until
+     * they're resolved again.
+     */
+    void markStale() {
+        resolved = false;
+    }
+
+    boolean isResolved() {
+        return resolved;
     }
 
     String getSessionId() {
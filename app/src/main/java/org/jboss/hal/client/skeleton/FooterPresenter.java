@@ -37,6 +37,7 @@ import org.jboss.hal.dmr.macro.MacroOperationEvent;
 import org.jboss.hal.dmr.macro.MacroOperationEvent.MacroOperationHandler;
 import org.jboss.hal.dmr.macro.Macros;
 import org.jboss.hal.dmr.macro.Recording;
+import org.jboss.hal.meta.processing.WorkerChannel;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.Message;
@@ -57,6 +58,7 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
     private final Settings settings;
     private final Macros macros;
     private final ExpressionResolver expressionResolver;
+    private final WorkerChannel workerChannel;
     private final Resources resources;
     private final AboutDialog aboutDialog;
     private boolean recording;
@@ -71,6 +73,7 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
             Settings settings,
             Macros macros,
             ExpressionResolver expressionResolver,
+            WorkerChannel workerChannel,
             Resources resources) {
         super(eventBus, view);
         this.environment = environment;
@@ -78,6 +81,7 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
         this.settings = settings;
         this.macros = macros;
         this.expressionResolver = expressionResolver;
+        this.workerChannel = workerChannel;
         this.resources = resources;
         this.aboutDialog = new AboutDialog(environment, endpoints, resources);
     }
@@ -162,7 +166,7 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
     }
 
     void onSettings() {
-        new SettingsDialog(environment, settings, resources).show();
+        new SettingsDialog(environment, settings, workerChannel, resources).show();
     }
 
     // @formatter:off
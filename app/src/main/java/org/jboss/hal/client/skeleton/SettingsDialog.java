@@ -31,6 +31,7 @@ import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.meta.Metadata;
+import org.jboss.hal.meta.processing.WorkerChannel;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Resources;
 
@@ -55,7 +56,7 @@ class SettingsDialog {
     private FormItem<Long> pollTimeFormItem;
     private int defaultPollTime;
 
-    SettingsDialog(Environment environment, Settings settings, Resources resources) {
+    SettingsDialog(Environment environment, Settings settings, WorkerChannel workerChannel, Resources resources) {
         this.settings = settings;
         this.changes = false;
 
@@ -84,12 +85,23 @@ class SettingsDialog {
         }
         attributes.add(POLL.key());
         attributes.add(POLL_TIME.key());
+        attributes.add(WIRE_FORMAT.key());
+        attributes.add(BATCH_WINDOW.key());
+        attributes.add(CACHE_TTL.key());
+        attributes.add(PREFETCH_METADATA.key());
+        attributes.add(TOPOLOGY_REFRESH.key());
         ModelNodeForm<ModelNode> form = new ModelNodeForm.Builder<>(Ids.SETTINGS_FORM, metadata)
                 .include(attributes)
                 .customFormItem(PAGE_SIZE.key(),
                         attributeDescription -> new NumberSelectItem(PAGE_SIZE.key(), values))
                 .build();
-        form.<Boolean> getFormItem(POLL.key()).addValueChangeHandler(ev -> togglePollTime(ev.getValue()));
+        // poll-time is used by both the polling tasks and the topology refresh
+        FormItem<Boolean> pollFormItem = form.getFormItem(POLL.key());
+        FormItem<Boolean> topologyRefreshFormItem = form.getFormItem(TOPOLOGY_REFRESH.key());
+        pollFormItem.addValueChangeHandler(
+                ev -> togglePollTime(ev.getValue() || Boolean.TRUE.equals(topologyRefreshFormItem.getValue())));
+        topologyRefreshFormItem.addValueChangeHandler(
+                ev -> togglePollTime(ev.getValue() || Boolean.TRUE.equals(pollFormItem.getValue())));
         pollTimeFormItem = form.getFormItem(POLL_TIME.key());
 
         dialog = new ModifyResourceDialog(resources.constants().settings(), form,
@@ -100,7 +112,12 @@ class SettingsDialog {
                 () -> {
                     if (changes) {
                         DialogFactory.showConfirmation(resources.constants().settings(),
-                                resources.messages().reloadSettings(), window.location::reload);
+                                resources.messages().reloadSettings(),
+                                // don't lose the metadata which is about to be written
+                                () -> workerChannel.flush().then(__ -> {
+                                    window.location.reload();
+                                    return null;
+                                }));
                     }
                 });
     }
@@ -111,12 +128,25 @@ class SettingsDialog {
         modelNode.get(COLLECT_USER_DATA.key()).set(settings.get(COLLECT_USER_DATA).asBoolean());
         boolean pollEnabled = settings.get(POLL).asBoolean();
         modelNode.get(POLL.key()).set(pollEnabled);
-        togglePollTime(pollEnabled);
+        togglePollTime(pollEnabled || settings.get(TOPOLOGY_REFRESH).asBoolean());
         modelNode.get(POLL_TIME.key()).set(settings.get(POLL_TIME).asInt(defaultPollTime));
         if (multipleLocales) {
             modelNode.get(LOCALE.key()).set(settings.get(LOCALE).value());
         }
         modelNode.get(PAGE_SIZE.key()).set(settings.get(PAGE_SIZE).asInt(Settings.DEFAULT_PAGE_SIZE));
+        modelNode.get(WIRE_FORMAT.key()).set(Strings.isNullOrEmpty(settings.get(WIRE_FORMAT).value())
+                ? Settings.DEFAULT_WIRE_FORMAT
+                : settings.get(WIRE_FORMAT).value());
+        int batchWindow = settings.get(BATCH_WINDOW).asInt(-1);
+        if (batchWindow >= 0) {
+            modelNode.get(BATCH_WINDOW.key()).set(batchWindow);
+        }
+        int cacheTtl = settings.get(CACHE_TTL).asInt(0);
+        if (cacheTtl > 0) {
+            modelNode.get(CACHE_TTL.key()).set(cacheTtl);
+        }
+        modelNode.get(PREFETCH_METADATA.key()).set(settings.get(PREFETCH_METADATA).asBoolean());
+        modelNode.get(TOPOLOGY_REFRESH.key()).set(settings.get(TOPOLOGY_REFRESH).asBoolean());
         dialog.show(modelNode);
     }
 
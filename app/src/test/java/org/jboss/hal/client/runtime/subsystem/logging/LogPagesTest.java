@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class LogPagesTest {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_PAGES = 3;
+
+    private LogPages logPages;
+
+    @Before
+    public void setUp() {
+        logPages = new LogPages(PAGE_SIZE, MAX_PAGES);
+        logPages.reset(0, lines(PAGE_SIZE));
+    }
+
+    @Test
+    public void reset() {
+        assertTrue(logPages.atEnd());
+        assertFalse(logPages.atStart());
+        assertEquals(1, logPages.older());
+        assertEquals(10, logPages.firstLineFromEnd());
+        assertEquals(1, logPages.lastLineFromEnd());
+    }
+
+    @Test
+    public void smallFile() {
+        logPages.reset(0, lines(5));
+        assertTrue(logPages.atEnd());
+        assertTrue(logPages.atStart());
+    }
+
+    @Test
+    public void older() {
+        assertEquals(0, logPages.addOlder(lines(PAGE_SIZE)));
+        assertEquals(0, logPages.addOlder(lines(PAGE_SIZE)));
+        assertEquals(30, logPages.size());
+        assertEquals(3, logPages.older());
+
+        // window is full: the newest page is removed
+        assertEquals(PAGE_SIZE, logPages.addOlder(lines(PAGE_SIZE)));
+        assertFalse(logPages.atEnd());
+        assertEquals(30, logPages.size());
+        assertEquals(4, logPages.older());
+        assertEquals(0, logPages.newer());
+        assertEquals(40, logPages.firstLineFromEnd());
+        assertEquals(11, logPages.lastLineFromEnd());
+    }
+
+    @Test
+    public void startOfFile() {
+        logPages.addOlder(lines(4));
+        assertTrue(logPages.atStart());
+        assertEquals(14, logPages.firstLineFromEnd());
+    }
+
+    @Test
+    public void emptyOlderPage() {
+        assertEquals(0, logPages.addOlder(emptyList()));
+        assertTrue(logPages.atStart());
+        assertEquals(PAGE_SIZE, logPages.size());
+    }
+
+    @Test
+    public void newer() {
+        logPages.reset(5, lines(PAGE_SIZE));
+        assertEquals(4, logPages.newer());
+        assertEquals(0, logPages.addNewer(lines(PAGE_SIZE)));
+        assertEquals(0, logPages.addNewer(lines(PAGE_SIZE)));
+
+        // window is full: the oldest page is removed
+        assertEquals(PAGE_SIZE, logPages.addNewer(lines(PAGE_SIZE)));
+        assertEquals(30, logPages.size());
+        assertEquals(1, logPages.newer());
+        assertEquals(5, logPages.older());
+        assertEquals(50, logPages.firstLineFromEnd());
+        assertEquals(21, logPages.lastLineFromEnd());
+    }
+
+    @Test
+    public void page() {
+        assertEquals(0, logPages.page(1));
+        assertEquals(0, logPages.page(PAGE_SIZE));
+        assertEquals(1, logPages.page(PAGE_SIZE + 1));
+        assertEquals(20, logPages.skip(2));
+    }
+
+    private List<String> lines(int count) {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lines.add("line " + i);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.client.runtime.subsystem.logging.LogTail.MIN_OVERLAP;
+import static org.jboss.hal.client.runtime.subsystem.logging.LogTail.MIN_WINDOW;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class LogTailTest {
+
+    private static final int MAX_WINDOW = 400;
+
+    private LogTail logTail;
+
+    @Before
+    public void setUp() {
+        logTail = new LogTail(MAX_WINDOW);
+        logTail.reset(lines(1, 10));
+    }
+
+    @Test
+    public void noNewLines() {
+        assertTrue(logTail.newLines(lines(1, 10)).isEmpty());
+        assertEquals(MIN_WINDOW, logTail.window());
+    }
+
+    @Test
+    public void newLines() {
+        assertEquals(lines(11, 15), logTail.newLines(lines(1, 15)));
+        assertEquals(lines(16, 16), logTail.newLines(lines(5, 16)));
+    }
+
+    @Test
+    public void repeatedLines() {
+        logTail.reset(asList("a", "b", "a", "b", "a", "b"));
+        assertEquals(asList("c", "a", "b"), logTail.newLines(asList("a", "b", "a", "b", "a", "b", "c", "a", "b")));
+    }
+
+    @Test
+    public void repeatedBlocks() {
+        List<String> block = asList("begin", "x", "y", "z", "end");
+        List<String> seen = new ArrayList<>(lines(1, 10));
+        seen.addAll(block);
+        logTail.reset(seen);
+
+        // the new lines end with the same block as the lines seen so far
+        List<String> added = new ArrayList<>();
+        added.add("line 11");
+        added.addAll(block);
+        List<String> read = new ArrayList<>(seen);
+        read.addAll(added);
+        assertEquals(added, logTail.newLines(read));
+
+        // no new lines
+        assertTrue(logTail.newLines(read).isEmpty());
+        assertTrue(logTail.newLines(read.subList(5, read.size())).isEmpty());
+
+        // the same block again
+        read.addAll(block);
+        assertEquals(block, logTail.newLines(read));
+    }
+
+    @Test
+    public void burst() {
+        // more lines have been added than read: no overlap and the window grows
+        assertNull(logTail.newLines(lines(100, 149)));
+        assertEquals(2 * MIN_WINDOW, logTail.window());
+
+        // read again using the bigger window: still no overlap
+        assertNull(logTail.newLines(lines(50, 149)));
+        assertEquals(4 * MIN_WINDOW, logTail.window());
+
+        // all new lines are found
+        assertEquals(lines(11, 149), logTail.newLines(lines(1, 149)));
+
+        // the window shrinks again
+        assertEquals(lines(150, 160), logTail.newLines(lines(61, 160)));
+        assertEquals(MIN_WINDOW, logTail.window());
+    }
+
+    @Test
+    public void burstLargerThanMaxWindow() {
+        for (int i = 0; i < 10 && !logTail.maxWindow(); i++) {
+            assertNull(logTail.newLines(lines(1000, 999 + logTail.window())));
+        }
+        assertTrue(logTail.maxWindow());
+        assertEquals(MAX_WINDOW, logTail.window());
+        assertNull(logTail.newLines(lines(1000, 999 + MAX_WINDOW)));
+
+        // the caller reads the log file again
+        logTail.reset(lines(1000, 999 + MAX_WINDOW));
+        assertFalse(logTail.maxWindow());
+        assertEquals(lines(1000 + MAX_WINDOW, 1000 + MAX_WINDOW), logTail.newLines(lines(1000, 1000 + MAX_WINDOW)));
+    }
+
+    @Test
+    public void rotated() {
+        assertNull(logTail.newLines(lines(1, 3)));
+        assertNull(logTail.newLines(emptyList()));
+    }
+
+    @Test
+    public void adaptWindow() {
+        assertEquals(lines(11, 40), logTail.newLines(lines(1, 40)));
+        assertEquals(2 * 30 + MIN_OVERLAP, logTail.window());
+    }
+
+    @Test
+    public void emptyFile() {
+        logTail.reset(emptyList());
+        assertEquals(lines(1, 3), logTail.newLines(lines(1, 3)));
+        assertEquals(lines(4, 4), logTail.newLines(lines(1, 4)));
+    }
+
+    private List<String> lines(int from, int to) {
+        List<String> lines = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            lines.add("line " + i);
+        }
+        return lines;
+    }
+}
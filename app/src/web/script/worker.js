@@ -15,31 +15,88 @@
  */
 self.importScripts("pouchdb.min.js");
 
+// Messages are processed one after the other. Each message contains all documents of one metadata lookup.
+// The documents of a database are written using one bulk operation. When all documents of a message have been
+// written or failed, the worker sends a "done" message with the ID of the processed message.
+//
+// The documents contain the binary DMR encoding as ArrayBuffer in the "payload" property (see
+// org.jboss.hal.meta.AbstractDatabase). It's stored as attachment, compressed using gzip if supported.
+let queue = Promise.resolve();
+
 self.addEventListener("message", function (e) {
-    let db = new PouchDB(e.data.database);
-    db.get(e.data.document._id)
-        .then(function (doc) {
-            // update existing document
-            e.data.document._rev = doc._rev;
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Update " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
-                });
+    let message = e.data;
+    if (message.type === "update") {
+        queue = queue
+            .then(function () {
+                return Promise.all(message.updates
+                    .filter(function (update) {
+                        return update.documents.length !== 0;
+                    })
+                    .map(bulkUpdate));
+            })
+            .catch(function (reason) {
+                // keep the queue going: HAL waits for the "done" message before it posts the next update
+                error("Unable to process update " + message.id + ": " + reason);
+            })
+            .then(function () {
+                self.postMessage({type: "done", id: message.id});
+            });
+    }
+}, false);
+
+self.bulkUpdate = function (update) {
+    let db = new PouchDB(update.database);
+    let ids = update.documents.map(function (document) {
+        return document._id;
+    });
+    return Promise.all(update.documents.map(attachPayload))
+        .then(function () {
+            // read the revisions of existing documents in one go
+            return db.allDocs({keys: ids});
+        })
+        .then(function (result) {
+            result.rows.forEach(function (row, index) {
+                if (row.value && !row.value.deleted) {
+                    update.documents[index]._rev = row.value.rev;
+                }
+            });
+            return db.bulkDocs(update.documents);
+        })
+        .then(function (responses) {
+            let failed = responses.filter(function (response) {
+                return response.error;
+            });
+            failed.forEach(function (response) {
+                error("Unable to put " + update.database + response.id + ": " + response.message);
+            });
+            info("Update " + update.database + ": " + (responses.length - failed.length) + " documents");
         })
-        .catch(function () {
-            // put new document
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Insert " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
-                });
+        .catch(function (reason) {
+            error("Unable to update " + update.database + ": " + reason);
         });
-}, false);
+};
+
+self.attachPayload = function (document) {
+    if (!(document.payload instanceof ArrayBuffer)) {
+        return Promise.resolve(document);
+    }
+    let blob = new Blob([document.payload]);
+    delete document.payload;
+    let attach = function (data) {
+        document._attachments = {
+            payload: {content_type: "application/octet-stream", data: data}
+        };
+        return document;
+    };
+    if (typeof CompressionStream === "undefined") {
+        return Promise.resolve(attach(blob));
+    }
+    return new Response(blob.stream().pipeThrough(new CompressionStream("gzip"))).blob()
+        .then(function (compressed) {
+            document.encoding = "gzip";
+            return attach(compressed);
+        });
+};
 
 self.info = function (message) {
     // use the same log format as HAL
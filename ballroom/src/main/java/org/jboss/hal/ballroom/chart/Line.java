@@ -0,0 +1,169 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.elemento.IsElement;
+import org.jboss.hal.ballroom.Attachable;
+import org.jboss.hal.js.JsHelper;
+import org.jboss.hal.resources.UIConstants;
+
+import elemental2.core.JsArray;
+import elemental2.dom.HTMLElement;
+import jsinterop.base.JsPropertyMap;
+
+import static elemental2.dom.DomGlobal.window;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.hal.ballroom.JQuery.$;
+import static org.jboss.hal.resources.UIConstants.HASH;
+
+/**
+ * Line chart to visualize how one or more values develop over time. Meant to be used for rolling windows of samples:
+ * each call to {@link #update(Map)} replaces the series with the latest window.
+ *
+ * @see <a href=
+ *      "https://www.patternfly.org/pattern-library/data-visualization/line-chart/">https://www.patternfly.org/pattern-library/data-visualization/line-chart/</a>
+ */
+public class Line implements IsElement<HTMLElement>, Attachable {
+
+    private static final int HEIGHT = 200;
+
+    private final Builder builder;
+    private final HTMLElement root;
+    private final Options options;
+    private Api api;
+
+    private Line(Builder builder) {
+        this.builder = builder;
+
+        root = div().id().element();
+        options = Charts.get().defaultLineOptions();
+        options.bindto = HASH + root.id;
+        options.data = new Options.Data();
+        options.data.colors = JsHelper.asJsMap(builder.colors);
+        options.data.columns = new JsArray<>();
+        options.data.names = JsHelper.asJsMap(builder.names);
+        options.data.type = "line";
+        options.size = new Options.Size();
+        options.size.height = HEIGHT;
+    }
+
+    @Override
+    @SuppressWarnings("Duplicates")
+    public void attach() {
+        if (api == null) {
+            api = C3.generate(options);
+            if (builder.responsive) {
+                window.onresize = event -> {
+                    resizeInParent();
+                    return null;
+                };
+                resizeInParent();
+            }
+        }
+    }
+
+    @Override
+    public void detach() {
+        if (api != null) {
+            api.destroy();
+            api = null;
+            window.onresize = null;
+        }
+    }
+
+    private Api api() {
+        if (api == null) {
+            throw new IllegalStateException(
+                    "Line is not attached. Call Line.attach() before using any of the API methods!");
+        }
+        return api;
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    /** Replaces the series with the specified values (oldest first). Series not part of the chart are ignored. */
+    @SuppressWarnings("unchecked")
+    public void update(Map<String, double[]> data) {
+        JsPropertyMap<Object> dataMap = JsPropertyMap.of();
+        JsArray<JsArray<Object>> columns = new JsArray<>();
+
+        for (String id : builder.order) {
+            double[] values = data.get(id);
+            if (values != null) {
+                JsArray<Object> column = new JsArray<>();
+                column.push(id);
+                for (double value : values) {
+                    column.push(Double.isNaN(value) ? null : value);
+                }
+                columns.push(column);
+            }
+        }
+
+        dataMap.set("columns", columns); // NON-NLS
+        api().load(dataMap);
+    }
+
+    public void resize(int width) {
+        JsPropertyMap<Object> dimension = JsPropertyMap.of();
+        dimension.set(UIConstants.WIDTH, width);
+        dimension.set(UIConstants.HEIGHT, HEIGHT);
+        api().resize(dimension);
+    }
+
+    private void resizeInParent() {
+        HTMLElement parent = (HTMLElement) root.parentNode;
+        resize((int) $(parent).width());
+    }
+
+    public static class Builder {
+
+        private final Set<String> order;
+        private final Map<String, String> colors;
+        private final Map<String, String> names;
+        private boolean responsive;
+
+        public Builder() {
+            this.order = new LinkedHashSet<>();
+            this.colors = new HashMap<>();
+            this.names = new HashMap<>();
+            this.responsive = false;
+        }
+
+        public Builder add(String id, String text, String color) {
+            order.add(id);
+            colors.put(id, color);
+            names.put(id, text);
+            return this;
+        }
+
+        public Builder responsive(boolean responsive) {
+            this.responsive = responsive;
+            return this;
+        }
+
+        public Line build() {
+            return new Line(this);
+        }
+    }
+}
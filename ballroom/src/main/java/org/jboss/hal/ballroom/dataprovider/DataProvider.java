@@ -15,31 +15,32 @@
  */
 package org.jboss.hal.ballroom.dataprovider;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collector;
-import java.util.stream.Stream;
 
 import org.jboss.hal.ballroom.listview.ListView;
 import org.jboss.hal.config.Settings;
 
-import com.google.common.collect.Lists;
-
 import static java.lang.Math.min;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
+import static java.util.Collections.emptyList;
 import static org.jboss.hal.config.Settings.DEFAULT_PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 
 /**
  * Holds items and state for displays like {@link ListView}. Changes to the state is reflected in the connected displays.
+ * <p>
+ * Filtering, sorting and paging work on arrays of item indexes which are cached between the steps: Items are only
+ * filtered again if the filters change, only sorted again if the comparator changes and a page is just a slice of the
+ * sorted indexes. Sort keys of a {@link KeyComparator} are computed once per item.
+ * <p>
+ * For large datasets the items can be loaded page by page from a {@link PagingSource}. See {@link #load(PagingSource)}.
  */
 public class DataProvider<T> {
 
@@ -47,12 +48,18 @@ public class DataProvider<T> {
     private final PageInfo pageInfo;
     private final SelectionInfo<T> selectionInfo;
     private final Map<String, T> allItems;
+    private final List<T> items;
     private final Map<String, FilterValue<T>> filterValues;
     private final List<Display<T>> displays;
     private List<SelectHandler<T>> selectHandler;
-    private Map<String, T> filteredItems;
     private Map<String, T> visibleItems;
     private Comparator<T> comparator;
+    private int[] filtered; // indexes of the items which match all filters (insertion order)
+    private int[] sorted; // filtered indexes in sort order
+    private Object[] sortKeys; // sort keys of all items by index
+    private Function<?, ?> sortKeysOf; // function used to compute the sort keys
+    private PagingSource<T> source;
+    private int sourceRequest; // used to ignore the responses of outdated page requests
 
     public DataProvider(Function<T, String> identifier, boolean multiSelect) {
         this(identifier, multiSelect, Settings.INSTANCE.get(PAGE_SIZE).asInt(DEFAULT_PAGE_SIZE));
@@ -63,7 +70,9 @@ public class DataProvider<T> {
         this.pageInfo = new PageInfo(pageSize);
         this.selectionInfo = new SelectionInfo<>(identifier, multiSelect);
         this.allItems = new LinkedHashMap<>();
-        this.filteredItems = new LinkedHashMap<>();
+        this.items = new ArrayList<>();
+        this.filtered = new int[0];
+        this.sorted = filtered;
         this.visibleItems = new LinkedHashMap<>();
         this.filterValues = new HashMap<>();
         this.selectHandler = new ArrayList<>();
@@ -77,14 +86,33 @@ public class DataProvider<T> {
     /** Replaces the items, resets the paging and selection and applies the current filter and sort order. */
     public void update(Iterable<T> items) {
         reset();
+        source = null;
         for (T item : items) {
             allItems.put(getId(item), item);
         }
-        applyFilterSortAndPaging();
+        this.items.addAll(allItems.values());
+        filter();
+        sort();
+        page();
         showItems();
         updateSelection();
     }
 
+    /**
+     * Switches to server side paging and loads the first page from the specified source. The page, filters and sort
+     * order are passed to the source, which returns the items of the page and the total number of items. From now on
+     * changes to the page, the filters or the sort order load the related page from the source.
+     * <p>
+     * Only the items of the current page are held by this data provider: The methods which return all or the filtered
+     * items as well as {@link #selectAll()} just work on the current page. Call {@link #update(Iterable)} to switch
+     * back to client side paging.
+     */
+    public void load(PagingSource<T> source) {
+        reset();
+        this.source = source;
+        fetch();
+    }
+
     public boolean contains(T item) {
         return allItems.containsKey(identifier.apply(item));
     }
@@ -102,7 +130,7 @@ public class DataProvider<T> {
     }
 
     public Iterable<T> getFilteredItems() {
-        return filteredItems.values();
+        return indexed(sorted);
     }
 
     public Iterable<T> getVisibleItems() {
@@ -111,45 +139,79 @@ public class DataProvider<T> {
 
     private void reset() {
         allItems.clear();
+        items.clear();
+        sortKeys = null;
+        sortKeysOf = null;
         pageInfo.reset();
         selectionInfo.reset();
     }
 
-    private void applyFilterSortAndPaging() {
-        Stream<T> stream = allItems.values().stream();
-        if (!filterValues.isEmpty()) {
-            Predicate<T> predicate = null;
-            for (FilterValue<T> filterValue : filterValues.values()) {
-                if (predicate == null) {
-                    predicate = i -> filterValue.getFilter().test(i, filterValue.getValue());
-                } else {
-                    predicate = predicate.and(i -> filterValue.getFilter().test(i, filterValue.getValue()));
-                }
-            }
-            stream = stream.filter(predicate);
-        }
-        if (comparator != null) {
-            stream = stream.sorted(comparator);
-        }
-        List<T> values = stream.collect(toList());
-        if (values.size() > pageInfo.getPageSize()) {
-            filteredItems = values.stream().collect(toLinkedMap(identifier, identity()));
-            values = paged(values);
-            visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+    private void loadFirstPage() {
+        pageInfo.setPage(0);
+        fetch();
+    }
+
+    private void fetch() {
+        int request = ++sourceRequest;
+        source.load(new PageRequest<>(pageInfo.getPage(), pageInfo.getPageSize(), filterValues, comparator),
+                new PagingSource.PageCallback<T>() {
+                    @Override
+                    public void onPage(List<T> page, int total) {
+                        if (request == sourceRequest) {
+                            showPage(page, total);
+                        }
+                    }
+
+                    @Override
+                    public void onError(String error) {
+                        if (request == sourceRequest) {
+                            // don't leave the old page behind: show an empty first page
+                            pageInfo.setPage(0);
+                            showPage(emptyList(), 0);
+                        }
+                    }
+                });
+    }
+
+    private void showPage(List<T> page, int total) {
+        pageInfo.setTotal(total); // total first!
+        if (page.isEmpty() && pageInfo.getPage() > 0 && pageInfo.getPage() >= pageInfo.getPages()) {
+            // the source shrunk in the meantime: load the last page
+            pageInfo.setPage(pageInfo.getPages() - 1);
+            fetch();
         } else {
-            filteredItems = visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+            allItems.clear();
+            items.clear();
+            visibleItems = new LinkedHashMap<>();
+            for (T item : page) {
+                String id = getId(item);
+                allItems.put(id, item);
+                visibleItems.put(id, item);
+            }
+            items.addAll(allItems.values());
+            filtered = new int[items.size()];
+            for (int i = 0; i < filtered.length; i++) {
+                filtered[i] = i;
+            }
+            sorted = filtered;
+            pageInfo.setVisible(visibleItems.size());
+            showItems();
+            updateSelection();
         }
-        pageInfo.setTotal(filteredItems.size()); // total first!
-        pageInfo.setVisible(visibleItems.size());
     }
 
-    private Collector<T, ?, Map<String, T>> toLinkedMap(Function<? super T, ? extends String> keyMapper,
-            Function<? super T, ? extends T> valueMapper) {
-        return toMap(keyMapper, valueMapper,
-                (u, v) -> {
-                    throw new IllegalStateException("Duplicate key " + u); // NON-NLS
-                },
-                LinkedHashMap::new);
+    private List<T> indexed(int[] indexes) {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return items.get(indexes[index]);
+            }
+
+            @Override
+            public int size() {
+                return indexes.length;
+            }
+        };
     }
 
     // ------------------------------------------------------ selection
@@ -161,7 +223,9 @@ public class DataProvider<T> {
     /** Selects all items if {@ocde multiSelect == true}. Does not fire selection events */
     public void selectAll() {
         if (selectionInfo.isMultiSelect()) {
-            filteredItems.forEach((id, item) -> selectInternal(id, item, true));
+            for (T item : indexed(sorted)) {
+                selectInternal(getId(item), item, true);
+            }
             updateSelection();
         }
     }
@@ -177,7 +241,9 @@ public class DataProvider<T> {
     /** Clears the selection for all items */
     public void clearAllSelection() {
         if (selectionInfo.hasSelection()) {
-            filteredItems.forEach((id, item) -> selectInternal(id, item, false));
+            for (T item : indexed(sorted)) {
+                selectInternal(getId(item), item, false);
+            }
             updateSelection();
         }
     }
@@ -220,27 +286,52 @@ public class DataProvider<T> {
     // ------------------------------------------------------ filter
 
     public void addFilter(String name, FilterValue<T> filter) {
-        filterValues.put(name, filter);
-        applyFilterSortAndPaging();
-        showItems();
-        updateSelection();
+        FilterValue<T> previous = filterValues.put(name, filter);
+        if (source != null) {
+            loadFirstPage();
+        } else {
+            if (previous == null) {
+                // a new filter can only narrow the current result: no need to filter all items or to sort again
+                int[] narrowed = narrow(filtered, filter);
+                sorted = sorted == filtered ? narrowed : narrow(sorted, filter);
+                filtered = narrowed;
+            } else {
+                filter();
+                sort();
+            }
+            page();
+            showItems();
+            updateSelection();
+        }
     }
 
     public void removeFilter(String name) {
         if (filterValues.containsKey(name)) {
             filterValues.remove(name);
-            applyFilterSortAndPaging();
-            showItems();
-            updateSelection();
+            if (source != null) {
+                loadFirstPage();
+            } else {
+                filter();
+                sort();
+                page();
+                showItems();
+                updateSelection();
+            }
         }
     }
 
     public void clearFilters() {
         if (!filterValues.isEmpty()) {
             filterValues.clear();
-            applyFilterSortAndPaging();
-            showItems();
-            updateSelection();
+            if (source != null) {
+                loadFirstPage();
+            } else {
+                filter();
+                sort();
+                page();
+                showItems();
+                updateSelection();
+            }
         }
     }
 
@@ -253,28 +344,110 @@ public class DataProvider<T> {
         return !filterValues.isEmpty();
     }
 
+    private void filter() {
+        int[] indexes = new int[items.size()];
+        int count = 0;
+        for (int i = 0; i < indexes.length; i++) {
+            if (matches(items.get(i))) {
+                indexes[count++] = i;
+            }
+        }
+        filtered = Arrays.copyOf(indexes, count);
+    }
+
+    private boolean matches(T item) {
+        for (FilterValue<T> filterValue : filterValues.values()) {
+            if (!filterValue.getFilter().test(item, filterValue.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] narrow(int[] indexes, FilterValue<T> filterValue) {
+        int[] narrowed = new int[indexes.length];
+        int count = 0;
+        for (int index : indexes) {
+            if (filterValue.getFilter().test(items.get(index), filterValue.getValue())) {
+                narrowed[count++] = index;
+            }
+        }
+        return Arrays.copyOf(narrowed, count);
+    }
+
     // ------------------------------------------------------ sort
 
     public void setComparator(Comparator<T> comparator) {
-        this.comparator = comparator;
-        applyFilterSortAndPaging();
-        showItems();
-        updateSelection();
+        if (source != null) {
+            if (this.comparator != comparator) {
+                this.comparator = comparator;
+                loadFirstPage();
+            }
+        } else {
+            if (this.comparator != comparator) {
+                this.comparator = comparator;
+                sort();
+                page();
+            }
+            showItems();
+            updateSelection();
+        }
     }
 
     public Comparator<T> getComparator() {
         return comparator;
     }
 
+    private void sort() {
+        if (comparator == null) {
+            sorted = filtered;
+        } else {
+            // Arrays.sort() for objects is stable: equal items keep their insertion order
+            Integer[] indexes = new Integer[filtered.length];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = filtered[i];
+            }
+            Arrays.sort(indexes, indexComparator());
+            sorted = new int[indexes.length];
+            for (int i = 0; i < indexes.length; i++) {
+                sorted[i] = indexes[i];
+            }
+        }
+    }
+
+    private Comparator<Integer> indexComparator() {
+        if (comparator instanceof KeyComparator) {
+            return keyComparator((KeyComparator<T, ?>) comparator);
+        }
+        return (index1, index2) -> comparator.compare(items.get(index1), items.get(index2));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K extends Comparable<? super K>> Comparator<Integer> keyComparator(KeyComparator<T, K> keyComparator) {
+        if (sortKeys == null || sortKeysOf != keyComparator.key()) {
+            sortKeys = new Object[items.size()];
+            sortKeysOf = keyComparator.key();
+            for (int i = 0; i < sortKeys.length; i++) {
+                sortKeys[i] = keyComparator.key().apply(items.get(i));
+            }
+        }
+        Object[] keys = sortKeys;
+        return (index1, index2) -> keyComparator.compareKeys((K) keys[index1], (K) keys[index2]);
+    }
+
     // ------------------------------------------------------ paging
 
     public void setPageSize(int pageSize) {
         int oldPageSize = pageInfo.getPageSize();
         pageInfo.setPageSize(pageSize);
         if (oldPageSize != pageInfo.getPageSize()) {
-            applyFilterSortAndPaging();
-            showItems();
-            updateSelection();
+            if (source != null) {
+                fetch();
+            } else {
+                page();
+                showItems();
+                updateSelection();
+            }
         }
     }
 
@@ -298,9 +471,13 @@ public class DataProvider<T> {
         int oldPage = pageInfo.getPage();
         pageInfo.setPage(page);
         if (oldPage != pageInfo.getPage()) {
-            applyFilterSortAndPaging();
-            showItems();
-            updateSelection();
+            if (source != null) {
+                fetch();
+            } else {
+                page();
+                showItems();
+                updateSelection();
+            }
         }
     }
 
@@ -308,9 +485,23 @@ public class DataProvider<T> {
         return pageInfo;
     }
 
-    private List<T> paged(List<T> values) {
-        List<List<T>> pages = Lists.partition(values, pageInfo.getPageSize());
-        return pages.get(min(pageInfo.getPage(), pages.size() - 1));
+    private void page() {
+        int total = sorted.length;
+        int pageSize = pageInfo.getPageSize();
+        int from = 0;
+        int to = total;
+        if (total > pageSize) {
+            int pages = (total + pageSize - 1) / pageSize;
+            from = min(pageInfo.getPage(), pages - 1) * pageSize;
+            to = min(from + pageSize, total);
+        }
+        visibleItems = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            T item = items.get(sorted[i]);
+            visibleItems.put(getId(item), item);
+        }
+        pageInfo.setTotal(total); // total first!
+        pageInfo.setVisible(visibleItems.size());
     }
 
     // ------------------------------------------------------ displays
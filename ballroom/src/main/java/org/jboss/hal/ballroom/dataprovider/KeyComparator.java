@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.dataprovider;
+
+import java.util.Comparator;
+import java.util.function.Function;
+
+/**
+ * Comparator which compares items by a sort key. When used as comparator of a {@link DataProvider}, the sort key is
+ * computed only once per item and reused until the items change - also when the sort order is reversed.
+ */
+public class KeyComparator<T, K extends Comparable<? super K>> implements Comparator<T> {
+
+    public static <T, K extends Comparable<? super K>> KeyComparator<T, K> comparing(
+            Function<? super T, ? extends K> key) {
+        return new KeyComparator<>(key, true);
+    }
+
+    private final Function<? super T, ? extends K> key;
+    private final boolean ascending;
+    private KeyComparator<T, K> reversed;
+
+    private KeyComparator(Function<? super T, ? extends K> key, boolean ascending) {
+        this.key = key;
+        this.ascending = ascending;
+    }
+
+    @Override
+    public int compare(T item1, T item2) {
+        return compareKeys(key.apply(item1), key.apply(item2));
+    }
+
+    /** Returns the comparator for the reversed order. Both comparators share the same sort key function. */
+    @Override
+    public KeyComparator<T, K> reversed() {
+        if (reversed == null) {
+            reversed = new KeyComparator<>(key, !ascending);
+            reversed.reversed = this;
+        }
+        return reversed;
+    }
+
+    Function<? super T, ? extends K> key() {
+        return key;
+    }
+
+    int compareKeys(K key1, K key2) {
+        return ascending ? key1.compareTo(key2) : key2.compareTo(key1);
+    }
+}
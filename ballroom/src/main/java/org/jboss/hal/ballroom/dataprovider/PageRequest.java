@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.dataprovider;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/** The page, filters and sort order which a {@link PagingSource} should load. */
+public class PageRequest<T> {
+
+    private final int page;
+    private final int pageSize;
+    private final Map<String, FilterValue<T>> filters;
+    private final Comparator<T> comparator;
+
+    PageRequest(int page, int pageSize, Map<String, FilterValue<T>> filters, Comparator<T> comparator) {
+        this.page = page;
+        this.pageSize = pageSize;
+        this.filters = unmodifiableMap(new HashMap<>(filters));
+        this.comparator = comparator;
+    }
+
+    @Override
+    public String toString() {
+        return "PageRequest(page=" + page + ", pageSize=" + pageSize + ", filters=" + filters.keySet() + ')';
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /** @return the index of the first item of the page */
+    public int getFirst() {
+        return page * pageSize;
+    }
+
+    /** @return the filters by name */
+    public Map<String, FilterValue<T>> getFilters() {
+        return filters;
+    }
+
+    /** @return the comparator or {@code null} if the items should be returned in their natural order */
+    public Comparator<T> getComparator() {
+        return comparator;
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.dataprovider;
+
+import java.util.List;
+
+/**
+ * Source which loads single pages of items, e.g. from the management model. Used by a {@link DataProvider} for
+ * datasets which are too large to be loaded into the browser at once.
+ *
+ * @see DataProvider#load(PagingSource)
+ */
+@FunctionalInterface
+public interface PagingSource<T> {
+
+    /**
+     * Loads the items of the requested page, which match the filters of the request and are sorted according to its
+     * comparator. The items are passed to the callback together with the total number of matching items. If the
+     * items cannot be loaded, the source has to call {@link PageCallback#onError(String)}.
+     */
+    void load(PageRequest<T> request, PageCallback<T> callback);
+
+    interface PageCallback<T> {
+
+        void onPage(List<T> items, int total);
+
+        void onError(String error);
+    }
+}
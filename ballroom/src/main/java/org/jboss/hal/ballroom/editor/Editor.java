@@ -29,6 +29,12 @@ public class Editor {
 
     public native void gotoLine(int line, int column, boolean animate);
 
+    public native int getFirstVisibleRow();
+
+    public native int getLastVisibleRow();
+
+    public native void scrollToLine(int line, boolean center, boolean animate);
+
     public native void selectAll();
 
     public native Session getSession();
@@ -39,7 +45,8 @@ public class Editor {
 
     public native void setTheme(String theme);
 
-    public native void find(String query);
+    /** @return the range of the match or {@code null} if there's no match */
+    public native Object find(String query);
 
     public native void findNext();
 
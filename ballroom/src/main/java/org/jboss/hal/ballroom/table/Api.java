@@ -66,6 +66,11 @@ class Api<T> {
 
     native Api<T> data();
 
+    /**
+     * Sets the data of the row selected with {@link Row#call(Api, int)} and invalidates the row.
+     */
+    native Api<T> data(T data);
+
     native Api<T> draw(String paging);
 
     /**
@@ -73,6 +78,12 @@ class Api<T> {
      */
     native Api<T> enable(boolean enable);
 
+    /**
+     * Invalidates the data of the rows selected with {@link #rows(SelectorModifier)}, so that the rows are rendered again on
+     * the next draw.
+     */
+    native Api<T> invalidate();
+
     /**
      * Returns the jQuery object for the button selected with {@link #button(int)}
      */
@@ -86,6 +97,12 @@ class Api<T> {
      */
     native Api<T> on(String event, CallbackUnionType<T> callback);
 
+    /**
+     * Removes the row(s) that have been found by the {@link #rows(RowSelection)} selector method. Row indexes are not
+     * stable after removing rows.
+     */
+    native Api<T> remove();
+
     /**
      * Select all rows, but apply the specified modifier (e.g. to return only selected rows). Chain the {@link #data()} to get
      * the actual data.
@@ -216,6 +233,12 @@ class Api<T> {
          * Adds a new row to the table.
          */
         native Api<T> add(T data);
+
+        /**
+         * Selects the row with the specified index. Since the property {@code row} is the function {@code row()}, this
+         * is the same as {@code api.row(index)} in JavaScript.
+         */
+        native Api<T> call(Api<T> api, int index);
     }
 
     /**
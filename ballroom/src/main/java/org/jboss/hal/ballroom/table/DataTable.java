@@ -15,8 +15,10 @@
  */
 package org.jboss.hal.ballroom.table;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.jboss.elemento.Elements;
@@ -44,6 +46,8 @@ import static org.jboss.elemento.Elements.htmlElements;
 import static org.jboss.elemento.Elements.table;
 import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
+import static org.jboss.hal.ballroom.table.RefreshMode.HOLD;
+import static org.jboss.hal.ballroom.table.RefreshMode.PAGE;
 import static org.jboss.hal.ballroom.table.RefreshMode.RESET;
 import static org.jboss.hal.resources.CSS.columnAction;
 import static org.jboss.hal.resources.CSS.dataTable;
@@ -262,6 +266,23 @@ public class DataTable<T> implements Table<T> {
         return asList(api().rows(selectorModifier).data().toArray());
     }
 
+    @Override
+    public List<T> getVisibleRows() {
+        SelectorModifier selectorModifier = new SelectorModifierBuilder().page(SelectorModifier.Page.current).build();
+        return asList(api().rows(selectorModifier).data().toArray());
+    }
+
+    @Override
+    public void redrawVisibleRows() {
+        SelectorModifier selectorModifier = new SelectorModifierBuilder().page(SelectorModifier.Page.current).build();
+        api().rows(selectorModifier).invalidate().draw(PAGE.mode());
+    }
+
+    @Override
+    public void onDraw(DrawHandler<T> handler) {
+        api().on(DRAW, CallbackUnionType.of((DrawCallback) (evt, settings) -> handler.onDraw(this)));
+    }
+
     @Override
     public void onSelectionChange(SelectionChangeHandler<T> handler) {
         api().on(SELECT, CallbackUnionType.of((SelectCallback) (event, api, type) -> {
@@ -364,6 +385,46 @@ public class DataTable<T> implements Table<T> {
         }
     }
 
+    @Override
+    public void reconcile(Iterable<T> data, Function<T, String> identifier) {
+        RowDiff<T> diff = new RowDiff<>(identifier);
+        api().rows((Api.RowSelection<T>) (index, d, tr) -> {
+            diff.existing(index, d);
+            return false;
+        });
+        diff.diff(data);
+        if (diff.isEmpty()) {
+            return;
+        }
+
+        // changed rows which are selected need to be selected again to notify the selection handlers
+        Set<String> selection = new HashSet<>();
+        for (T selected : api().selectedRows()) {
+            String selectedId = diff.id(selected);
+            if (selectedId != null) {
+                selection.add(selectedId);
+            }
+        }
+        Set<String> reselect = new HashSet<>();
+
+        // order matters: row indexes are not stable after removing rows
+        diff.changed.forEach((index, d) -> {
+            api().row.call(api(), index).data(d);
+            String changedId = diff.id(d);
+            if (selection.contains(changedId)) {
+                reselect.add(changedId);
+            }
+        });
+        if (!diff.removed.isEmpty()) {
+            Set<Integer> removed = new HashSet<>(diff.removed);
+            api().rows((Api.RowSelection<T>) (index, d, tr) -> removed.contains(index)).remove();
+        }
+        api().add(diff.added).draw(HOLD.mode());
+        if (!reselect.isEmpty()) {
+            api().rows((Api.RowSelection<T>) (index, d, tr) -> reselect.contains(diff.id(d))).select();
+        }
+    }
+
     public void applySecurity(Map<Integer, String> buttonConstraints, AuthorisationDecision authorisationDecision) {
         buttonConstraints.forEach((index, constraint) -> {
             buttonElement(index).attr(data(UIConstants.CONSTRAINT), constraint);
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.table;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Keyed difference between the existing rows of a table and new data. Rows are matched using an identifier function.
+ * Rows are changed if their data is not {@linkplain Objects#equals(Object, Object) equal}. Used by
+ * {@link DataTable#reconcile(Iterable, Function)}.
+ *
+ * @param <T> the row type
+ */
+class RowDiff<T> {
+
+    private final Function<T, String> identifier;
+    private final Map<String, Integer> indexes;
+    private final Map<Integer, T> existing;
+    /** Indexes of the rows which have vanished */
+    final List<Integer> removed;
+    /** Indexes and new data of the rows whose data has changed */
+    final Map<Integer, T> changed;
+    /** Data without an existing row */
+    final List<T> added;
+
+    RowDiff(Function<T, String> identifier) {
+        this.identifier = identifier;
+        this.indexes = new HashMap<>();
+        this.existing = new HashMap<>();
+        this.removed = new ArrayList<>();
+        this.changed = new LinkedHashMap<>();
+        this.added = new ArrayList<>();
+    }
+
+    /** Registers an existing row. Rows without or with a duplicate identifier are removed. */
+    void existing(int index, T data) {
+        String id = id(data);
+        if (id == null || indexes.containsKey(id)) {
+            removed.add(index);
+        } else {
+            indexes.put(id, index);
+            existing.put(index, data);
+        }
+    }
+
+    /** Computes the difference between the registered rows and the specified data. */
+    RowDiff<T> diff(Iterable<T> data) {
+        if (data != null) {
+            for (T d : data) {
+                String id = id(d);
+                Integer index = id != null ? indexes.remove(id) : null;
+                if (index == null) {
+                    added.add(d);
+                } else if (!Objects.equals(existing.get(index), d)) {
+                    changed.put(index, d);
+                }
+            }
+        }
+        // whatever is left has vanished
+        removed.addAll(indexes.values());
+        indexes.clear();
+        return this;
+    }
+
+    boolean isEmpty() {
+        return removed.isEmpty() && changed.isEmpty() && added.isEmpty();
+    }
+
+    String id(T data) {
+        return data != null ? identifier.apply(data) : null;
+    }
+}
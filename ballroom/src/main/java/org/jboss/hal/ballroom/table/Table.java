@@ -38,6 +38,15 @@ public interface Table<T> extends IsElement, Attachable {
 
     List<T> getRows();
 
+    /** @return the rows of the current page */
+    List<T> getVisibleRows();
+
+    /** Renders the rows of the current page again. Use this method if the data of these rows has been modified. */
+    void redrawVisibleRows();
+
+    /** Registers a handler which is called whenever the table has been drawn, e.g. after paging, sorting or filtering. */
+    void onDraw(DrawHandler<T> handler);
+
     void onSelectionChange(SelectionChangeHandler<T> handler);
 
     default boolean hasSelection() {
@@ -60,6 +69,27 @@ public interface Table<T> extends IsElement, Attachable {
 
     void update(Iterable<T> data, RefreshMode mode, Function<T, String> identifier);
 
+    /**
+     * Reconciles the existing rows with the specified data instead of replacing all rows: New rows are added, vanished
+     * rows are removed and only rows whose data has changed are rendered again. The selection, the current page and the
+     * scroll position are kept.
+     *
+     * @param data the new data
+     * @param identifier a function which must return an unique identifier for a given row
+     */
+    void reconcile(Iterable<T> data, Function<T, String> identifier);
+
+    /**
+     * Handler which is called after the table has been drawn.
+     *
+     * @param <T> the row type
+     */
+    @FunctionalInterface
+    interface DrawHandler<T> {
+
+        void onDraw(Table<T> table);
+    }
+
     /**
      * Convenience handler when a <em>row</em> selection <em>or</em> deselection takes place.
      *
@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.ballroom.dataprovider;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -32,6 +33,7 @@ import com.google.common.primitives.Ints;
 
 import static com.google.common.primitives.Ints.asList;
 import static java.lang.Integer.parseInt;
+import static java.lang.Math.min;
 import static java.lang.System.arraycopy;
 import static java.util.Comparator.naturalOrder;
 import static org.junit.Assert.*;
@@ -441,6 +443,106 @@ public class DataProviderTest {
         verify(display).showItems(itemsMatcher(sorted), eq(new PageInfo(PAGE_SIZE, 0, 4, 4)));
     }
 
+    @Test
+    public void sortByKey() throws Exception {
+        int[] items = { 0, 8, 1, 5 };
+        int[] counter = { 0 };
+        KeyComparator<Integer, Integer> comparator = KeyComparator.comparing(number -> {
+            counter[0]++;
+            return number;
+        });
+
+        single.update(asList(items));
+        single.setComparator(comparator);
+        verify(display).showItems(itemsMatcher(new int[] { 0, 1, 5, 8 }), eq(new PageInfo(PAGE_SIZE, 0, 4, 4)));
+        single.setComparator(comparator.reversed());
+        verify(display).showItems(itemsMatcher(new int[] { 8, 5, 1, 0 }), eq(new PageInfo(PAGE_SIZE, 0, 4, 4)));
+        single.setComparator(comparator.reversed().reversed());
+        assertEquals(items.length, counter[0]);
+    }
+
+    @Test
+    public void sortAndFilter() throws Exception {
+        int[] items = items(PAGE_SIZE);
+        single.update(asList(items));
+        single.setComparator(Comparator.<Integer> naturalOrder().reversed());
+        single.addFilter("even", new FilterValue<>(DIVISIBLE, "2"));
+        assertVisibleFilteredAll(single, new int[] { 8, 6, 4, 2, 0 }, new int[] { 8, 6, 4, 2, 0 }, items);
+        single.addFilter("byThree", new FilterValue<>(DIVISIBLE, "3"));
+        assertVisibleFilteredAll(single, new int[] { 6, 0 }, new int[] { 6, 0 }, items);
+        single.removeFilter("even");
+        assertVisibleFilteredAll(single, new int[] { 9, 6, 3, 0 }, new int[] { 9, 6, 3, 0 }, items);
+    }
+
+    @Test
+    public void filterOnce() throws Exception {
+        int[] counter = { 0 };
+        Filter<Integer> filter = (number, value) -> {
+            counter[0]++;
+            return DIVISIBLE.test(number, value);
+        };
+
+        single.update(asList(items(42)));
+        single.addFilter("even", new FilterValue<>(filter, "2"));
+        assertEquals(42, counter[0]);
+        single.gotoNextPage();
+        single.setPageSize(5);
+        single.setComparator(naturalOrder());
+        assertEquals(42, counter[0]);
+    }
+
+    // ------------------------------------------------------ paging source
+
+    @Test
+    public void loadFromSource() throws Exception {
+        single.load(source(items(42)));
+        assertVisibleFilteredAll(single, items(PAGE_SIZE), items(PAGE_SIZE), items(PAGE_SIZE));
+        verify(display).showItems(itemsMatcher(items(PAGE_SIZE)), eq(new PageInfo(PAGE_SIZE, 0, PAGE_SIZE, 42)));
+
+        reset(display);
+        single.gotoLastPage();
+        assertVisibleFilteredAll(single, items(40, 41), items(40, 41), items(40, 41));
+        verify(display).showItems(itemsMatcher(items(40, 41)), eq(new PageInfo(PAGE_SIZE, 4, 2, 42)));
+
+        reset(display);
+        single.addFilter("byThree", new FilterValue<>(DIVISIBLE, "3"));
+        int[] byThree = new int[] { 0, 3, 6, 9, 12, 15, 18, 21, 24, 27 };
+        assertVisibleFilteredAll(single, byThree, byThree, byThree);
+        verify(display).showItems(itemsMatcher(byThree), eq(new PageInfo(PAGE_SIZE, 0, PAGE_SIZE, 14)));
+
+        reset(display);
+        single.update(asList(items(5)));
+        assertVisibleFilteredAll(single, new int[] { 0, 3 }, new int[] { 0, 3 }, items(5));
+    }
+
+    @Test
+    public void ignoreOutdatedPages() throws Exception {
+        List<PagingSource.PageCallback<Integer>> callbacks = new ArrayList<>();
+        single.load((request, callback) -> callbacks.add(callback));
+        single.addFilter("even", new FilterValue<>(DIVISIBLE, "2"));
+        assertEquals(2, callbacks.size());
+
+        callbacks.get(1).onPage(asList(EVEN), EVEN.length);
+        callbacks.get(0).onPage(asList(items(PAGE_SIZE)), 42);
+        assertVisibleFilteredAll(single, EVEN, EVEN, EVEN);
+        verify(display).showItems(itemsMatcher(EVEN), eq(new PageInfo(PAGE_SIZE, 0, EVEN.length, EVEN.length)));
+        verify(display, never()).showItems(itemsMatcher(items(PAGE_SIZE)), any());
+    }
+
+    @Test
+    public void pageError() throws Exception {
+        List<PagingSource.PageCallback<Integer>> callbacks = new ArrayList<>();
+        single.load((request, callback) -> callbacks.add(callback));
+        callbacks.get(0).onPage(asList(items(PAGE_SIZE)), 42);
+        single.gotoPage(2);
+        assertEquals(2, callbacks.size());
+
+        reset(display);
+        callbacks.get(1).onError("failed");
+        assertVisibleFilteredAll(single, new int[0], new int[0], new int[0]);
+        verify(display).showItems(itemsMatcher(new int[0]), eq(new PageInfo(PAGE_SIZE, 0, 0, 0)));
+    }
+
     // ------------------------------------------------------ helper methods
 
     private void assertVisibleFilteredAll(DataProvider<Integer> dp, int[] visible, int[] filtered, int[] all) {
@@ -464,6 +566,21 @@ public class DataProviderTest {
         assertArrayEquals(selection, dpSelection);
     }
 
+    private PagingSource<Integer> source(int[] items) {
+        return (request, callback) -> {
+            List<Integer> matching = new ArrayList<>();
+            for (int item : items) {
+                if (request.getFilters().values().stream()
+                        .allMatch(filterValue -> filterValue.getFilter().test(item, filterValue.getValue()))) {
+                    matching.add(item);
+                }
+            }
+            int from = min(request.getFirst(), matching.size());
+            int to = min(from + request.getPageSize(), matching.size());
+            callback.onPage(matching.subList(from, to), matching.size());
+        };
+    }
+
     private int[] items(int size) {
         return items(0, size - 1);
     }
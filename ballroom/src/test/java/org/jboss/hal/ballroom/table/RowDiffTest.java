@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.table;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class RowDiffTest {
+
+    /** Rows are strings like "id=value". */
+    private static String id(String row) {
+        return row.substring(0, row.indexOf('='));
+    }
+
+    private RowDiff<String> existing(String... rows) {
+        RowDiff<String> diff = new RowDiff<>(RowDiffTest::id);
+        for (int i = 0; i < rows.length; i++) {
+            diff.existing(i, rows[i]);
+        }
+        return diff;
+    }
+
+    @Test
+    public void unchanged() {
+        RowDiff<String> diff = existing("a=1", "b=2").diff(asList("b=2", "a=1"));
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    public void added() {
+        RowDiff<String> diff = existing("a=1").diff(asList("a=1", "b=2", "c=3"));
+        assertEquals(asList("b=2", "c=3"), diff.added);
+        assertTrue(diff.changed.isEmpty());
+        assertTrue(diff.removed.isEmpty());
+    }
+
+    @Test
+    public void removed() {
+        RowDiff<String> diff = existing("a=1", "b=2", "c=3").diff(Collections.singletonList("b=2"));
+        assertTrue(diff.added.isEmpty());
+        assertTrue(diff.changed.isEmpty());
+        assertEquals(2, diff.removed.size());
+        assertTrue(diff.removed.containsAll(asList(0, 2)));
+    }
+
+    @Test
+    public void changed() {
+        RowDiff<String> diff = existing("a=1", "b=2", "c=3").diff(asList("a=1", "b=20", "c=30"));
+        assertTrue(diff.added.isEmpty());
+        assertTrue(diff.removed.isEmpty());
+        assertEquals(2, diff.changed.size());
+        assertEquals("b=20", diff.changed.get(1));
+        assertEquals("c=30", diff.changed.get(2));
+    }
+
+    @Test
+    public void mixed() {
+        RowDiff<String> diff = existing("a=1", "b=2", "c=3").diff(asList("c=3", "d=4", "a=10"));
+        assertEquals(Collections.singletonList("d=4"), diff.added);
+        assertEquals(Collections.singletonList(1), diff.removed);
+        assertEquals(1, diff.changed.size());
+        assertEquals("a=10", diff.changed.get(0));
+    }
+
+    @Test
+    public void duplicates() {
+        RowDiff<String> diff = existing("a=1", "a=2").diff(asList("a=1", "a=3"));
+        assertEquals(Collections.singletonList(1), diff.removed);
+        assertEquals(Collections.singletonList("a=3"), diff.added);
+        assertTrue(diff.changed.isEmpty());
+    }
+
+    @Test
+    public void nullData() {
+        RowDiff<String> diff = existing("a=1").diff(null);
+        assertFalse(diff.isEmpty());
+        assertEquals(Collections.singletonList(0), diff.removed);
+
+        diff = existing().diff(asList("a=1", null));
+        assertEquals(asList("a=1", null), diff.added);
+    }
+}
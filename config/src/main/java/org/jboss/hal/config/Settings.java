@@ -37,6 +37,8 @@ public class Settings {
     public static final int DEFAULT_PAGE_SIZE = 10;
     // keep in sync with the poll-time attribute of settings.dmr
     public static final int DEFAULT_POLL_TIME = 10;
+    // keep in sync with the wire-format attribute of settings.dmr
+    public static final String DEFAULT_WIRE_FORMAT = "dmr";
     public static final int[] PAGE_SIZE_VALUES = new int[] { 10, 20, 50 };
     private static final int EXPIRES = 365; // days
 
@@ -85,8 +87,10 @@ public class Settings {
     @SuppressWarnings("DuplicateStringLiteralInspection")
     public enum Key {
         TITLE("title", true), COLLECT_USER_DATA("collect-user-data", true), LOCALE("locale", true), PAGE_SIZE("page-size",
-                true), POLL("poll", true), POLL_TIME("poll-time", true), RUN_AS("run-as", false); // can contain multiple roles
-                                                                                                  // separated by ","
+                true), POLL("poll", true), POLL_TIME("poll-time", true), WIRE_FORMAT("wire-format", true),
+        BATCH_WINDOW("batch-window", true), CACHE_TTL("cache-ttl", true), PREFETCH_METADATA("prefetch-metadata", true),
+        TOPOLOGY_REFRESH("topology-refresh", true),
+        RUN_AS("run-as", false); // can contain multiple roles separated by ","
 
         public static Key from(String key) {
             switch (key) {
@@ -102,6 +106,16 @@ public class Settings {
                     return POLL;
                 case "poll-time":
                     return POLL_TIME;
+                case "wire-format":
+                    return WIRE_FORMAT;
+                case "batch-window":
+                    return BATCH_WINDOW;
+                case "cache-ttl":
+                    return CACHE_TTL;
+                case "prefetch-metadata":
+                    return PREFETCH_METADATA;
+                case "topology-refresh":
+                    return TOPOLOGY_REFRESH;
                 case "run-as":
                     return RUN_AS;
                 default:
@@ -32,7 +32,9 @@ import org.jboss.hal.core.modelbrowser.ModelBrowser;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
+import org.jboss.hal.core.runtime.metrics.MetricsSampler;
 import org.jboss.hal.core.runtime.server.ServerActions;
+import org.jboss.hal.core.runtime.server.ServerStateWatcher;
 import org.jboss.hal.core.runtime.server.ServerUrlStorage;
 import org.jboss.hal.core.subsystem.Subsystems;
 import org.jboss.hal.core.ui.UIRegistry;
@@ -64,11 +66,13 @@ public class CoreModule extends AbstractGinModule {
         bind(HostActions.class).in(Singleton.class);
         bind(ItemActionFactory.class).in(Singleton.class);
         bind(ItemMonitor.class).in(Singleton.class);
+        bind(MetricsSampler.class).in(Singleton.class);
         bind(ModelBrowser.class);
         bind(Core.class).in(Singleton.class);
         bind(Places.class).in(Singleton.class);
         bind(ServerActions.class).in(Singleton.class);
         bind(ServerGroupActions.class).in(Singleton.class);
+        bind(ServerStateWatcher.class).in(Singleton.class);
         bind(ServerUrlStorage.class).in(Singleton.class);
         bind(StatementContext.class).to(CoreStatementContext.class).asEagerSingleton(); // to register the event handler
         bind(Subsystems.class).in(Singleton.class);
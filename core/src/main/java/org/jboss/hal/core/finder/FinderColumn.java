@@ -61,6 +61,8 @@ import elemental2.dom.KeyboardEvent;
 import elemental2.dom.NodeList;
 import elemental2.promise.Promise;
 
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.button;
@@ -75,11 +77,11 @@ import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
 import static org.jboss.elemento.EventType.keydown;
 import static org.jboss.elemento.EventType.keyup;
+import static org.jboss.elemento.EventType.scroll;
 import static org.jboss.elemento.InputType.text;
 import static org.jboss.elemento.Key.ArrowUp;
 import static org.jboss.elemento.Key.Escape;
 import static org.jboss.hal.core.finder.Finder.DATA_BREADCRUMB;
-import static org.jboss.hal.core.finder.Finder.DATA_FILTER;
 import static org.jboss.hal.resources.CSS.active;
 import static org.jboss.hal.resources.CSS.btn;
 import static org.jboss.hal.resources.CSS.btnFinder;
@@ -124,6 +126,7 @@ import static org.jboss.hal.resources.UIConstants.TABINDEX;
 public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     private static final String DOT = ".";
+    private static final double FILTER_DELAY = UIConstants.SHORT_TIMEOUT;
     private static final Constants CONSTANTS = GWT.create(Constants.class);
     private static final Logger logger = LoggerFactory.getLogger(FinderColumn.class);
 
@@ -145,6 +148,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private final List<HandlerRegistration> handlers;
     private final Map<String, FinderRow<T>> rows;
     private final FinderColumnStorage storage;
+    private FinderWindow<T> window;
+    private FinderFilter filterIndex;
+    private HTMLElement[] filterElements;
+    private boolean[] shown;
+    private double filterHandle;
 
     private boolean asElement;
     private final boolean firstActionAsBreadcrumbHandler;
@@ -314,10 +322,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private void updateHeader(int matched) {
         if (showCount) {
             String titleWithSize;
-            if (matched == rows.size()) {
-                titleWithSize = title + " (" + rows.size() + ")";
+            int size = window != null ? window.size() : rows.size();
+            if (matched == size) {
+                titleWithSize = title + " (" + size + ")";
             } else {
-                titleWithSize = title + " (" + matched + " / " + rows.size() + ")";
+                titleWithSize = title + " (" + matched + " / " + size + ")";
             }
             headerElement.textContent = titleWithSize;
             headerElement.title = titleWithSize;
@@ -328,6 +337,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     public void attach() {
         handlers.add(bind(root, keydown, this::onNavigation));
         handlers.add(bind(hiddenColumns, click, event -> finder.revealHiddenColumns(FinderColumn.this)));
+        handlers.add(bind(ulElement, scroll, event -> {
+            if (window != null) {
+                window.onScroll();
+            }
+        }));
         if (filterElement != null) {
             handlers.add(bind(filterElement, keydown, this::onNavigation));
             handlers.add(bind(filterElement, keyup, this::onFilter));
@@ -336,6 +350,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     @Override
     public void detach() {
+        cancelFilter();
         for (HandlerRegistration handler : handlers) {
             handler.removeHandler();
         }
@@ -345,53 +360,62 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     // ------------------------------------------------------ event handler
 
     private void onFilter(KeyboardEvent event) {
+        cancelFilter();
         if (Escape == Key.fromEvent(event)) {
             filterElement.value = "";
             // hide the 'clear' icon when there are no chars
             Elements.setVisible(clearFilterElement, false);
-        } else {
-            // show the 'clear' icon when there are typed chars
-            Elements.setVisible(clearFilterElement, true);
+            applyFilter("");
+            return;
         }
 
-        int matched = 0;
+        // show the 'clear' icon only when there are typed chars
         String filter = filterElement.value;
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
-            }
-            Object filterData = li.dataset.get(DATA_FILTER);
-            boolean match = filter == null
-                    || filter.trim().length() == 0
-                    || filterData == null
-                    || String.valueOf(filterData).toLowerCase().contains(filter.toLowerCase());
-            Elements.setVisible(li, match);
-            if (match) {
-                matched++;
+        Elements.setVisible(clearFilterElement, filter != null && filter.trim().length() != 0);
+        filterHandle = setTimeout(__ -> {
+            filterHandle = 0;
+            applyFilter(filterElement.value);
+        }, FILTER_DELAY);
+    }
+
+    private void clearFilter() {
+        cancelFilter();
+        filterElement.value = "";
+        applyFilter("");
+        Elements.setVisible(clearFilterElement, false);
+    }
+
+    private void cancelFilter() {
+        if (filterHandle != 0) {
+            clearTimeout(filterHandle);
+            filterHandle = 0;
+        }
+    }
+
+    private void applyFilter(String filter) {
+        if (filterIndex == null || !filterIndex.apply(filter)) {
+            return;
+        }
+
+        if (window != null) {
+            window.filter();
+        } else {
+            // only touch the rows whose visibility has changed
+            for (int i = 0; i < filterElements.length; i++) {
+                boolean match = filterIndex.matches(i);
+                if (match != shown[i]) {
+                    Elements.setVisible(filterElements[i], match);
+                    shown[i] = match;
+                }
             }
         }
+        int matched = filterIndex.count();
         updateHeader(matched);
         if (matched == 0) {
             Elements.lazyAppend(ulElement, noItems);
         } else {
             Elements.failSafeRemove(ulElement, noItems);
         }
-        // when user deletes remaining chars, hide the 'clear' icon
-        if (filter != null && filter.trim().length() == 0) {
-            Elements.setVisible(clearFilterElement, false);
-        }
-    }
-
-    private void clearFilter() {
-        filterElement.value = "";
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
-            }
-            Elements.setVisible(li, true);
-        }
-        Elements.failSafeRemove(ulElement, noItems);
-        Elements.setVisible(clearFilterElement, false);
     }
 
     private void onNavigation(KeyboardEvent event) {
@@ -401,19 +425,13 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
                 case ArrowUp:
                 case ArrowDown: {
-                    HTMLElement activeElement = activeElement();
-                    if (!Elements.isVisible(activeElement)) {
-                        activeElement = null;
-                    }
-                    HTMLElement select = key == ArrowUp
-                            ? previousVisibleElement(activeElement)
-                            : nextVisibleElement(activeElement);
-                    if (select != null && select != noItems) {
+                    FinderRow<T> select = adjacentRow(activeRow(), key == ArrowUp);
+                    if (select != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        select.scrollIntoView(false);
-                        row(select).click();
+                        select.element().scrollIntoView(false);
+                        select.click();
                     }
                     break;
                 }
@@ -442,19 +460,19 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case ArrowRight: {
-                    HTMLElement activeElement = activeElement();
-                    String nextColumn = row(activeElement).getNextColumn();
-                    if (Elements.isVisible(activeElement) && nextColumn != null) {
+                    FinderRow<T> activeRow = activeRow();
+                    String nextColumn = activeRow != null ? activeRow.getNextColumn() : null;
+                    if (nextColumn != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
                         finder.reduceTo(this);
                         finder.appendColumn(nextColumn)
                                 .then(column -> {
-                                    if (column.activeElement() == null && column.hasVisibleElements()) {
-                                        HTMLElement firstElement = column.nextVisibleElement(null);
-                                        column.markSelected(firstElement.id);
-                                        column.row(firstElement).updatePreview();
+                                    if (column.selectedRow() == null && column.hasVisibleElements()) {
+                                        FinderRow<?> firstRow = column.adjacentRow(null, false);
+                                        column.markSelected(firstRow.getId());
+                                        firstRow.updatePreview();
                                     }
                                     finder.updateContext();
                                     finder.updateHistory();
@@ -471,14 +489,14 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case Enter: {
-                    HTMLElement activeItem = activeElement();
-                    T item = row(activeItem).getItem();
-                    ItemActionHandler<T> primaryAction = row(activeItem).getPrimaryAction();
-                    if (Elements.isVisible(activeItem) && item != null && primaryAction != null) {
+                    FinderRow<T> activeRow = activeRow();
+                    T item = activeRow != null ? activeRow.getItem() : null;
+                    ItemActionHandler<T> primaryAction = activeRow != null ? activeRow.getPrimaryAction() : null;
+                    if (item != null && primaryAction != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        row(activeItem).click();
+                        activeRow.click();
                         primaryAction.execute(item);
                     }
                     break;
@@ -505,6 +523,9 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     private boolean hasVisibleElements() {
+        if (window != null) {
+            return window.visibleSize() != 0;
+        }
         for (HTMLElement element : Elements.children(ulElement)) {
             if (Elements.isVisible(element) && element != noItems) {
                 return true;
@@ -529,7 +550,33 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         return element;
     }
 
+    /** Returns the selected row if it's visible (not filtered), {@code null} otherwise. */
+    private FinderRow<T> activeRow() {
+        if (window != null) {
+            return window.activeRow();
+        }
+        HTMLElement activeElement = activeElement();
+        return Elements.isVisible(activeElement) ? row(activeElement) : null;
+    }
+
+    /**
+     * Returns the visible row before / after the specified row or the last / first visible row if the specified row is
+     * {@code null}.
+     */
+    private FinderRow<T> adjacentRow(FinderRow<T> row, boolean previous) {
+        if (window != null) {
+            return window.adjacentRow(row, previous);
+        }
+        HTMLElement start = row != null ? row.element() : null;
+        HTMLElement element = previous ? previousVisibleElement(start) : nextVisibleElement(start);
+        return element != null && element != noItems ? row(element) : null;
+    }
+
     FinderRow<T> row(String itemId) {
+        if (window != null) {
+            // the row is about to be clicked or scrolled into view: make sure it's rendered
+            return window.reveal(itemId);
+        }
         return rows.get(itemId);
     }
 
@@ -541,6 +588,9 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     FinderRow<T> selectedRow() {
+        if (window != null) {
+            return window.selectedRow();
+        }
         HTMLElement activeItem = (HTMLElement) ulElement.querySelector("li." + active); // NON-NLS
         if (activeItem != null && rows.containsKey(activeItem.id)) {
             return rows.get(activeItem.id);
@@ -549,10 +599,20 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     boolean contains(String itemId) {
+        if (window != null) {
+            return window.contains(itemId);
+        }
         return rows.containsKey(itemId);
     }
 
     void markSelected(String itemId) {
+        if (window != null) {
+            T item = window.select(itemId);
+            if (item != null && selectionHandler != null) {
+                selectionHandler.onSelect(item);
+            }
+            return;
+        }
         for (Map.Entry<String, FinderRow<T>> entry : rows.entrySet()) {
             boolean select = itemId.equals(entry.getKey());
             entry.getValue().markSelected(select);
@@ -563,6 +623,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void resetSelection() {
+        if (window != null) {
+            window.resetSelection();
+            return;
+        }
         HTMLElement element = activeElement();
         if (element != null) {
             element.classList.remove(active);
@@ -576,6 +640,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     void unpin(FinderRow<T> row) {
         row.element().classList.remove(pinned);
         row.element().classList.add(unpinned);
+        if (window != null) {
+            window.unpin(row);
+            storage.unpinItem(row.getId());
+            return;
+        }
 
         // move row to unpinned section
         ulElement.removeChild(row.element());
@@ -598,6 +667,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     void pin(FinderRow<T> row) {
         row.element().classList.remove(unpinned);
         row.element().classList.add(pinned);
+        if (window != null) {
+            window.pin(row);
+            storage.pinItem(row.getId());
+            return;
+        }
 
         // move row to pinned section
         ulElement.removeChild(row.element());
@@ -666,46 +740,68 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     private void setItems(List<T> items) {
+        cancelFilter();
         rows.clear();
+        if (window != null) {
+            window.clear();
+            window = null;
+        }
         currentItems = items;
         Elements.removeChildrenFrom(ulElement);
         if (filterElement != null) {
             filterElement.value = "";
         }
 
-        List<T> pinnedItems = new ArrayList<>();
-        List<T> unpinnedItems = new ArrayList<>();
-        Set<String> pinnedItemIds = storage.pinnedItems();
-        if (pinnable && !pinnedItemIds.isEmpty()) {
-            for (T item : items) {
-                String id = itemRenderer.render(item).getId();
-                if (pinnedItemIds.contains(id)) {
-                    pinnedItems.add(item);
-                } else {
-                    unpinnedItems.add(item);
-                }
+        // render each item exactly once and build the filter index
+        List<FinderWindow.Entry<T>> pinnedEntries = new ArrayList<>();
+        List<FinderWindow.Entry<T>> unpinnedEntries = new ArrayList<>();
+        List<String> filterData = new ArrayList<>(items.size());
+        Set<String> pinnedItemIds = pinnable ? storage.pinnedItems() : Collections.emptySet();
+        for (T item : items) {
+            ItemDisplay<T> display = itemRenderer.render(item);
+            int index = filterData.size();
+            filterData.add(display.getFilterData());
+            if (pinnedItemIds.contains(display.getId())) {
+                pinnedEntries.add(new FinderWindow.Entry<>(index, item, display, true));
+            } else {
+                unpinnedEntries.add(new FinderWindow.Entry<>(index, item, display, false));
             }
-        } else {
-            unpinnedItems.addAll(items);
         }
-        for (Iterator<T> iterator = pinnedItems.iterator(); iterator.hasNext();) {
-            T item = iterator.next();
-            FinderRow<T> row = new FinderRow<>(finder, this, item, true,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
-            if (!iterator.hasNext()) {
-                row.element().classList.add(last);
+        filterIndex = new FinderFilter(filterData);
+
+        if (items.size() > FinderWindow.THRESHOLD) {
+            List<FinderWindow.Entry<T>> entries = new ArrayList<>(pinnedEntries);
+            entries.addAll(unpinnedEntries);
+            window = new FinderWindow<>(finder, this, ulElement, previewCallback, entries, filterIndex);
+            filterElements = null;
+            shown = null;
+            updateHeader(items.size());
+
+        } else {
+            filterElements = new HTMLElement[items.size()];
+            shown = new boolean[items.size()];
+            for (Iterator<FinderWindow.Entry<T>> iterator = pinnedEntries.iterator(); iterator.hasNext();) {
+                FinderWindow.Entry<T> entry = iterator.next();
+                FinderRow<T> row = new FinderRow<>(finder, this, entry.item, true, entry.display, previewCallback);
+                rows.put(row.getId(), row);
+                ulElement.appendChild(row.element());
+                filterElements[entry.index] = row.element();
+                shown[entry.index] = true;
+                if (!iterator.hasNext()) {
+                    row.element().classList.add(last);
+                }
             }
+            for (FinderWindow.Entry<T> entry : unpinnedEntries) {
+                FinderRow<T> row = new FinderRow<>(finder, this, entry.item, false, entry.display, previewCallback);
+                rows.put(row.getId(), row);
+                ulElement.appendChild(row.element());
+                filterElements[entry.index] = row.element();
+                shown[entry.index] = true;
+            }
+            updateHeader(items.size());
+            Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]") // NON-NLS
+                    .init();
         }
-        for (T item : unpinnedItems) {
-            FinderRow<T> row = new FinderRow<>(finder, this, item, false,
-                    itemRenderer.render(item), previewCallback);
-            rows.put(row.getId(), row);
-            ulElement.appendChild(row.element());
-        }
-        updateHeader(items.size());
-        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
 
         if (items.isEmpty()) {
             ulElement.appendChild(noItems);
@@ -878,7 +974,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 FinderRow<T> oldRow = selectedRow();
                 refresh(() -> {
                     if (oldRow != null) {
-                        FinderRow<T> updatedRow = rows.get(oldRow.getId());
+                        FinderRow<T> updatedRow = row(oldRow.getId());
                         if (updatedRow != null) {
                             updatedRow.click();
                             updatedRow.element().scrollIntoView(false);
@@ -900,7 +996,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
      */
     public void refresh(String selectItemId) {
         refresh(() -> {
-            FinderRow<T> row = rows.get(selectItemId);
+            FinderRow<T> row = row(selectItemId);
             if (row != null) {
                 row.click();
             } else {
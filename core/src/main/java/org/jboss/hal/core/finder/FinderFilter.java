@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.List;
+
+/**
+ * Filter index of a finder column. The filter data of the items is lowercased once when the index is created. Items
+ * without filter data always match.
+ * <p>
+ * If a query contains the previous query (e.g. because the user typed another character), only the previous matches
+ * are searched. Only used internally in the finder.
+ */
+class FinderFilter {
+
+    private final String[] data;
+    private final boolean[] matches;
+    private int[] matching;
+    private int count;
+    private String query;
+
+    FinderFilter(List<String> filterData) {
+        int size = filterData.size();
+        this.data = new String[size];
+        this.matches = new boolean[size];
+        this.matching = new int[size];
+        for (int i = 0; i < size; i++) {
+            String value = filterData.get(i);
+            data[i] = value != null ? value.toLowerCase() : null;
+            matches[i] = true;
+            matching[i] = i;
+        }
+        this.count = size;
+        this.query = "";
+    }
+
+    /**
+     * Applies the specified query. A {@code null} or blank query matches all items.
+     *
+     * @return {@code false} if the query is the same as the current query and nothing has changed, {@code true}
+     *         otherwise
+     */
+    boolean apply(String query) {
+        String normalized = query == null || query.trim().length() == 0 ? "" : query.toLowerCase();
+        if (normalized.equals(this.query)) {
+            return false;
+        }
+
+        int[] candidates;
+        int candidateCount;
+        if (normalized.isEmpty() || this.query.isEmpty() || !normalized.contains(this.query)) {
+            // start over
+            candidates = new int[data.length];
+            for (int i = 0; i < candidates.length; i++) {
+                candidates[i] = i;
+            }
+            candidateCount = candidates.length;
+        } else {
+            // refine: only the previous matches can match the new query
+            candidates = matching;
+            candidateCount = count;
+        }
+
+        for (int i = 0; i < count; i++) {
+            matches[matching[i]] = false;
+        }
+        int[] next = new int[candidateCount];
+        int nextCount = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int index = candidates[i];
+            if (normalized.isEmpty() || data[index] == null || data[index].contains(normalized)) {
+                matches[index] = true;
+                next[nextCount++] = index;
+            }
+        }
+        this.matching = next;
+        this.count = nextCount;
+        this.query = normalized;
+        return true;
+    }
+
+    /** @return whether the item with the specified index matches the current query */
+    boolean matches(int index) {
+        return matches[index];
+    }
+
+    /** @return the number of items matching the current query */
+    int count() {
+        return count;
+    }
+
+    int size() {
+        return data.length;
+    }
+}
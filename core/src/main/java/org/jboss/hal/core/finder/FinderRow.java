@@ -78,11 +78,12 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
 
     private final Finder finder;
     private final FinderColumn<T> column;
-    private final ItemDisplay<T> display;
-    private final List<ItemAction<T>> actions;
-    private final String nextColumn;
+    private final PreviewCallback<T> previewCallback;
+    private ItemDisplay<T> display;
+    private List<ItemAction<T>> actions;
+    private String nextColumn;
     private ItemActionHandler<T> primaryAction;
-    private final PreviewContent<T> previewContent;
+    private PreviewContent<T> previewContent;
     private String id;
     private T item;
 
@@ -98,24 +99,34 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
             PreviewCallback<T> previewCallback) {
         this.finder = finder;
         this.column = column;
+        this.previewCallback = previewCallback;
+
+        root = li().element();
+        rebind(item, pinned, display);
+        bind(root, click, event -> onClick(((HTMLElement) event.target)));
+    }
+
+    /**
+     * Binds this row to another item. Used by {@link FinderWindow} to recycle the row elements of windowed columns. The
+     * preview content is created lazily when the preview is shown for the first time.
+     */
+    void rebind(T item, boolean pinned, ItemDisplay<T> display) {
         this.display = display;
         this.actions = allowedActions(display.actions());
         this.nextColumn = display.nextColumn();
         this.id = Strings.sanitize(display.getId());
         this.primaryAction = actions.isEmpty() ? null : actions.get(0).handler;
-        this.previewContent = previewCallback != null ? previewCallback.onPreview(item)
-                : new PreviewContent<>(
-                        display.getTitle());
+        this.previewContent = null;
 
-        root = li().element();
         folderElement = null;
+        buttonContainer = null;
+        root.className = "";
         if (column.isPinnable()) {
             root.className = pinned ? CSS.pinned : unpinned;
         }
         root.classList.add(finderItem);
         updateItem(item);
         drawItem();
-        bind(root, click, event -> onClick(((HTMLElement) event.target)));
     }
 
     private List<ItemAction<T>> allowedActions(List<ItemAction<T>> actions) {
@@ -297,6 +308,10 @@ class FinderRow<T> implements IsElement<HTMLLIElement> {
     }
 
     void updatePreview() {
+        if (previewContent == null) {
+            previewContent = previewCallback != null ? previewCallback.onPreview(item)
+                    : new PreviewContent<>(display.getTitle());
+        }
         if (isSelected()) {
             finder.showPreview(previewContent);
         }
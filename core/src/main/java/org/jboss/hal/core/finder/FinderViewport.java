@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * The visible (not filtered) rows of a {@link FinderWindow} and the range of rows inside the window. Knows nothing about
+ * the DOM: the window passes the scroll position and the size of the list element.
+ */
+class FinderViewport<E> {
+
+    static final int OVERSCAN = 10;
+    static final int DEFAULT_VIEWPORT_ROWS = 30;
+
+    private final Function<E, String> id;
+    private final Map<String, Integer> indexes;
+    private List<E> rows;
+    private int from;
+    private int to;
+
+    FinderViewport(Function<E, String> id) {
+        this.id = id;
+        this.indexes = new HashMap<>();
+        this.rows = emptyList();
+    }
+
+    /** Replaces the visible rows. */
+    void show(List<E> rows) {
+        this.rows = rows;
+        indexes.clear();
+        for (int i = 0; i < rows.size(); i++) {
+            indexes.put(id.apply(rows.get(i)), i);
+        }
+    }
+
+    List<E> rows() {
+        return rows;
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    /** @return the index of the visible row or -1 if there's no such row or the row is filtered */
+    int indexOf(String id) {
+        Integer index = indexes.get(id);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Calculates the range of rows inside the window: the rows inside the viewport plus {@value #OVERSCAN} rows before
+     * and after the viewport.
+     *
+     * @param scrollTop    the scroll position of the list element
+     * @param clientHeight the height of the list element or 0 if not yet known
+     * @param rowHeight    the height of one row
+     */
+    void layout(double scrollTop, int clientHeight, int rowHeight) {
+        int size = rows.size();
+        int viewportRows = clientHeight > 0 ? clientHeight / rowHeight + 1 : DEFAULT_VIEWPORT_ROWS;
+        int count = viewportRows + 2 * OVERSCAN;
+        from = Math.max(0, (int) scrollTop / rowHeight - OVERSCAN);
+        if (from + count > size) {
+            from = Math.max(0, size - count);
+        }
+        to = Math.min(size, from + count);
+    }
+
+    /** @return the index of the first row inside the window */
+    int from() {
+        return from;
+    }
+
+    /** @return the index after the last row inside the window */
+    int to() {
+        return to;
+    }
+
+    /**
+     * @return the scroll position which shows the row with the specified index in the viewport. Returns the current
+     * scroll position if the row is already inside the viewport.
+     */
+    static double scrollTop(int index, double scrollTop, int clientHeight, int rowHeight) {
+        int top = index * rowHeight;
+        if (top < scrollTop) {
+            return top;
+        } else if (clientHeight > 0 && top + rowHeight > scrollTop + clientHeight) {
+            return top + rowHeight - clientHeight;
+        }
+        return scrollTop;
+    }
+}
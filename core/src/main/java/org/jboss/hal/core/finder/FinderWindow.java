@@ -0,0 +1,397 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.elemento.Elements;
+import org.jboss.hal.ballroom.Tooltip;
+import org.jboss.hal.resources.Strings;
+import org.jboss.hal.resources.UIConstants;
+
+import elemental2.dom.CSSProperties.PaddingBottomUnionType;
+import elemental2.dom.CSSProperties.PaddingTopUnionType;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.Node;
+
+import static org.jboss.hal.resources.CSS.active;
+import static org.jboss.hal.resources.CSS.last;
+import static org.jboss.hal.resources.CSS.px;
+
+/**
+ * Windowed rendering of the rows of a finder column. Only the rows inside the viewport of the column plus an overscan
+ * buffer are materialized. The space of the remaining rows is reserved using the padding of the list element. Row
+ * elements which are scrolled out of the window are recycled for the rows which are scrolled into the window.
+ * <p>
+ * The window keeps the selected row, even if it's scrolled out of the window. Only used internally by
+ * {@link FinderColumn} for columns with more than {@link #THRESHOLD} items.
+ */
+class FinderWindow<T> {
+
+    /** Columns with more items than this threshold use windowed rendering. */
+    static final int THRESHOLD = 250;
+
+    private static final int DEFAULT_ROW_HEIGHT = 50;
+
+    private final Finder finder;
+    private final FinderColumn<T> column;
+    private final HTMLElement ulElement;
+    private final PreviewCallback<T> previewCallback;
+    private final List<Entry<T>> entries;
+    private final Map<String, Entry<T>> entriesById;
+    private final Map<String, FinderRow<T>> materialized;
+    private final Deque<FinderRow<T>> recycled;
+    private final FinderFilter filter;
+    private final FinderViewport<Entry<T>> viewport;
+    private FinderRow<T> selectedRow;
+    private int rowHeight;
+    private boolean measured;
+    private boolean scheduled;
+
+    FinderWindow(Finder finder, FinderColumn<T> column, HTMLElement ulElement, PreviewCallback<T> previewCallback,
+            List<Entry<T>> entries, FinderFilter filter) {
+        this.finder = finder;
+        this.column = column;
+        this.ulElement = ulElement;
+        this.previewCallback = previewCallback;
+        this.entries = new ArrayList<>(entries);
+        this.entriesById = new HashMap<>();
+        this.materialized = new HashMap<>();
+        this.recycled = new ArrayDeque<>();
+        this.filter = filter;
+        this.viewport = new FinderViewport<>(entry -> entry.id);
+        this.viewport.show(this.entries);
+        this.rowHeight = DEFAULT_ROW_HEIGHT;
+
+        for (Entry<T> entry : entries) {
+            entriesById.put(entry.id, entry);
+        }
+        ulElement.scrollTop = 0;
+        render();
+    }
+
+    /** Removes the materialized rows and the reserved space. The window must not be used afterwards. */
+    void clear() {
+        for (FinderRow<T> row : materialized.values()) {
+            Elements.failSafeRemove(ulElement, row.element());
+        }
+        materialized.clear();
+        recycled.clear();
+        selectedRow = null;
+        ulElement.style.paddingTop = null;
+        ulElement.style.paddingBottom = null;
+    }
+
+    // ------------------------------------------------------ size & filter
+
+    int size() {
+        return entries.size();
+    }
+
+    int visibleSize() {
+        return viewport.size();
+    }
+
+    boolean contains(String id) {
+        return entriesById.containsKey(id);
+    }
+
+    /** Shows only the rows matching the current query of the filter index. Must be called after the query changed. */
+    void filter() {
+        if (filter.count() == filter.size()) {
+            viewport.show(entries);
+        } else {
+            List<Entry<T>> matching = new ArrayList<>(filter.count());
+            for (Entry<T> entry : entries) {
+                if (filter.matches(entry.index)) {
+                    matching.add(entry);
+                }
+            }
+            viewport.show(matching);
+        }
+        render();
+    }
+
+    // ------------------------------------------------------ rows & selection
+
+    /**
+     * Returns the row for the specified id if it's inside the window or if it's the selected row. Use
+     * {@link #reveal(String)} to scroll rows outside the window into the window.
+     */
+    FinderRow<T> row(String id) {
+        FinderRow<T> row = materialized.get(id);
+        if (row == null && selectedRow != null && selectedRow.getId().equals(id)) {
+            // selected, but filtered or outside the window
+            row = selectedRow;
+        }
+        return row;
+    }
+
+    /** Scrolls the row for the specified id into the window, if necessary, and returns the row. */
+    FinderRow<T> reveal(String id) {
+        int index = viewport.indexOf(id);
+        if (index != -1) {
+            scrollTo(index);
+        }
+        return row(id);
+    }
+
+    /**
+     * Returns the row before / after the specified row which matches the filter and scrolls it into the window. If the
+     * row is {@code null}, the last / first row is returned.
+     */
+    FinderRow<T> adjacentRow(FinderRow<T> row, boolean previous) {
+        int index = row != null ? viewport.indexOf(row.getId()) : -1;
+        if (index == -1) {
+            index = previous ? viewport.size() : -1;
+        }
+        index = previous ? index - 1 : index + 1;
+        if (index >= 0 && index < viewport.size()) {
+            return reveal(viewport.rows().get(index).id);
+        }
+        return null;
+    }
+
+    /** Returns the selected row if it matches the filter, {@code null} otherwise. */
+    FinderRow<T> activeRow() {
+        return selectedRow != null && viewport.indexOf(selectedRow.getId()) != -1 ? selectedRow : null;
+    }
+
+    FinderRow<T> selectedRow() {
+        return selectedRow;
+    }
+
+    /**
+     * Selects the specified row. The row doesn't need to be inside the window.
+     *
+     * @return the selected item or {@code null} if there's no row for the specified id
+     */
+    T select(String id) {
+        Entry<T> entry = entriesById.get(id);
+        if (entry != null) {
+            if (selectedRow != null && !selectedRow.getId().equals(id)) {
+                FinderRow<T> previous = selectedRow;
+                selectedRow = null;
+                previous.markSelected(false);
+                if (!materialized.containsValue(previous)) {
+                    recycled.push(previous);
+                }
+            }
+            if (selectedRow == null) {
+                FinderRow<T> row = materialized.get(id);
+                selectedRow = row != null ? row : acquire(entry);
+            }
+            selectedRow.markSelected(true);
+            return entry.item;
+        }
+        return null;
+    }
+
+    void resetSelection() {
+        if (selectedRow != null) {
+            FinderRow<T> previous = selectedRow;
+            selectedRow = null;
+            previous.element().classList.remove(active);
+            if (!materialized.containsValue(previous)) {
+                recycled.push(previous);
+            }
+        }
+    }
+
+    // ------------------------------------------------------ pin & unpin
+
+    void pin(FinderRow<T> row) {
+        move(row.getId(), true);
+    }
+
+    void unpin(FinderRow<T> row) {
+        move(row.getId(), false);
+    }
+
+    private void move(String id, boolean pinned) {
+        Entry<T> entry = entriesById.get(id);
+        if (entry != null) {
+            entries.remove(entry);
+            entry.pinned = pinned;
+
+            // keep the order of the classic rendering: pinned rows first, both sections sorted by title
+            int pinnedCount = 0;
+            while (pinnedCount < entries.size() && entries.get(pinnedCount).pinned) {
+                pinnedCount++;
+            }
+            int from = pinned ? 0 : pinnedCount;
+            int to = pinned ? pinnedCount : entries.size();
+            int position = to;
+            for (int i = from; i < to; i++) {
+                if (title(entries.get(i)).compareTo(title(entry)) > 0) {
+                    position = i;
+                    break;
+                }
+            }
+            entries.add(position, entry);
+            filter();
+            reveal(id);
+        }
+    }
+
+    private String title(Entry<T> entry) {
+        String title = entry.display.getTitle();
+        return title != null ? title : "";
+    }
+
+    // ------------------------------------------------------ render
+
+    /** Re-renders the window on the next animation frame. Multiple calls before the next frame are coalesced. */
+    void onScroll() {
+        if (!scheduled) {
+            scheduled = true;
+            DomGlobal.requestAnimationFrame(timestamp -> {
+                scheduled = false;
+                render();
+            });
+        }
+    }
+
+    private void scrollTo(int index) {
+        ulElement.scrollTop = FinderViewport.scrollTop(index, ulElement.scrollTop, ulElement.clientHeight, rowHeight);
+        render();
+    }
+
+    private void render() {
+        List<Entry<T>> visible = viewport.rows();
+        int size = visible.size();
+        viewport.layout(ulElement.scrollTop, ulElement.clientHeight, rowHeight);
+        int from = viewport.from();
+        int to = viewport.to();
+
+        // recycle the rows which have been scrolled out of the window
+        Set<String> window = new HashSet<>();
+        for (int i = from; i < to; i++) {
+            window.add(visible.get(i).id);
+        }
+        for (Iterator<Map.Entry<String, FinderRow<T>>> iterator = materialized.entrySet().iterator(); iterator
+                .hasNext();) {
+            Map.Entry<String, FinderRow<T>> mapEntry = iterator.next();
+            if (!window.contains(mapEntry.getKey())) {
+                FinderRow<T> row = mapEntry.getValue();
+                Elements.failSafeRemove(ulElement, row.element());
+                if (row != selectedRow) {
+                    recycled.push(row);
+                }
+                iterator.remove();
+            }
+        }
+
+        // materialize the rows of the window in order
+        List<FinderRow<T>> bound = new ArrayList<>();
+        Entry<T> lastPinned = lastPinned();
+        Node cursor = ulElement.firstChild;
+        for (int i = from; i < to; i++) {
+            Entry<T> entry = visible.get(i);
+            FinderRow<T> row = materialized.get(entry.id);
+            if (row == null) {
+                if (selectedRow != null && selectedRow.getId().equals(entry.id)) {
+                    row = selectedRow;
+                } else {
+                    row = acquire(entry);
+                    bound.add(row);
+                }
+                materialized.put(entry.id, row);
+            }
+            if (column.isPinnable() && entry == lastPinned) {
+                row.element().classList.add(last);
+            } else {
+                row.element().classList.remove(last);
+            }
+            if (row.element() == cursor) {
+                cursor = cursor.nextSibling;
+            } else {
+                ulElement.insertBefore(row.element(), cursor);
+            }
+        }
+        ulElement.style.paddingTop = PaddingTopUnionType.of(px(from * rowHeight));
+        ulElement.style.paddingBottom = PaddingBottomUnionType.of(px((size - to) * rowHeight));
+
+        // initialize the tooltips of the new and recycled rows only
+        String tooltips = "[data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]"; // NON-NLS
+        for (FinderRow<T> row : bound) {
+            Elements.stream(row.element().querySelectorAll(tooltips))
+                    .forEach(element -> Tooltip.element((HTMLElement) element).init());
+        }
+        if (!measured && to > from) {
+            // all rows of a column are expected to have the same height
+            int height = materialized.get(visible.get(from).id).element().offsetHeight;
+            if (height > 0) {
+                measured = true;
+                if (height != rowHeight) {
+                    rowHeight = height;
+                    render();
+                }
+            }
+        }
+    }
+
+    private FinderRow<T> acquire(Entry<T> entry) {
+        FinderRow<T> row = recycled.poll();
+        if (row != null) {
+            row.rebind(entry.item, entry.pinned, entry.display);
+        } else {
+            row = new FinderRow<>(finder, column, entry.item, entry.pinned, entry.display, previewCallback);
+        }
+        return row;
+    }
+
+    private Entry<T> lastPinned() {
+        Entry<T> lastPinned = null;
+        for (Entry<T> entry : entries) {
+            if (!entry.pinned) {
+                break;
+            }
+            lastPinned = entry;
+        }
+        return lastPinned;
+    }
+
+    /**
+     * An item together with its display. The display is rendered exactly once per item. The index is the position of
+     * the item in the {@link FinderFilter}.
+     */
+    static class Entry<T> {
+
+        final int index;
+        final T item;
+        final ItemDisplay<T> display;
+        final String id;
+        boolean pinned;
+
+        Entry(int index, T item, ItemDisplay<T> display, boolean pinned) {
+            this.index = index;
+            this.item = item;
+            this.display = display;
+            this.id = Strings.sanitize(display.getId());
+            this.pinned = pinned;
+        }
+    }
+}
@@ -103,6 +103,12 @@ public class ModelNodeTable<T extends ModelNode> extends DataTable<T> {
         applySecurity();
     }
 
+    @Override
+    public void reconcile(Iterable<T> data, Function<T, String> identifier) {
+        super.reconcile(data, identifier);
+        applySecurity();
+    }
+
     private void checkIdentifier(T data) {
         if (data != null) {
             if (data.hasDefined(NAME)) {
@@ -26,6 +26,7 @@ import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.FlowStatus;
 import org.jboss.hal.flow.Progress;
+import org.jboss.hal.flow.Repeat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +57,7 @@ public class TimeoutHandler {
                 .while_(c -> c.pop(true))
                 .failFast(false)
                 .timeout(timeout * 1000L)
+                .onIteration(logIteration(operation))
                 .then(__ -> Promise.resolve(SUCCESS), error -> Promise.resolve(FlowStatus.fromError(error)));
     }
 
@@ -77,9 +79,16 @@ public class TimeoutHandler {
                 .while_(c -> c.pop(true))
                 .failFast(false)
                 .timeout(timeout * 1000L)
+                .onIteration(logIteration(composite))
                 .then(__ -> Promise.resolve(SUCCESS), error -> Promise.resolve(FlowStatus.fromError(error)));
     }
 
+    private static Repeat.IterationCallback logIteration(Operation operation) {
+        return (iteration, latency, delay, failed) -> logger.debug(
+                "Iteration {} of {} took {} ms ({}). Next iteration in {} ms", iteration, operation.asCli(), latency,
+                failed ? "failed" : "successful", delay);
+    }
+
     private TimeoutHandler() {
     }
 }
@@ -0,0 +1,203 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.jboss.hal.core.runtime.host.Host;
+import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.resources.Ids;
+
+import static java.util.stream.Collectors.toSet;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST_STATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.QUERY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SELECT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_CONFIG;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_STATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STATUS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND_STATE;
+
+/**
+ * Snapshot of the state attributes of all hosts and servers in the domain. Used to refresh the topology incrementally: Read
+ * the state using {@link #operation()}, and {@linkplain #update(Host) update} the cached hosts and servers. Only hosts and
+ * servers whose state has changed need to be rendered again.
+ * <p>
+ * The snapshot contains only the state attributes. If hosts or servers have been added or removed, the topology needs to be
+ * read again (see {@link #sameTopology(Collection, Collection)}).
+ */
+public class TopologyState {
+
+    private static final String WILDCARD = "*";
+    private static final String[] HOST_ATTRIBUTES = { HOST_STATE };
+    private static final String[] SERVER_CONFIG_ATTRIBUTES = { STATUS };
+    private static final String[] SERVER_ATTRIBUTES = { SERVER_STATE, SUSPEND_STATE };
+
+    /** Returns a composite operation which reads the state attributes of all hosts and servers. */
+    public static Composite operation() {
+        ResourceAddress hosts = new ResourceAddress().add(HOST, WILDCARD);
+        ResourceAddress serverConfigs = new ResourceAddress().add(HOST, WILDCARD).add(SERVER_CONFIG, WILDCARD);
+        ResourceAddress servers = new ResourceAddress().add(HOST, WILDCARD).add(SERVER, WILDCARD);
+        return new Composite(query(hosts, HOST_ATTRIBUTES), query(serverConfigs, SERVER_CONFIG_ATTRIBUTES),
+                query(servers, SERVER_ATTRIBUTES));
+    }
+
+    private static Operation query(ResourceAddress address, String[] attributes) {
+        ModelNode select = new ModelNode();
+        for (String attribute : attributes) {
+            select.add(attribute);
+        }
+        return new Operation.Builder(address, QUERY).param(SELECT, select).build();
+    }
+
+    private final Map<String, ModelNode> hosts;
+    private final Map<String, ModelNode> servers;
+
+    /** Creates the snapshot from the result of {@link #operation()}. */
+    public TopologyState(CompositeResult result) {
+        this.hosts = new HashMap<>();
+        this.servers = new HashMap<>();
+
+        for (ModelNode node : result.step(0).get(RESULT).asList()) {
+            if (!node.isFailure()) {
+                String host = new ResourceAddress(node.get(ADDRESS)).lastValue();
+                hosts.put(host, state(node.get(RESULT), HOST_ATTRIBUTES));
+            }
+        }
+        // server-config first: servers are only part of the snapshot, if there's a server config
+        for (ModelNode node : result.step(1).get(RESULT).asList()) {
+            if (!node.isFailure()) {
+                servers.put(serverId(node), state(node.get(RESULT), SERVER_CONFIG_ATTRIBUTES));
+            }
+        }
+        for (ModelNode node : result.step(2).get(RESULT).asList()) {
+            if (!node.isFailure()) {
+                ModelNode state = servers.get(serverId(node));
+                if (state != null) {
+                    ModelNode serverState = state(node.get(RESULT), SERVER_ATTRIBUTES);
+                    for (String attribute : SERVER_ATTRIBUTES) {
+                        if (serverState.hasDefined(attribute)) {
+                            state.get(attribute).set(serverState.get(attribute));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private String serverId(ModelNode node) {
+        ResourceAddress address = new ResourceAddress(node.get(ADDRESS));
+        return Ids.hostServer(address.getParent().lastValue(), address.lastValue());
+    }
+
+    private ModelNode state(ModelNode node, String[] attributes) {
+        ModelNode state = new ModelNode().setEmptyObject();
+        for (String attribute : attributes) {
+            if (node.hasDefined(attribute)) {
+                state.get(attribute).set(node.get(attribute));
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Returns the state attributes of the specified server or {@code null} if the server is not part of this snapshot.
+     *
+     * @param serverId the server id as returned by {@link Server#getId()}
+     */
+    public ModelNode serverState(String serverId) {
+        return servers.get(serverId);
+    }
+
+    /**
+     * Checks whether this snapshot contains the same hosts and servers as the specified hosts and servers. Disconnected,
+     * booting and failed hosts are not considered, since their state cannot be read.
+     */
+    public boolean sameTopology(Collection<Host> hosts, Collection<Server> servers) {
+        Set<String> hostNames = hosts.stream()
+                .filter(host -> host.isAlive() && !host.isFailed())
+                .map(Host::getAddressName)
+                .collect(toSet());
+        Set<String> serverIds = servers.stream().map(Server::getId).collect(toSet());
+        return sameTopology(hostNames, serverIds);
+    }
+
+    boolean sameTopology(Set<String> hostNames, Set<String> serverIds) {
+        return hosts.keySet().equals(hostNames) && servers.keySet().equals(serverIds);
+    }
+
+    /**
+     * Copies the state attributes of this snapshot to the specified host.
+     *
+     * @return {@code true} if the state of the host has changed, {@code false} otherwise
+     */
+    public boolean update(Host host) {
+        return updateHost(host.getAddressName(), host);
+    }
+
+    boolean updateHost(String hostName, ModelNode host) {
+        ModelNode state = hosts.get(hostName);
+        return state != null && update(host, state, HOST_ATTRIBUTES);
+    }
+
+    /**
+     * Copies the state attributes of this snapshot to the specified server.
+     *
+     * @return {@code true} if the state of the server has changed, {@code false} otherwise
+     */
+    public boolean update(Server server) {
+        return updateServer(server.getId(), server);
+    }
+
+    boolean updateServer(String serverId, ModelNode server) {
+        ModelNode state = servers.get(serverId);
+        if (state != null) {
+            boolean serverConfigChanged = update(server, state, SERVER_CONFIG_ATTRIBUTES);
+            boolean serverChanged = update(server, state, SERVER_ATTRIBUTES);
+            return serverConfigChanged || serverChanged;
+        }
+        return false;
+    }
+
+    private boolean update(ModelNode node, ModelNode state, String[] attributes) {
+        boolean changed = false;
+        for (String attribute : attributes) {
+            String oldValue = node.hasDefined(attribute) ? node.get(attribute).asString() : null;
+            String newValue = state.hasDefined(attribute) ? state.get(attribute).asString() : null;
+            if (!Objects.equals(oldValue, newValue)) {
+                changed = true;
+                if (newValue != null) {
+                    node.get(attribute).set(state.get(attribute));
+                } else {
+                    node.remove(attribute);
+                }
+            }
+        }
+        return changed;
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.ballroom.dialog.DialogFactory;
@@ -53,6 +54,7 @@ import elemental2.promise.Promise;
 import static java.lang.Math.max;
 import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
 import static java.util.function.UnaryOperator.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -100,6 +102,7 @@ public final class TopologyTasks {
     private static final String HOST_NAMES = "topologyTasks.hostNames"; // List<String>
     private static final String WILDCARD = "*";
     private static final int OPERATION_TIMEOUT = 3; // seconds
+    private static final int HOST_CONCURRENCY = 8;
     private static final Logger logger = LoggerFactory.getLogger(TopologyTasks.class);
 
     // ------------------------------------------------------ topology
@@ -394,49 +397,61 @@ public final class TopologyTasks {
                 return Promise.resolve(context);
             } else {
                 List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress hostAddress = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host);
-                            Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            ResourceAddress serverConfigAddress = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(SERVER_CONFIG, WILDCARD);
-                            Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
-                                    READ_RESOURCE_OPERATION)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            Composite composite = new Composite(hostOperation, serverConfigOperation);
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(composite)
-                                    .then(result -> {
-                                        Host h = new Host(result.step(0).get(RESULT));
-                                        hosts.add(h);
-
-                                        List<ModelNode> nodes = result.step(1).get(RESULT).asList();
-                                        nodes.stream()
-                                                .filter(node -> !node.isFailure())
-                                                .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
-                                                .forEach(server -> {
-                                                    h.addServer(server);
-                                                    servers.add(server);
-                                                });
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.HostsAndServerConfigs failed: {}", error);
-                                        Host h = String.valueOf(error).contains(ERROR_WFY_CTL_0379)
-                                                ? Host.booting(host)
-                                                : Host.failed(host);
-                                        hosts.add(h);
-                                        return context.reject(String.valueOf(error));
-                                    });
-                        })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
+                // the hosts are read concurrently, but added in the order of the host names
+                Host[] hostsInOrder = new Host[hostNames.size()];
+                List<List<Server>> serversPerHost = new ArrayList<>();
+                List<Task<FlowContext>> tasks = new ArrayList<>();
+                for (int i = 0; i < hostNames.size(); i++) {
+                    int index = i;
+                    String host = hostNames.get(i);
+                    List<Server> serversOfHost = new ArrayList<>();
+                    serversPerHost.add(serversOfHost);
+
+                    ResourceAddress hostAddress = new ResourceAddress().add(ModelDescriptionConstants.HOST, host);
+                    Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
+                            .param(INCLUDE_RUNTIME, true)
+                            .build();
+                    ResourceAddress serverConfigAddress = new ResourceAddress()
+                            .add(ModelDescriptionConstants.HOST, host)
+                            .add(SERVER_CONFIG, WILDCARD);
+                    Operation serverConfigOperation = new Operation.Builder(serverConfigAddress, READ_RESOURCE_OPERATION)
+                            .param(INCLUDE_RUNTIME, true)
+                            .build();
+                    Composite composite = new Composite(hostOperation, serverConfigOperation);
+                    tasks.add(c -> dispatcher.execute(composite)
+                            .then(result -> {
+                                Host h = new Host(result.step(0).get(RESULT));
+                                hostsInOrder[index] = h;
+
+                                List<ModelNode> nodes = result.step(1).get(RESULT).asList();
+                                nodes.stream()
+                                        .filter(node -> !node.isFailure())
+                                        .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
+                                        .forEach(server -> {
+                                            h.addServer(server);
+                                            serversOfHost.add(server);
+                                        });
+                                return Promise.resolve(c);
+                            })
+                            .catch_(error -> {
+                                logger.error("TopologyTasks.HostsAndServerConfigs failed for host {}: {}", host, error);
+                                hostsInOrder[index] = String.valueOf(error).contains(ERROR_WFY_CTL_0379)
+                                        ? Host.booting(host)
+                                        : Host.failed(host);
+                                return c.reject(String.valueOf(error));
+                            }));
+                }
+                return Flow.concurrent(new FlowContext(Progress.NOOP), tasks, HOST_CONCURRENCY)
                         .failFast(false)
-                        .promise();
+                        .then(__ -> {
+                            for (Host host : hostsInOrder) {
+                                if (host != null) {
+                                    hosts.add(host);
+                                }
+                            }
+                            serversPerHost.forEach(servers::addAll);
+                            return Promise.resolve(context);
+                        });
             }
         }
     }
@@ -601,36 +616,14 @@ public final class TopologyTasks {
                 return Promise.resolve(context);
             } else {
                 List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress address = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(SERVER_CONFIG, WILDCARD);
-                            Operation operation = new Operation.Builder(address, QUERY)
-                                    .param(WHERE, new ModelNode().set(GROUP, serverGroup))
-                                    .build();
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(operation)
-                                    .then(result -> {
-                                        result.asList().stream()
-                                                .filter(modelNode -> !modelNode.isFailure())
-                                                .map(modelNode -> {
-                                                    ResourceAddress adr = new ResourceAddress(
-                                                            modelNode.get(ADDRESS));
-                                                    String h = adr.getParent().lastValue();
-                                                    return new Server(h, modelNode.get(RESULT));
-                                                })
-                                                .forEach(servers::add);
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.ServersOfServerGroup failed: {}", error);
-                                        return Promise.resolve(c);
-                                    });
-                        })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
-                        .failFast(false)
-                        .promise();
+                return queryServers(context, dispatcher, hostNames, "ServersOfServerGroup", host -> {
+                    ResourceAddress address = new ResourceAddress()
+                            .add(ModelDescriptionConstants.HOST, host)
+                            .add(SERVER_CONFIG, WILDCARD);
+                    return new Operation.Builder(address, QUERY)
+                            .param(WHERE, new ModelNode().set(GROUP, serverGroup))
+                            .build();
+                }, servers);
             }
         }
     }
@@ -657,49 +650,27 @@ public final class TopologyTasks {
                 return Promise.resolve(context);
             } else {
                 List<String> hostNames = context.get(HOST_NAMES);
-                List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress address = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(SERVER, WILDCARD);
-                            // Note for mixed domains with servers w/o support for SUSPEND_STATE attribute:
-                            // The query operation won't fail, instead the unsupported attributes just won't be
-                            // part of the response payload (kudos to the guy who implemented the query operation!)
-                            Operation operation = new Operation.Builder(address, QUERY)
-                                    .param(SELECT, new ModelNode()
-                                            .add(ModelDescriptionConstants.HOST)
-                                            .add(LAUNCH_TYPE)
-                                            .add(NAME)
-                                            .add(PROFILE_NAME)
-                                            .add(RUNNING_MODE)
-                                            .add(ModelDescriptionConstants.SERVER_GROUP)
-                                            .add(SERVER_STATE)
-                                            .add(SUSPEND_STATE)
-                                            .add("uuid")) // NON-NLS
-                                    .param(WHERE, query)
-                                    .build();
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(operation)
-                                    .then(result -> {
-                                        result.asList().stream()
-                                                .filter(modelNode -> !modelNode.isFailure())
-                                                .map(modelNode -> {
-                                                    ResourceAddress adr = new ResourceAddress(
-                                                            modelNode.get(ADDRESS));
-                                                    String h = adr.getParent().lastValue();
-                                                    return new Server(h, modelNode.get(RESULT));
-                                                })
-                                                .forEach(servers::add);
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.RunningServers failed: {}", error);
-                                        return Promise.resolve(c);
-                                    });
-                        })
-                        .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
-                        .failFast(false)
-                        .promise();
+                return queryServers(context, dispatcher, hostNames, "RunningServers", host -> {
+                    ResourceAddress address = new ResourceAddress()
+                            .add(ModelDescriptionConstants.HOST, host)
+                            .add(SERVER, WILDCARD);
+                    // Note for mixed domains with servers w/o support for SUSPEND_STATE attribute:
+                    // The query operation won't fail, instead the unsupported attributes just won't be
+                    // part of the response payload (kudos to the guy who implemented the query operation!)
+                    return new Operation.Builder(address, QUERY)
+                            .param(SELECT, new ModelNode()
+                                    .add(ModelDescriptionConstants.HOST)
+                                    .add(LAUNCH_TYPE)
+                                    .add(NAME)
+                                    .add(PROFILE_NAME)
+                                    .add(RUNNING_MODE)
+                                    .add(ModelDescriptionConstants.SERVER_GROUP)
+                                    .add(SERVER_STATE)
+                                    .add(SUSPEND_STATE)
+                                    .add("uuid")) // NON-NLS
+                            .param(WHERE, query)
+                            .build();
+                }, servers);
             }
         }
     }
@@ -769,6 +740,61 @@ public final class TopologyTasks {
         }
     }
 
+    // ------------------------------------------------------ helper methods
+
+    /**
+     * Executes the query operation returned by {@code query} for all hosts at once using {@value #WILDCARD} as host name. If
+     * that fails, the query is executed per host with bounded concurrency, so that a failing host does not hide the servers
+     * of the other hosts.
+     */
+    private static Promise<FlowContext> queryServers(FlowContext context, Dispatcher dispatcher, List<String> hostNames,
+            String task, Function<String, Operation> query, List<Server> servers) {
+        return dispatcher.execute(query.apply(WILDCARD))
+                .then(result -> {
+                    List<Server> queried = parseServers(result);
+                    // keep the order of the host names
+                    queried.sort(comparingInt(server -> hostNames.indexOf(server.getHost())));
+                    servers.addAll(queried);
+                    return Promise.resolve(context);
+                })
+                .catch_(error -> {
+                    logger.warn("TopologyTasks.{} failed for all hosts: {}. Fall back to one query per host.", task,
+                            error);
+                    List<List<Server>> serversPerHost = new ArrayList<>();
+                    List<Task<FlowContext>> tasks = new ArrayList<>();
+                    for (String host : hostNames) {
+                        List<Server> serversOfHost = new ArrayList<>();
+                        serversPerHost.add(serversOfHost);
+                        tasks.add(c -> dispatcher.execute(query.apply(host))
+                                .then(result -> {
+                                    serversOfHost.addAll(parseServers(result));
+                                    return Promise.resolve(c);
+                                })
+                                .catch_(e -> {
+                                    logger.error("TopologyTasks.{} failed for host {}: {}", task, host, e);
+                                    return Promise.resolve(c);
+                                }));
+                    }
+                    return Flow.concurrent(new FlowContext(Progress.NOOP), tasks, HOST_CONCURRENCY)
+                            .failFast(false)
+                            .then(__ -> {
+                                serversPerHost.forEach(servers::addAll);
+                                return Promise.resolve(context);
+                            });
+                });
+    }
+
+    private static List<Server> parseServers(ModelNode result) {
+        return result.asList().stream()
+                .filter(modelNode -> !modelNode.isFailure())
+                .map(modelNode -> {
+                    ResourceAddress address = new ResourceAddress(modelNode.get(ADDRESS));
+                    String host = address.getParent().lastValue();
+                    return new Server(host, modelNode.get(RESULT));
+                })
+                .collect(toList());
+    }
+
     private TopologyTasks() {
     }
 }
@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Periodically samples the attributes of all active {@link Sampler}s. All samplers are read using one composite operation
+ * per tick, so the number of requests doesn't grow with the number of charts. The loop runs only as long as there are
+ * active samplers and never has more than one request in flight.
+ * <p>
+ * If the composite operation fails (e.g. because the resource of one sampler has been removed in the meantime), the
+ * samplers are read one by one, so that one failing sampler doesn't stall the others. Samplers which cannot be read are
+ * paused for an increasing number of ticks and left out of the composite operation in the meantime. Thus a failing
+ * sampler doesn't cause a failed composite and a fallback to single reads on every tick.
+ */
+public class MetricsSampler {
+
+    static final long INTERVAL = 2_000; // milli seconds
+    private static final Logger logger = LoggerFactory.getLogger(MetricsSampler.class);
+
+    private final Dispatcher dispatcher;
+    private final Set<Sampler> samplers;
+    private boolean sampling;
+
+    @Inject
+    public MetricsSampler(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.samplers = new LinkedHashSet<>();
+        this.sampling = false;
+    }
+
+    /** Starts the sampler. The first sample is read immediately. Starting an active sampler has no effect. */
+    public void start(Sampler sampler) {
+        if (samplers.add(sampler)) {
+            sampler.resetFailures();
+            logger.debug("Start {}. {} active sampler(s)", sampler, samplers.size());
+            if (!sampling) {
+                sampling = true;
+                tick();
+            }
+        }
+    }
+
+    /** Stops the sampler. The samples are kept until the sampler is {@linkplain Sampler#clear() cleared}. */
+    public void stop(Sampler sampler) {
+        if (samplers.remove(sampler)) {
+            logger.debug("Stop {}. {} active sampler(s)", sampler, samplers.size());
+        }
+    }
+
+    private void schedule() {
+        if (samplers.isEmpty()) {
+            sampling = false;
+        } else {
+            setTimeout(__ -> tick(), INTERVAL);
+        }
+    }
+
+    private void tick() {
+        if (samplers.isEmpty()) {
+            sampling = false;
+            return;
+        }
+
+        List<Sampler> current = new ArrayList<>();
+        for (Sampler sampler : samplers) {
+            if (sampler.due()) {
+                current.add(sampler);
+            }
+        }
+        if (current.isEmpty()) {
+            // all samplers are paused
+            schedule();
+            return;
+        }
+
+        long timestamp = System.currentTimeMillis();
+        Promise<?> promise;
+        if (current.size() == 1) {
+            promise = sampleOne(current.get(0), timestamp);
+        } else {
+            Composite composite = new Composite();
+            current.forEach(sampler -> composite.add(sampler.operation()));
+            promise = dispatcher.execute(composite)
+                    .then(result -> {
+                        for (int i = 0; i < current.size(); i++) {
+                            sample(current.get(i), timestamp, result.step(i).get(RESULT));
+                        }
+                        return null;
+                    })
+                    .catch_(error -> {
+                        logger.debug("Unable to read {} samplers in one go: {}. Fall back to read them one by one",
+                                current.size(), error);
+                        return sampleEach(current, timestamp);
+                    });
+        }
+        promise.finally_(this::schedule);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Promise<Object> sampleEach(List<Sampler> samplers, long timestamp) {
+        Promise<Object>[] promises = samplers.stream().map(sampler -> sampleOne(sampler, timestamp))
+                .toArray(Promise[]::new);
+        return Promise.all(promises).then(__ -> null);
+    }
+
+    private Promise<Object> sampleOne(Sampler sampler, long timestamp) {
+        return dispatcher.execute(sampler.operation())
+                .then(result -> {
+                    sample(sampler, timestamp, result);
+                    return null;
+                })
+                .catch_(error -> {
+                    sampler.failed();
+                    logger.debug("Unable to read {}: {}", sampler, error);
+                    return null;
+                });
+    }
+
+    private void sample(Sampler sampler, long timestamp, ModelNode resource) {
+        // the sampler might have been stopped while the operation was in flight
+        if (samplers.contains(sampler)) {
+            sampler.resetFailures();
+            sampler.sample(timestamp, resource);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime.metrics;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Fixed-size buffer of timestamped samples. Once the buffer is full, adding a sample overwrites the oldest one. Values and
+ * timestamps are kept in primitive arrays, so adding a sample doesn't allocate any memory.
+ */
+public class RingBuffer {
+
+    private final double[] values;
+    private final long[] timestamps;
+    private int head; // index of the next sample
+    private int size;
+
+    public RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than 0: " + capacity);
+        }
+        this.values = new double[capacity];
+        this.timestamps = new long[capacity];
+        this.head = 0;
+        this.size = 0;
+    }
+
+    public void add(long timestamp, double value) {
+        values[head] = value;
+        timestamps[head] = timestamp;
+        head = (head + 1) % values.length;
+        if (size < values.length) {
+            size++;
+        }
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /** @return the most recent value */
+    public double last() {
+        if (size == 0) {
+            throw new NoSuchElementException("Ring buffer is empty");
+        }
+        return values[(head - 1 + values.length) % values.length];
+    }
+
+    /** @return a copy of the values, oldest first */
+    public double[] values() {
+        double[] copy = new double[size];
+        int start = start();
+        for (int i = 0; i < size; i++) {
+            copy[i] = values[(start + i) % values.length];
+        }
+        return copy;
+    }
+
+    /** @return a copy of the timestamps, oldest first */
+    public long[] timestamps() {
+        long[] copy = new long[size];
+        int start = start();
+        for (int i = 0; i < size; i++) {
+            copy[i] = timestamps[(start + i) % timestamps.length];
+        }
+        return copy;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int start() {
+        return (head - size + values.length) % values.length;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+
+/**
+ * Samples numeric attributes of one resource. Each attribute keeps its samples in a {@link RingBuffer}. Gauges store the
+ * value as is, counters store the difference to the previous sample, which makes them suitable for rates like requests per
+ * interval.
+ * <p>
+ * Samplers are started and stopped using {@link MetricsSampler}. Use {@link Builder#onSample(Consumer)} to get notified
+ * about new samples, e.g. to update a chart.
+ */
+public class Sampler {
+
+    public static final int DEFAULT_CAPACITY = 60;
+    static final int MAX_PAUSE = 16; // ticks
+
+    private final ResourceAddress address;
+    private final Map<String, Attribute> attributes;
+    private final Consumer<Sampler> callback;
+    private final Operation operation;
+    private int failures;
+    private int pause;
+
+    private Sampler(Builder builder) {
+        this.address = builder.address;
+        this.attributes = new LinkedHashMap<>();
+        builder.attributes.forEach((name, counter) -> attributes.put(name, new Attribute(counter, builder.capacity)));
+        this.callback = builder.callback;
+        this.operation = new Operation.Builder(address, READ_RESOURCE_OPERATION).param(INCLUDE_RUNTIME, true).build();
+        this.failures = 0;
+        this.pause = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Sampler(" + address + ", " + attributes.keySet() + ")";
+    }
+
+    void sample(long timestamp, ModelNode resource) {
+        attributes.forEach((name, attribute) -> attribute.sample(timestamp, resource.get(name)));
+        if (callback != null) {
+            callback.accept(this);
+        }
+    }
+
+    Operation operation() {
+        return operation;
+    }
+
+    /**
+     * @return whether the sampler should be read in the current tick. Counts down the pause after failed reads.
+     */
+    boolean due() {
+        if (pause > 0) {
+            pause--;
+            return false;
+        }
+        return true;
+    }
+
+    /** Pauses the sampler for 1, 2, 4, ... and at most {@value #MAX_PAUSE} ticks after consecutive failed reads. */
+    void failed() {
+        failures++;
+        pause = Math.min(1 << Math.min(failures - 1, 30), MAX_PAUSE);
+    }
+
+    void resetFailures() {
+        failures = 0;
+        pause = 0;
+    }
+
+    public ResourceAddress address() {
+        return address;
+    }
+
+    /** @return the buffer of the specified attribute or {@code null} if the attribute is not sampled */
+    public RingBuffer buffer(String attribute) {
+        Attribute a = attributes.get(attribute);
+        return a != null ? a.buffer : null;
+    }
+
+    /** @return the values of all attributes, oldest first. Undefined values are stored as {@link Double#NaN}. */
+    public Map<String, double[]> values() {
+        Map<String, double[]> values = new LinkedHashMap<>();
+        attributes.forEach((name, attribute) -> values.put(name, attribute.buffer.values()));
+        return values;
+    }
+
+    /** Removes all samples. */
+    public void clear() {
+        attributes.values().forEach(Attribute::clear);
+    }
+
+    private static class Attribute {
+
+        private final boolean counter;
+        private final RingBuffer buffer;
+        private double previous;
+
+        private Attribute(boolean counter, int capacity) {
+            this.counter = counter;
+            this.buffer = new RingBuffer(capacity);
+            this.previous = Double.NaN;
+        }
+
+        private void sample(long timestamp, ModelNode node) {
+            double value = node.isDefined() ? node.asDouble() : Double.NaN;
+            if (counter) {
+                double raw = value;
+                if (Double.isNaN(previous)) {
+                    // first sample (or previous one was undefined): no delta available yet
+                    previous = raw;
+                    return;
+                }
+                // a counter smaller than before means the statistics have been reset
+                value = raw >= previous ? raw - previous : raw;
+                previous = raw;
+            }
+            buffer.add(timestamp, value);
+        }
+
+        private void clear() {
+            buffer.clear();
+            previous = Double.NaN;
+        }
+    }
+
+    public static class Builder {
+
+        private final ResourceAddress address;
+        private final Map<String, Boolean> attributes;
+        private int capacity;
+        private Consumer<Sampler> callback;
+
+        public Builder(ResourceAddress address) {
+            this.address = address;
+            this.attributes = new LinkedHashMap<>();
+            this.capacity = DEFAULT_CAPACITY;
+        }
+
+        /** Samples the attribute value as is. */
+        public Builder gauge(String attribute) {
+            attributes.put(attribute, false);
+            return this;
+        }
+
+        /** Samples the difference to the previous value of a monotonically increasing attribute. */
+        public Builder counter(String attribute) {
+            attributes.put(attribute, true);
+            return this;
+        }
+
+        /** The number of samples to keep per attribute. Defaults to {@value Sampler#DEFAULT_CAPACITY}. */
+        public Builder capacity(int capacity) {
+            this.capacity = capacity;
+            return this;
+        }
+
+        public Builder onSample(Consumer<Sampler> callback) {
+            this.callback = callback;
+            return this;
+        }
+
+        public Sampler build() {
+            return new Sampler(this);
+        }
+    }
+}
@@ -17,7 +17,6 @@ package org.jboss.hal.core.runtime.server;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -82,6 +81,7 @@ import elemental2.promise.Promise;
 
 import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.p;
 import static org.jboss.elemento.Elements.span;
@@ -127,7 +127,6 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.SOCKET_BINDING_PORT_OF
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SSL;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.START;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.START_MODE;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.STATUS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.STOP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND_STATE;
@@ -163,12 +162,14 @@ public class ServerActions implements Timeouts {
     private final Resources resources;
     private final Map<String, Server> pendingServers;
     private final ServerUrlStorage serverUrlStorage;
+    private final ServerStateWatcher serverStateWatcher;
     private final StatementContext statementContext;
 
     @Inject
     public ServerActions(EventBus eventBus,
             Dispatcher dispatcher,
             ServerUrlStorage serverUrlStorage,
+            ServerStateWatcher serverStateWatcher,
             StatementContext statementContext,
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
@@ -176,6 +177,7 @@ public class ServerActions implements Timeouts {
         this.eventBus = eventBus;
         this.dispatcher = dispatcher;
         this.serverUrlStorage = serverUrlStorage;
+        this.serverStateWatcher = serverStateWatcher;
         this.statementContext = statementContext;
         this.metadataProcessor = metadataProcessor;
         this.progress = progress;
@@ -371,10 +373,9 @@ public class ServerActions implements Timeouts {
         DialogFactory.showConfirmation(title, question, () -> {
             prepare(server, action);
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher,
-                            server.isStandalone() ? readServerState(server) : readServerConfigStatus(server),
-                            server.isStandalone() ? checkRunningState() : checkServerConfigStatus(STARTED),
-                            timeout))
+                    .then(__ -> server.isStandalone()
+                            ? repeatOperationUntil(dispatcher, readServerState(server), checkRunningState(), timeout)
+                            : serverStateWatcher.waitUntilStatus(singletonList(server), timeout, STARTED))
                     .then(status -> finish(server, action, status, successMessage, timeoutMessage, errorMessage))
                     .catch_(error -> finish(server, FAILURE, Message.error(errorMessage, String.valueOf(error))));
         });
@@ -408,8 +409,11 @@ public class ServerActions implements Timeouts {
                                 .param(SUSPEND_TIMEOUT, timeout)
                                 .build();
                         dispatcher.execute(operation)
-                                .then(__ -> repeatOperationUntil(dispatcher,
-                                        readSuspendState(server), checkSuspendState(), uiTimeout))
+                                .then(__ -> server.isStandalone()
+                                        ? repeatOperationUntil(dispatcher, readSuspendState(server),
+                                                checkSuspendState(), uiTimeout)
+                                        : serverStateWatcher.waitUntilSuspendState(singletonList(server), uiTimeout,
+                                                SuspendState.SUSPENDED))
                                 .then(status -> finish(server, Action.SUSPEND, status,
                                         resources.messages().suspendServerSuccess(server.getName()),
                                         resources.messages().serverTimeout(server.getName()),
@@ -440,10 +444,10 @@ public class ServerActions implements Timeouts {
         ResourceAddress address = server.isStandalone() ? server.getServerAddress() : server.getServerConfigAddress();
         Operation operation = new Operation.Builder(address, RESUME).build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher,
-                        server.isStandalone() ? readServerState(server) : readServerConfigStatus(server),
-                        server.isStandalone() ? checkRunningState() : checkServerConfigStatus(STARTED),
-                        SERVER_START_TIMEOUT))
+                .then(__ -> server.isStandalone()
+                        ? repeatOperationUntil(dispatcher, readServerState(server), checkRunningState(),
+                                SERVER_START_TIMEOUT)
+                        : serverStateWatcher.waitUntilStatus(singletonList(server), SERVER_START_TIMEOUT, STARTED))
                 .then(status -> finish(server, Action.RESUME, status,
                         resources.messages().resumeServerSuccess(server.getName()),
                         resources.messages().serverTimeout(server.getName()),
@@ -478,10 +482,8 @@ public class ServerActions implements Timeouts {
                                         .param(BLOCKING, false)
                                         .build();
                                 dispatcher.execute(operation)
-                                        .then(__ -> repeatOperationUntil(dispatcher,
-                                                readServerConfigStatus(server),
-                                                checkServerConfigStatus(STOPPED, DISABLED),
-                                                uiTimeout))
+                                        .then(__ -> serverStateWatcher.waitUntilStatus(singletonList(server), uiTimeout,
+                                                STOPPED, DISABLED))
                                         .then(status -> finish(server, Action.STOP, status,
                                                 resources.messages().stopServerSuccess(server.getName()),
                                                 resources.messages().serverTimeout(server.getName()),
@@ -511,8 +513,8 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                        checkServerConfigStatus(STOPPED, DISABLED), SERVER_STOP_TIMEOUT))
+                .then(__ -> serverStateWatcher.waitUntilStatus(singletonList(server), SERVER_STOP_TIMEOUT,
+                        STOPPED, DISABLED))
                 .then(status -> finish(server, Action.STOP, status,
                         resources.messages().stopServerSuccess(server.getName()),
                         resources.messages().serverTimeout(server.getName()),
@@ -528,8 +530,8 @@ public class ServerActions implements Timeouts {
             prepare(server, Action.DESTROY);
             Operation operation = new Operation.Builder(server.getServerConfigAddress(), DESTROY).build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                            checkServerConfigStatus(STOPPED, DISABLED), SERVER_DESTROY_TIMEOUT))
+                    .then(__ -> serverStateWatcher.waitUntilStatus(singletonList(server), SERVER_DESTROY_TIMEOUT,
+                            STOPPED, DISABLED))
                     .then(status -> finish(server, Action.DESTROY, status,
                             resources.messages().destroyServerSuccess(server.getName()),
                             resources.messages().serverTimeout(server.getName()),
@@ -545,8 +547,8 @@ public class ServerActions implements Timeouts {
             prepare(server, Action.KILL);
             Operation operation = new Operation.Builder(server.getServerConfigAddress(), KILL).build();
             dispatcher.execute(operation)
-                    .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                            checkServerConfigStatus(STOPPED, DISABLED), SERVER_KILL_TIMEOUT))
+                    .then(__ -> serverStateWatcher.waitUntilStatus(singletonList(server), SERVER_KILL_TIMEOUT,
+                            STOPPED, DISABLED))
                     .then(status -> finish(server, Action.KILL, status,
                             resources.messages().killServerSuccess(server.getName()),
                             resources.messages().serverTimeout(server.getName()),
@@ -562,8 +564,7 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                        checkServerConfigStatus(STARTED), SERVER_START_TIMEOUT))
+                .then(__ -> serverStateWatcher.waitUntilStatus(singletonList(server), SERVER_START_TIMEOUT, STARTED))
                 .then(status -> finish(server, Action.START, status,
                         resources.messages().startServerSuccess(server.getName()),
                         resources.messages().serverTimeout(server.getName()),
@@ -579,8 +580,7 @@ public class ServerActions implements Timeouts {
                 .param(BLOCKING, false)
                 .build();
         dispatcher.execute(operation)
-                .then(__ -> repeatOperationUntil(dispatcher, readServerConfigStatus(server),
-                        checkServerConfigStatus(STARTED), SERVER_START_TIMEOUT))
+                .then(__ -> serverStateWatcher.waitUntilStatus(singletonList(server), SERVER_START_TIMEOUT, STARTED))
                 .then(status -> finish(server, Action.START, status,
                         resources.messages().startServerSuccess(server.getName()),
                         resources.messages().serverTimeout(server.getName()),
@@ -773,25 +773,12 @@ public class ServerActions implements Timeouts {
         return pendingServers.containsKey(Ids.hostServer(server.getHost(), server.getName()));
     }
 
-    private Operation readServerConfigStatus(Server server) {
-        return new Operation.Builder(server.getServerConfigAddress(), READ_ATTRIBUTE_OPERATION)
-                .param(NAME, STATUS)
-                .build();
-    }
-
     private Operation readServerState(Server server) {
         return new Operation.Builder(server.getServerAddress(), READ_ATTRIBUTE_OPERATION)
                 .param(NAME, SERVER_STATE)
                 .build();
     }
 
-    private Predicate<ModelNode> checkServerConfigStatus(ServerConfigStatus first, ServerConfigStatus... rest) {
-        return result -> {
-            ServerConfigStatus status = asEnumValue(result, ServerConfigStatus::valueOf, ServerConfigStatus.UNDEFINED);
-            return EnumSet.of(first, rest).contains(status);
-        };
-    }
-
     private Predicate<ModelNode> checkRunningState() {
         return result -> RUNNING == asEnumValue(result, RunningState::valueOf, RunningState.UNDEFINED);
     }
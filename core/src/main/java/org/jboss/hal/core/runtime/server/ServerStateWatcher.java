@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime.server;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.core.runtime.SuspendState;
+import org.jboss.hal.core.runtime.TopologyState;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.flow.FlowStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STATUS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND_STATE;
+import static org.jboss.hal.dmr.ModelNodeHelper.asEnumValue;
+import static org.jboss.hal.flow.FlowStatus.SUCCESS;
+import static org.jboss.hal.flow.FlowStatus.TIMEOUT;
+
+/**
+ * Waits until servers in a domain reach a given state. All pending waits share one polling loop which reads the state of
+ * all servers using a single composite operation (see {@link TopologyState#operation()}). The loop runs only as long as
+ * there are pending waits.
+ */
+public class ServerStateWatcher {
+
+    private static final long INTERVAL = 1_000; // milli seconds
+    private static final Logger logger = LoggerFactory.getLogger(ServerStateWatcher.class);
+
+    private final Dispatcher dispatcher;
+    private final List<Waiter> waiters;
+    private int round;
+    private boolean polling;
+
+    @Inject
+    public ServerStateWatcher(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.waiters = new ArrayList<>();
+        this.round = 0;
+        this.polling = false;
+    }
+
+    /**
+     * Waits until all servers have one of the specified server config states.
+     *
+     * @param servers the servers to watch
+     * @param timeout the timeout in seconds
+     * @return a promise which resolves to {@link FlowStatus#SUCCESS} or {@link FlowStatus#TIMEOUT}
+     */
+    public Promise<FlowStatus> waitUntilStatus(List<Server> servers, int timeout, ServerConfigStatus first,
+            ServerConfigStatus... rest) {
+        EnumSet<ServerConfigStatus> states = EnumSet.of(first, rest);
+        return waitUntil(servers, state -> states.contains(
+                asEnumValue(state, STATUS, ServerConfigStatus::valueOf, ServerConfigStatus.UNDEFINED)), timeout);
+    }
+
+    /**
+     * Waits until all servers have the specified suspend state.
+     *
+     * @param servers the servers to watch
+     * @param timeout the timeout in seconds
+     * @return a promise which resolves to {@link FlowStatus#SUCCESS} or {@link FlowStatus#TIMEOUT}
+     */
+    public Promise<FlowStatus> waitUntilSuspendState(List<Server> servers, int timeout, SuspendState suspendState) {
+        return waitUntil(servers, state -> suspendState == asEnumValue(state, SUSPEND_STATE, SuspendState::valueOf,
+                SuspendState.UNDEFINED), timeout);
+    }
+
+    private Promise<FlowStatus> waitUntil(List<Server> servers, Predicate<ModelNode> predicate, int timeout) {
+        if (servers.isEmpty()) {
+            return Promise.resolve(SUCCESS);
+        }
+        return new Promise<>((resolve, reject) -> {
+            // only consider states which have been read after the wait has been registered
+            Waiter waiter = new Waiter(servers, predicate, round + 1, resolve);
+            waiter.timeoutHandle = setTimeout(__ -> {
+                if (waiters.remove(waiter)) {
+                    resolve.onInvoke(TIMEOUT);
+                }
+            }, timeout * 1000L);
+            waiters.add(waiter);
+            logger.debug("Wait for {} server(s) with {} seconds timeout. {} pending wait(s)", servers.size(), timeout,
+                    waiters.size());
+            schedule();
+        });
+    }
+
+    private void schedule() {
+        if (!polling && !waiters.isEmpty()) {
+            polling = true;
+            setTimeout(__ -> poll(), INTERVAL);
+        }
+    }
+
+    private void poll() {
+        int currentRound = ++round;
+        dispatcher.execute(TopologyState.operation())
+                .then(result -> {
+                    TopologyState state = new TopologyState(result);
+                    for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext();) {
+                        Waiter waiter = iterator.next();
+                        if (waiter.firstRound <= currentRound && waiter.reached(state)) {
+                            iterator.remove();
+                            clearTimeout(waiter.timeoutHandle);
+                            waiter.resolve.onInvoke(SUCCESS);
+                        }
+                    }
+                    return null;
+                })
+                .catch_(error -> {
+                    // the domain controller might be busy or restarting: keep on polling
+                    logger.debug("Unable to read server states: {}", error);
+                    return null;
+                })
+                .finally_(() -> {
+                    polling = false;
+                    schedule();
+                });
+    }
+
+    private static class Waiter {
+
+        private final List<String> serverIds;
+        private final Predicate<ModelNode> predicate;
+        private final int firstRound;
+        private final ResolveCallbackFn<FlowStatus> resolve;
+        private double timeoutHandle;
+
+        private Waiter(List<Server> servers, Predicate<ModelNode> predicate, int firstRound,
+                ResolveCallbackFn<FlowStatus> resolve) {
+            this.serverIds = new ArrayList<>();
+            this.predicate = predicate;
+            this.firstRound = firstRound;
+            this.resolve = resolve;
+            servers.forEach(server -> serverIds.add(server.getId()));
+        }
+
+        private boolean reached(TopologyState state) {
+            for (String serverId : serverIds) {
+                ModelNode serverState = state.serverState(serverId);
+                if (serverState == null || !predicate.test(serverState)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class FinderFilterTest {
+
+    private FinderFilter filter;
+
+    @Before
+    public void setUp() {
+        filter = new FinderFilter(Arrays.asList("ExampleDS", "jms-queue", null, "Example.war", "foo"));
+    }
+
+    @Test
+    public void initial() {
+        assertEquals(5, filter.size());
+        assertEquals(5, filter.count());
+        assertMatches(true, true, true, true, true);
+    }
+
+    @Test
+    public void caseInsensitive() {
+        assertTrue(filter.apply("EXAMPLE"));
+        assertEquals(3, filter.count());
+        assertMatches(true, false, true, true, false);
+    }
+
+    @Test
+    public void withoutFilterData() {
+        filter.apply("nothing");
+        assertEquals(1, filter.count());
+        assertMatches(false, false, true, false, false);
+    }
+
+    @Test
+    public void sameQuery() {
+        assertTrue(filter.apply("ex"));
+        assertFalse(filter.apply("ex"));
+        assertFalse(filter.apply("EX"));
+        assertEquals(3, filter.count());
+    }
+
+    @Test
+    public void refine() {
+        filter.apply("e");
+        assertEquals(4, filter.count());
+        filter.apply("ex");
+        assertEquals(3, filter.count());
+        filter.apply("exa.w");
+        assertEquals(1, filter.count());
+        assertMatches(false, false, true, false, false);
+        filter.apply("example.w");
+        assertEquals(2, filter.count());
+        assertMatches(false, false, true, true, false);
+    }
+
+    @Test
+    public void widen() {
+        filter.apply("example.war");
+        assertEquals(2, filter.count());
+        filter.apply("ex");
+        assertEquals(3, filter.count());
+        filter.apply("o");
+        assertEquals(2, filter.count());
+        assertMatches(false, false, true, false, true);
+    }
+
+    @Test
+    public void blank() {
+        filter.apply("jms");
+        assertEquals(2, filter.count());
+        assertTrue(filter.apply("   "));
+        assertEquals(5, filter.count());
+        assertFalse(filter.apply(null));
+        assertMatches(true, true, true, true, true);
+    }
+
+    private void assertMatches(boolean... expected) {
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals("Index " + i, expected[i], filter.matches(i));
+        }
+    }
+}
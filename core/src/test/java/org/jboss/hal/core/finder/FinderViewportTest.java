@@ -0,0 +1,145 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.function.Function.identity;
+import static org.jboss.hal.core.finder.FinderViewport.DEFAULT_VIEWPORT_ROWS;
+import static org.jboss.hal.core.finder.FinderViewport.OVERSCAN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class FinderViewportTest {
+
+    private static final int ROW_HEIGHT = 50;
+    private static final int CLIENT_HEIGHT = 500; // 10 rows
+
+    private FinderViewport<String> viewport;
+
+    @Before
+    public void setUp() {
+        viewport = new FinderViewport<>(identity());
+        viewport.show(rows(1000));
+    }
+
+    @Test
+    public void indexOf() {
+        assertEquals(0, viewport.indexOf("row-0"));
+        assertEquals(999, viewport.indexOf("row-999"));
+        assertEquals(-1, viewport.indexOf("foo"));
+    }
+
+    @Test
+    public void indexOfFiltered() {
+        viewport.show(asList("row-7", "row-42", "row-999"));
+        assertEquals(3, viewport.size());
+        assertEquals(1, viewport.indexOf("row-42"));
+        assertEquals(2, viewport.indexOf("row-999"));
+        assertEquals(-1, viewport.indexOf("row-0"));
+    }
+
+    @Test
+    public void top() {
+        viewport.layout(0, CLIENT_HEIGHT, ROW_HEIGHT);
+        assertEquals(0, viewport.from());
+        assertEquals(CLIENT_HEIGHT / ROW_HEIGHT + 1 + 2 * OVERSCAN, viewport.to());
+    }
+
+    @Test
+    public void middle() {
+        viewport.layout(500 * ROW_HEIGHT, CLIENT_HEIGHT, ROW_HEIGHT);
+        assertEquals(500 - OVERSCAN, viewport.from());
+        assertEquals(500 + CLIENT_HEIGHT / ROW_HEIGHT + 1 + OVERSCAN, viewport.to());
+    }
+
+    @Test
+    public void bottom() {
+        viewport.layout(1000 * ROW_HEIGHT - CLIENT_HEIGHT, CLIENT_HEIGHT, ROW_HEIGHT);
+        assertEquals(1000, viewport.to());
+        assertEquals(1000 - (CLIENT_HEIGHT / ROW_HEIGHT + 1 + 2 * OVERSCAN), viewport.from());
+    }
+
+    @Test
+    public void unknownHeight() {
+        viewport.layout(0, 0, ROW_HEIGHT);
+        assertEquals(0, viewport.from());
+        assertEquals(DEFAULT_VIEWPORT_ROWS + 2 * OVERSCAN, viewport.to());
+    }
+
+    @Test
+    public void fewRows() {
+        viewport.show(rows(5));
+        viewport.layout(0, CLIENT_HEIGHT, ROW_HEIGHT);
+        assertEquals(0, viewport.from());
+        assertEquals(5, viewport.to());
+
+        // scroll position out of range, e.g. after filtering
+        viewport.layout(800 * ROW_HEIGHT, CLIENT_HEIGHT, ROW_HEIGHT);
+        assertEquals(0, viewport.from());
+        assertEquals(5, viewport.to());
+    }
+
+    @Test
+    public void empty() {
+        viewport.show(new ArrayList<>());
+        viewport.layout(0, CLIENT_HEIGHT, ROW_HEIGHT);
+        assertEquals(0, viewport.from());
+        assertEquals(0, viewport.to());
+    }
+
+    @Test
+    public void scrollTop() {
+        double scrollTop = 100 * ROW_HEIGHT;
+
+        // inside the viewport: don't scroll
+        assertEquals(scrollTop, FinderViewport.scrollTop(105, scrollTop, CLIENT_HEIGHT, ROW_HEIGHT), 0);
+
+        // above the viewport: scroll up to the row
+        assertEquals(50 * ROW_HEIGHT, FinderViewport.scrollTop(50, scrollTop, CLIENT_HEIGHT, ROW_HEIGHT), 0);
+
+        // below the viewport: scroll down until the row is the last row of the viewport
+        assertEquals(201 * ROW_HEIGHT - CLIENT_HEIGHT,
+                FinderViewport.scrollTop(200, scrollTop, CLIENT_HEIGHT, ROW_HEIGHT), 0);
+
+        // unknown height
+        assertEquals(scrollTop, FinderViewport.scrollTop(200, scrollTop, 0, ROW_HEIGHT), 0);
+    }
+
+    @Test
+    public void revealedRowIsInWindow() {
+        double scrollTop = 0;
+        for (int index : new int[] { 999, 0, 500, 501, 123 }) {
+            scrollTop = FinderViewport.scrollTop(index, scrollTop, CLIENT_HEIGHT, ROW_HEIGHT);
+            viewport.layout(scrollTop, CLIENT_HEIGHT, ROW_HEIGHT);
+            assertTrue(index >= viewport.from() && index < viewport.to());
+        }
+    }
+
+    private List<String> rows(int count) {
+        List<String> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add("row-" + i);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.resources.Ids;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST_STATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_CONFIG;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_STATE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STATUS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUSPEND_STATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class TopologyStateTest {
+
+    private static final String PRIMARY = "primary";
+    private static final String SECONDARY = "secondary";
+    private static final String ONE = Ids.hostServer(PRIMARY, "server-one");
+    private static final String TWO = Ids.hostServer(SECONDARY, "server-two");
+
+    @Test
+    public void sameTopology() {
+        TopologyState state = state();
+        assertTrue(state.sameTopology(set(PRIMARY, SECONDARY), set(ONE, TWO)));
+    }
+
+    @Test
+    public void serverAdded() {
+        TopologyState state = state();
+        assertFalse(state.sameTopology(set(PRIMARY, SECONDARY), singleton(ONE)));
+    }
+
+    @Test
+    public void hostAdded() {
+        TopologyState state = state();
+        assertFalse(state.sameTopology(singleton(PRIMARY), set(ONE, TWO)));
+    }
+
+    @Test
+    public void serverWithoutConfig() {
+        // servers are only part of the snapshot, if there's a server config
+        TopologyState state = new TopologyState(result(singletonList(host(PRIMARY, "running")), emptyList(),
+                singletonList(server(PRIMARY, "server-one", "RUNNING"))));
+        assertNull(state.serverState(ONE));
+        assertTrue(state.sameTopology(singleton(PRIMARY), emptySet()));
+    }
+
+    @Test
+    public void ignoreFailures() {
+        ModelNode failed = new ModelNode();
+        failed.get(OUTCOME).set(FAILED);
+        failed.get(ADDRESS).set(new ResourceAddress().add(HOST, SECONDARY));
+        TopologyState state = new TopologyState(result(asList(host(PRIMARY, "running"), failed), emptyList(),
+                emptyList()));
+        assertTrue(state.sameTopology(singleton(PRIMARY), emptySet()));
+    }
+
+    @Test
+    public void unchanged() {
+        TopologyState state = state();
+        assertFalse(state.updateHost(PRIMARY, hostNode("running")));
+        assertFalse(state.updateServer(ONE, serverNode("started", "RUNNING")));
+        assertFalse(state.updateServer(TWO, serverNode("stopped", null)));
+    }
+
+    @Test
+    public void hostChanged() {
+        TopologyState state = state();
+        ModelNode host = hostNode("reload-required");
+        assertTrue(state.updateHost(PRIMARY, host));
+        assertEquals("running", host.get(HOST_STATE).asString());
+        assertFalse(state.updateHost(PRIMARY, host));
+    }
+
+    @Test
+    public void serverStarted() {
+        TopologyState state = state();
+        ModelNode server = serverNode("stopped", null);
+        assertTrue(state.updateServer(ONE, server));
+        assertEquals("started", server.get(STATUS).asString());
+        assertEquals("RUNNING", server.get(SERVER_STATE).asString());
+        assertEquals("RUNNING", server.get(SUSPEND_STATE).asString());
+        assertFalse(state.updateServer(ONE, server));
+    }
+
+    @Test
+    public void serverStopped() {
+        TopologyState state = state();
+        ModelNode server = serverNode("started", "RUNNING");
+        assertTrue(state.updateServer(TWO, server));
+        assertEquals("stopped", server.get(STATUS).asString());
+        assertFalse(server.hasDefined(SERVER_STATE));
+        assertFalse(server.hasDefined(SUSPEND_STATE));
+    }
+
+    @Test
+    public void unknown() {
+        TopologyState state = state();
+        ModelNode host = hostNode("running");
+        ModelNode server = serverNode("started", "RUNNING");
+        assertFalse(state.updateHost("unknown", host));
+        assertFalse(state.updateServer(Ids.hostServer(PRIMARY, "unknown"), server));
+        assertEquals("running", host.get(HOST_STATE).asString());
+        assertEquals("RUNNING", server.get(SERVER_STATE).asString());
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private TopologyState state() {
+        return new TopologyState(result(
+                asList(host(PRIMARY, "running"), host(SECONDARY, "running")),
+                asList(serverConfig(PRIMARY, "server-one", "started"), serverConfig(SECONDARY, "server-two", "stopped")),
+                singletonList(server(PRIMARY, "server-one", "RUNNING"))));
+    }
+
+    private CompositeResult result(List<ModelNode> hosts, List<ModelNode> serverConfigs, List<ModelNode> servers) {
+        ModelNode steps = new ModelNode();
+        steps.get("step-1").get(RESULT).set(hosts);
+        steps.get("step-2").get(RESULT).set(serverConfigs);
+        steps.get("step-3").get(RESULT).set(servers);
+        return new CompositeResult(steps);
+    }
+
+    private ModelNode host(String host, String hostState) {
+        ModelNode node = success(new ResourceAddress().add(HOST, host));
+        node.get(RESULT).get(HOST_STATE).set(hostState);
+        return node;
+    }
+
+    private ModelNode serverConfig(String host, String server, String status) {
+        ModelNode node = success(new ResourceAddress().add(HOST, host).add(SERVER_CONFIG, server));
+        node.get(RESULT).get(STATUS).set(status);
+        return node;
+    }
+
+    private ModelNode server(String host, String server, String serverState) {
+        ModelNode node = success(new ResourceAddress().add(HOST, host).add(SERVER, server));
+        node.get(RESULT).get(SERVER_STATE).set(serverState);
+        node.get(RESULT).get(SUSPEND_STATE).set("RUNNING");
+        return node;
+    }
+
+    private ModelNode success(ResourceAddress address) {
+        ModelNode node = new ModelNode();
+        node.get(OUTCOME).set(SUCCESS);
+        node.get(ADDRESS).set(address);
+        return node;
+    }
+
+    private ModelNode hostNode(String hostState) {
+        ModelNode node = new ModelNode();
+        node.get(HOST_STATE).set(hostState);
+        return node;
+    }
+
+    private ModelNode serverNode(String status, String serverState) {
+        ModelNode node = new ModelNode();
+        node.get(STATUS).set(status);
+        if (serverState != null) {
+            node.get(SERVER_STATE).set(serverState);
+            node.get(SUSPEND_STATE).set("RUNNING");
+        }
+        return node;
+    }
+
+    private Set<String> set(String... values) {
+        return new HashSet<>(asList(values));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime.metrics;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RingBufferTest {
+
+    private static final double DELTA = 0.0001;
+
+    private RingBuffer buffer;
+
+    @Before
+    public void setUp() {
+        buffer = new RingBuffer(3);
+    }
+
+    @Test
+    public void empty() {
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.size());
+        assertEquals(3, buffer.capacity());
+        assertEquals(0, buffer.values().length);
+        assertEquals(0, buffer.timestamps().length);
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void emptyLast() {
+        buffer.last();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegalCapacity() {
+        new RingBuffer(0);
+    }
+
+    @Test
+    public void partial() {
+        buffer.add(1, 10);
+        buffer.add(2, 20);
+
+        assertEquals(2, buffer.size());
+        assertEquals(20, buffer.last(), DELTA);
+        assertArrayEquals(new double[] { 10, 20 }, buffer.values(), DELTA);
+        assertArrayEquals(new long[] { 1, 2 }, buffer.timestamps());
+    }
+
+    @Test
+    public void wrapAround() {
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i, i * 10);
+        }
+
+        assertEquals(3, buffer.size());
+        assertEquals(50, buffer.last(), DELTA);
+        assertArrayEquals(new double[] { 30, 40, 50 }, buffer.values(), DELTA);
+        assertArrayEquals(new long[] { 3, 4, 5 }, buffer.timestamps());
+    }
+
+    @Test
+    public void clear() {
+        buffer.add(1, 10);
+        buffer.add(2, 20);
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+
+        buffer.add(3, 30);
+        assertArrayEquals(new double[] { 30 }, buffer.values(), DELTA);
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.runtime.metrics;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.core.runtime.metrics.Sampler.MAX_PAUSE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class SamplerTest {
+
+    private static final double DELTA = 0.0001;
+    private static final String GAUGE = "active-count";
+    private static final String COUNTER = "request-count";
+
+    private Sampler sampler;
+    private int callbacks;
+
+    @Before
+    public void setUp() {
+        callbacks = 0;
+        sampler = new Sampler.Builder(ResourceAddress.from("subsystem=undertow"))
+                .gauge(GAUGE)
+                .counter(COUNTER)
+                .capacity(5)
+                .onSample(s -> callbacks++)
+                .build();
+    }
+
+    @Test
+    public void gauge() {
+        sample(1, 3, 0);
+        sample(2, 5, 0);
+        sample(3, 2, 0);
+
+        assertArrayEquals(new double[] { 3, 5, 2 }, sampler.buffer(GAUGE).values(), DELTA);
+        assertArrayEquals(new long[] { 1, 2, 3 }, sampler.buffer(GAUGE).timestamps());
+        assertEquals(3, callbacks);
+    }
+
+    @Test
+    public void unknownAttribute() {
+        assertNull(sampler.buffer("foo"));
+    }
+
+    @Test
+    public void counterDelta() {
+        sample(1, 0, 100);
+        // the first sample has no delta
+        assertTrue(sampler.buffer(COUNTER).isEmpty());
+
+        sample(2, 0, 110);
+        sample(3, 0, 110);
+        sample(4, 0, 150);
+        assertArrayEquals(new double[] { 10, 0, 40 }, sampler.buffer(COUNTER).values(), DELTA);
+    }
+
+    @Test
+    public void counterReset() {
+        sample(1, 0, 100);
+        sample(2, 0, 120);
+        // statistics have been reset: the new value is the delta to zero
+        sample(3, 0, 7);
+        sample(4, 0, 9);
+        assertArrayEquals(new double[] { 20, 7, 2 }, sampler.buffer(COUNTER).values(), DELTA);
+    }
+
+    @Test
+    public void counterWrap() {
+        sample(1, 0, Integer.MAX_VALUE - 5);
+        sample(2, 0, Integer.MAX_VALUE);
+        // an overflowing counter starts again at a small value
+        sample(3, 0, 3);
+        for (double value : sampler.buffer(COUNTER).values()) {
+            assertTrue(value >= 0);
+        }
+        assertArrayEquals(new double[] { 5, 3 }, sampler.buffer(COUNTER).values(), DELTA);
+    }
+
+    @Test
+    public void undefined() {
+        sample(1, 0, 100);
+        sampler.sample(2, new ModelNode());
+        sample(3, 0, 130);
+        sample(4, 0, 140);
+
+        double[] gauge = sampler.buffer(GAUGE).values();
+        assertEquals(4, gauge.length);
+        assertTrue(Double.isNaN(gauge[1]));
+
+        // no delta across an undefined value: 130 is the new base value
+        double[] counter = sampler.buffer(COUNTER).values();
+        assertEquals(2, counter.length);
+        assertTrue(Double.isNaN(counter[0]));
+        assertEquals(10, counter[1], DELTA);
+    }
+
+    @Test
+    public void clear() {
+        sample(1, 1, 100);
+        sample(2, 2, 110);
+        sampler.clear();
+        assertTrue(sampler.buffer(GAUGE).isEmpty());
+        assertTrue(sampler.buffer(COUNTER).isEmpty());
+
+        // the counter needs a new base value after clear()
+        sample(3, 3, 500);
+        assertTrue(sampler.buffer(COUNTER).isEmpty());
+    }
+
+    @Test
+    public void pause() {
+        assertTrue(sampler.due());
+
+        sampler.failed();
+        assertEquals(1, skipped());
+
+        sampler.failed();
+        assertEquals(2, skipped());
+
+        sampler.failed();
+        assertEquals(4, skipped());
+
+        for (int i = 0; i < 10; i++) {
+            sampler.failed();
+        }
+        assertEquals(MAX_PAUSE, skipped());
+
+        sampler.failed();
+        sampler.resetFailures();
+        assertTrue(sampler.due());
+        sampler.failed();
+        assertEquals(1, skipped());
+    }
+
+    // ------------------------------------------------------ helper
+
+    private void sample(long timestamp, double gauge, double counter) {
+        ModelNode resource = new ModelNode();
+        resource.get(GAUGE).set(gauge);
+        resource.get(COUNTER).set(counter);
+        sampler.sample(timestamp, resource);
+    }
+
+    /** @return the number of ticks the sampler is paused */
+    private int skipped() {
+        int skipped = 0;
+        while (!sampler.due()) {
+            skipped++;
+        }
+        assertFalse(skipped > MAX_PAUSE);
+        return skipped;
+    }
+}
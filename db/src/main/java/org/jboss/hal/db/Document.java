@@ -15,6 +15,7 @@
  */
 package org.jboss.hal.db;
 
+import elemental2.dom.Blob;
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsType;
 import jsinterop.base.Js;
@@ -37,4 +38,16 @@ public interface Document extends JsPropertyMap<Object> {
     default String getId() {
         return getAsAny("_id").asString();
     }
+
+    /** @return the data of the attachment or {@code null} if there's no such attachment */
+    @JsOverlay
+    default Blob getAttachment(String name) {
+        if (has("_attachments")) {
+            JsPropertyMap<Object> attachments = getAsAny("_attachments").asPropertyMap();
+            if (attachments.has(name)) {
+                return Js.uncheckedCast(attachments.getAsAny(name).asPropertyMap().get("data"));
+            }
+        }
+        return null;
+    }
 }
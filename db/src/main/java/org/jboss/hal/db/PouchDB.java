@@ -42,11 +42,16 @@ public class PouchDB {
 
     public native Promise<Document> get(String id);
 
-    /** Returns the documents for the specified ids. Only documents with existing IDs will be returned. */
+    /**
+     * Returns the documents for the specified ids. Only documents with existing IDs will be returned. Attachments are
+     * included as {@code Blob}s.
+     */
     @JsOverlay
     public final Promise<List<Document>> getAll(Set<String> ids) {
         AllDocsOptions options = new AllDocsOptions();
         options.include_docs = true;
+        options.attachments = true;
+        options.binary = true;
         options.keys = new JsArray<>();
         for (String id : ids) {
             options.keys.push(id);
@@ -64,11 +69,13 @@ public class PouchDB {
         });
     }
 
-    /** Returns all documents whose ID starts with the specified ID. */
+    /** Returns all documents whose ID starts with the specified ID. Attachments are included as {@code Blob}s. */
     @JsOverlay
     public final Promise<List<Document>> prefixSearch(String id) {
         AllDocsOptions options = new AllDocsOptions();
         options.include_docs = true;
+        options.attachments = true;
+        options.binary = true;
         options.startkey = id;
         options.endkey = id + "\ufff0";
 
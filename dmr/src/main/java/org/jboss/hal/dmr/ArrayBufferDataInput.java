@@ -0,0 +1,213 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.DataView;
+import elemental2.core.Uint8Array;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsType;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Reads the binary DMR encoding straight from an {@link ArrayBuffer}. Numbers are read using a {@link DataView}, UTF segments
+ * are decoded by the browser's native {@code TextDecoder}. Neither of them copies the underlying bytes.
+ * <p>
+ * The DMR encoding uses Java's modified UTF-8 ({@code \u0000} is encoded as two bytes and supplementary characters as
+ * surrogate pairs). As this is not valid UTF-8, the decoder is created in fatal mode and the few affected segments are
+ * decoded manually. A leading byte order mark is part of the value and must not be stripped by the decoder.
+ */
+class ArrayBufferDataInput implements DataInput {
+
+    private static final TextDecoder UTF_8 = new TextDecoder("utf-8", TextDecoderOptions.strict());
+
+    private final ArrayBuffer buffer;
+    private final DataView view;
+    private final int length;
+    private int pos;
+
+    ArrayBufferDataInput(ArrayBuffer buffer) {
+        this(buffer, new DataView(buffer), 0);
+    }
+
+    private ArrayBufferDataInput(ArrayBuffer buffer, DataView view, int pos) {
+        this.buffer = buffer;
+        this.view = view;
+        this.length = buffer.byteLength;
+        this.pos = pos;
+    }
+
+    @Override
+    public int position() {
+        return pos;
+    }
+
+    @Override
+    public void skip(int bytes) {
+        advance(bytes);
+    }
+
+    @Override
+    public DataInput at(int position) {
+        return new ArrayBufferDataInput(buffer, view, position);
+    }
+
+    // ------------------------------------------------------ read a-z
+
+    private int advance(int bytes) {
+        if (pos + bytes > length) {
+            throw new RuntimeException("EOF");
+        }
+        int current = pos;
+        pos += bytes;
+        return current;
+    }
+
+    @Override
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() {
+        return (byte) view.getInt8(advance(1));
+    }
+
+    @Override
+    public char readChar() {
+        return (char) view.getUint16(advance(2));
+    }
+
+    @Override
+    public double readDouble() {
+        return view.getFloat64(advance(8));
+    }
+
+    @Override
+    public void readFully(byte[] b) {
+        int offset = advance(b.length);
+        for (int i = 0; i < b.length; i++) {
+            b[i] = (byte) view.getInt8(offset + i);
+        }
+    }
+
+    @Override
+    public int readInt() {
+        return view.getInt32(advance(4));
+    }
+
+    @Override
+    public long readLong() {
+        int offset = advance(8);
+        long high = view.getInt32(offset);
+        long low = view.getInt32(offset + 4) & 0xFFFFFFFFL;
+        return (high << 32) | low;
+    }
+
+    @Override
+    public short readShort() {
+        return (short) view.getInt16(advance(2));
+    }
+
+    @Override
+    public String readUTF() {
+        int bytes = view.getUint16(advance(2));
+        if (bytes == 0) {
+            return "";
+        }
+        int offset = advance(bytes);
+        try {
+            return UTF_8.decode(new Uint8Array(buffer, offset, bytes));
+        } catch (RuntimeException e) {
+            return readModifiedUTF(offset, bytes);
+        }
+    }
+
+    /** Same lenient decoding as {@link ByteArrayDataInput#readUTF()} */
+    private String readModifiedUTF(int offset, int bytes) {
+        StringBuilder sb = new StringBuilder(bytes);
+        int end = offset + bytes;
+        int i = offset;
+        while (i < end) {
+            int a = view.getUint8(i++);
+            if (a < 0x80) {
+                sb.append((char) a);
+            } else if (a < 0xc0) {
+                sb.append('?');
+            } else if (a < 0xe0) {
+                int b = byteAt(i++, end);
+                if ((b & 0xc0) != 0x80) {
+                    sb.append('?');
+                    // probably a US-ASCII char after a Latin-1 char
+                    sb.append((char) b);
+                } else {
+                    sb.append((char) ((a & 0x1F) << 6 | b & 0x3F));
+                }
+            } else if (a < 0xf0) {
+                int b = byteAt(i++, end);
+                if ((b & 0xc0) != 0x80) {
+                    sb.append('?');
+                    sb.append((char) b);
+                    continue;
+                }
+                int c = byteAt(i++, end);
+                if ((c & 0xc0) != 0x80) {
+                    // probably a US-ASCII char after two Latin-1 chars?
+                    sb.append('?').append('?');
+                    sb.append((char) c);
+                } else {
+                    sb.append((char) ((a & 0x0F) << 12 | (b & 0x3F) << 6 | c & 0x3F));
+                }
+            } else {
+                sb.append('?');
+            }
+        }
+        return sb.toString();
+    }
+
+    private int byteAt(int index, int end) {
+        if (index >= end || index >= length) {
+            throw new RuntimeException("EOF");
+        }
+        return view.getUint8(index);
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL)
+    static class TextDecoder {
+
+        TextDecoder(String label, TextDecoderOptions options) {
+        }
+
+        native String decode(Uint8Array input);
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    static class TextDecoderOptions {
+
+        @JsOverlay
+        static TextDecoderOptions strict() {
+            TextDecoderOptions options = new TextDecoderOptions();
+            options.fatal = true;
+            options.ignoreBOM = true;
+            return options;
+        }
+
+        boolean fatal;
+        boolean ignoreBOM;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+/** Reads the binary DMR encoding from a byte array. */
+class ByteArrayDataInput implements DataInput {
+
+    private final byte[] bytes;
+    private int pos;
+
+    ByteArrayDataInput(byte[] bytes) {
+        this(bytes, 0);
+    }
+
+    private ByteArrayDataInput(byte[] bytes, int pos) {
+        this.bytes = bytes;
+        this.pos = pos;
+    }
+
+    @Override
+    public int position() {
+        return pos;
+    }
+
+    @Override
+    public void skip(int bytes) {
+        if (pos + bytes > this.bytes.length) {
+            throw new RuntimeException("EOF");
+        }
+        pos += bytes;
+    }
+
+    @Override
+    public DataInput at(int position) {
+        return new ByteArrayDataInput(bytes, position);
+    }
+
+    // ------------------------------------------------------ read a-z
+
+    private int read() {
+        if (pos >= bytes.length) {
+            return -1;
+        }
+        return bytes[pos++] & 0xFF;
+    }
+
+    @Override
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() {
+        int i = read();
+        if (i == -1) {
+            throw new RuntimeException("EOF");
+        }
+        return (byte) i;
+    }
+
+    @Override
+    public char readChar() {
+        int a = readUnsignedByte();
+        int b = readUnsignedByte();
+        return (char) ((a << 8) | b);
+    }
+
+    @Override
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    @Override
+    public void readFully(byte[] b) {
+        for (int i = 0; i < b.length; i++) {
+            b[i] = bytes[pos++];
+        }
+    }
+
+    @Override
+    public int readInt() {
+        int a = readUnsignedByte();
+        int b = readUnsignedByte();
+        int c = readUnsignedByte();
+        int d = readUnsignedByte();
+        return (a << 24) | (b << 16) | (c << 8) | d;
+    }
+
+    @Override
+    public long readLong() {
+        long high = readInt();
+        long low = readInt() & 0xFFFFFFFFL;
+        return (high << 32) | low;
+    }
+
+    @Override
+    public short readShort() {
+        int a = readUnsignedByte();
+        int b = readUnsignedByte();
+        return (short) ((a << 8) | b);
+    }
+
+    private int readUnsignedByte() {
+        int i = read();
+        if (i == -1) {
+            throw new RuntimeException("EOF");
+        }
+        return i;
+    }
+
+    private int readUnsignedShort() {
+        int a = readUnsignedByte();
+        int b = readUnsignedByte();
+        return ((a << 8) | b);
+    }
+
+    @Override
+    public String readUTF() {
+        int bytes = readUnsignedShort();
+        StringBuilder sb = new StringBuilder();
+
+        while (bytes > 0) {
+            bytes -= readUTFChar(sb);
+        }
+
+        return sb.toString();
+    }
+
+    private int readUTFChar(StringBuilder sb) {
+        int a = readUnsignedByte();
+        if (a < 0x80) {
+            sb.append((char) a);
+            return 1;
+        } else if (a < 0xc0) {
+            sb.append('?');
+            return 1;
+        } else if (a < 0xe0) {
+            int b = readUnsignedByte();
+            if ((b & 0xc0) != 0x80) {
+                sb.append('?');
+                // probably a US-ASCII char after a Latin-1 char
+                sb.append((char) b);
+            } else {
+                sb.append((char) ((a & 0x1F) << 6 | b & 0x3F));
+            }
+            return 2;
+        } else if (a < 0xf0) {
+            int b = readUnsignedByte();
+            if ((b & 0xc0) != 0x80) {
+                sb.append('?');
+                sb.append((char) b);
+                return 2;
+            }
+            int c = readUnsignedByte();
+            if ((c & 0xc0) != 0x80) {
+                // probably a US-ASCII char after two Latin-1 chars?
+                sb.append('?').append('?');
+                sb.append((char) c);
+            } else {
+                sb.append((char) ((a & 0x0F) << 12 | (b & 0x3F) << 6 | c & 0x3F));
+            }
+            return 3;
+        } else {
+            sb.append('?');
+            return 1;
+        }
+    }
+}
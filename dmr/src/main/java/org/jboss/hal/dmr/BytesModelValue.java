@@ -19,6 +19,8 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
 
+import com.google.common.io.BaseEncoding;
+
 /**
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
@@ -131,7 +133,7 @@ class BytesModelValue extends ModelValue {
         }
         builder.append(jsonEscape(TYPE_KEY));
         builder.append(" : ");
-        // builder.append(jsonEscape(Base64.encodeBytes(bytes)));
+        builder.append(jsonEscape(BaseEncoding.base64().encode(bytes)));
         if (multiLine) {
             indent(builder.append('\n'), indent);
         } else {
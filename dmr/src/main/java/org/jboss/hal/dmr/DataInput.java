@@ -15,156 +15,33 @@
  */
 package org.jboss.hal.dmr;
 
-import elemental2.core.ArrayBuffer;
-import elemental2.core.DataView;
-import elemental2.core.Int8Array;
+/** Source of the binary DMR encoding used by {@link ModelNode#readExternal(DataInput)}. */
+interface DataInput {
 
-class DataInput {
+    boolean readBoolean();
 
-    private final byte[] bytes;
-    private int pos = 0;
+    byte readByte();
 
-    DataInput(byte[] bytes) {
-        this.bytes = bytes;
-    }
+    char readChar();
 
-    // ------------------------------------------------------ read a-z
+    double readDouble();
 
-    private int read() {
-        if (pos >= bytes.length) {
-            return -1;
-        }
-        return bytes[pos++] & 0xFF;
-    }
+    void readFully(byte[] b);
 
-    boolean readBoolean() {
-        return readByte() != 0;
-    }
+    int readInt();
 
-    byte readByte() {
-        int i = read();
-        if (i == -1) {
-            throw new RuntimeException("EOF");
-        }
-        return (byte) i;
-    }
+    long readLong();
 
-    char readChar() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        return (char) ((a << 8) | b);
-    }
+    short readShort();
 
-    double readDouble() {
-        byte[] doubleBytes = new byte[8];
-        readFully(doubleBytes);
+    String readUTF();
 
-        ArrayBuffer buffer = new ArrayBuffer(8);
-        Int8Array array = new Int8Array(buffer);
-        DataView view = new DataView(buffer);
-        for (int i = 0; i < doubleBytes.length; i++) {
-            array.setAt(i, (double) doubleBytes[i]);
-        }
-        return view.getFloat64(0);
-    }
+    /** @return the current read position */
+    int position();
 
-    void readFully(byte[] b) {
-        for (int i = 0; i < b.length; i++) {
-            b[i] = bytes[pos++];
-        }
-    }
+    /** Skips the given number of bytes. */
+    void skip(int bytes);
 
-    int readInt() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        int c = readUnsignedByte();
-        int d = readUnsignedByte();
-        return (a << 24) | (b << 16) | (c << 8) | d;
-    }
-
-    long readLong() {
-        byte[] longBytes = new byte[8];
-        readFully(longBytes);
-
-        return (((long) longBytes[0] << 56) +
-                ((long) (longBytes[1] & 255) << 48) +
-                ((long) (longBytes[2] & 255) << 40) +
-                ((long) (longBytes[3] & 255) << 32) +
-                ((long) (longBytes[4] & 255) << 24) +
-                ((longBytes[5] & 255) << 16) +
-                ((longBytes[6] & 255) << 8) +
-                ((longBytes[7] & 255) << 0));
-
-    }
-
-    short readShort() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        return (short) ((a << 8) | b);
-    }
-
-    private int readUnsignedByte() {
-        int i = read();
-        if (i == -1) {
-            throw new RuntimeException("EOF");
-        }
-        return i;
-    }
-
-    private int readUnsignedShort() {
-        int a = readUnsignedByte();
-        int b = readUnsignedByte();
-        return ((a << 8) | b);
-    }
-
-    String readUTF() {
-        int bytes = readUnsignedShort();
-        StringBuilder sb = new StringBuilder();
-
-        while (bytes > 0) {
-            bytes -= readUTFChar(sb);
-        }
-
-        return sb.toString();
-    }
-
-    private int readUTFChar(StringBuilder sb) {
-        int a = readUnsignedByte();
-        if (a < 0x80) {
-            sb.append((char) a);
-            return 1;
-        } else if (a < 0xc0) {
-            sb.append('?');
-            return 1;
-        } else if (a < 0xe0) {
-            int b = readUnsignedByte();
-            if ((b & 0xc0) != 0x80) {
-                sb.append('?');
-                // probably a US-ASCII char after a Latin-1 char
-                sb.append((char) b);
-            } else {
-                sb.append((char) ((a & 0x1F) << 6 | b & 0x3F));
-            }
-            return 2;
-        } else if (a < 0xf0) {
-            int b = readUnsignedByte();
-            if ((b & 0xc0) != 0x80) {
-                sb.append('?');
-                sb.append((char) b);
-                return 2;
-            }
-            int c = readUnsignedByte();
-            if ((c & 0xc0) != 0x80) {
-                // probably a US-ASCII char after two Latin-1 chars?
-                sb.append('?').append('?');
-                sb.append((char) c);
-            } else {
-                sb.append((char) ((a & 0x0F) << 12 | (b & 0x3F) << 6 | c & 0x3F));
-            }
-            return 3;
-        } else {
-            sb.append('?');
-            return 1;
-        }
-    }
+    /** @return a new input over the same bytes starting at the given position */
+    DataInput at(int position);
 }
@@ -15,89 +15,97 @@
  */
 package org.jboss.hal.dmr;
 
+import java.util.Arrays;
+
 import com.google.common.base.Charsets;
 
 import elemental2.core.ArrayBuffer;
-import elemental2.core.DataView;
 import elemental2.core.Int8Array;
-import elemental2.core.JsArray;
 
 class DataOutput {
 
-    private final JsArray<Byte> bytes;
+    private byte[] bytes;
+    private int size;
 
     DataOutput() {
-        bytes = new JsArray<>();
+        bytes = new byte[256];
+        size = 0;
     }
 
     @Override
     public String toString() {
-        int length = bytes.getLength();
-        byte[] array = new byte[length];
-        for (int i = 0; i < length; i++) {
-            array[i] = bytes.getAt(i);
+        return new String(bytes, 0, size, Charsets.ISO_8859_1);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    ArrayBuffer toArrayBuffer() {
+        Int8Array array = new Int8Array(size);
+        for (int i = 0; i < size; i++) {
+            array.setAt(i, (double) bytes[i]);
         }
-        return new String(array, Charsets.ISO_8859_1);
+        return array.buffer;
+    }
+
+    private void push(byte b) {
+        if (size == bytes.length) {
+            bytes = Arrays.copyOf(bytes, size * 2);
+        }
+        bytes[size++] = b;
     }
 
     // ------------------------------------------------------ write a-z
 
     void write(byte[] bits) {
-        for (int i = 0; i < bits.length; i++) {
-            bytes.push(bits[i]);
-        }
+        write(bits, 0, bits.length);
     }
 
     private void write(byte[] b, int off, int len) {
         for (int i = 0; i < len; i++) {
-            bytes.push(b[off + i]);
+            push(b[off + i]);
         }
     }
 
     void writeBoolean(boolean v) {
-        bytes.push(v ? (byte) 1 : (byte) 0);
+        push(v ? (byte) 1 : (byte) 0);
     }
 
     void writeByte(int v) {
-        bytes.push((byte) v);
+        push((byte) v);
     }
 
     void writeChar(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        push((byte) (v >>> 8));
+        push((byte) (v & 0xFF));
     }
 
     void writeDouble(double v) {
-        ArrayBuffer buffer = new ArrayBuffer(8);
-        Int8Array array = new Int8Array(buffer);
-        DataView view = new DataView(buffer);
-        view.setFloat64(0, v);
-        for (int i = 0; i < array.getLength(); i++) {
-            bytes.push(array.getAt(i).byteValue());
-        }
+        writeLong(Double.doubleToLongBits(v));
     }
 
     void writeInt(int v) {
-        bytes.push((byte) (v >>> 24));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        push((byte) (v >>> 24));
+        push((byte) ((v >>> 16) & 0xFF));
+        push((byte) ((v >>> 8) & 0xFF));
+        push((byte) (v & 0xFF));
     }
 
     void writeLong(long v) {
-        bytes.push((byte) (v >>> 56));
-        bytes.push((byte) ((v >>> 48) & 0xFF));
-        bytes.push((byte) ((v >>> 40) & 0xFF));
-        bytes.push((byte) ((v >>> 32) & 0xFF));
-        bytes.push((byte) ((v >>> 24) & 0xFF));
-        bytes.push((byte) ((v >>> 16) & 0xFF));
-        bytes.push((byte) ((v >>> 8) & 0xFF));
-        bytes.push((byte) (v & 0xFF));
+        push((byte) (v >>> 56));
+        push((byte) ((v >>> 48) & 0xFF));
+        push((byte) ((v >>> 40) & 0xFF));
+        push((byte) ((v >>> 32) & 0xFF));
+        push((byte) ((v >>> 24) & 0xFF));
+        push((byte) ((v >>> 16) & 0xFF));
+        push((byte) ((v >>> 8) & 0xFF));
+        push((byte) (v & 0xFF));
     }
 
     private void writeShort(int v) {
-        bytes.push((byte) (v >>> 8));
-        bytes.push((byte) (v & 0xFF));
+        push((byte) (v >>> 8));
+        push((byte) (v & 0xFF));
     }
 
     void writeUTF(String s) {
@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+/**
+ * A child of a lazily decoded object or list. Holds the position of the child's binary encoding and decodes the child the
+ * first time it's accessed.
+ */
+class EncodedNode {
+
+    /**
+     * Records the position of the next value in the given input and skips over it.
+     *
+     * @param in the source positioned at the next value
+     *
+     * @return the encoded node
+     */
+    static EncodedNode skip(DataInput in) {
+        EncodedNode encoded = new EncodedNode(in, in.position());
+        ModelNode.skipExternal(in);
+        return encoded;
+    }
+
+    static EncodedNode of(ModelNode node) {
+        EncodedNode encoded = new EncodedNode(null, -1);
+        encoded.node = node;
+        return encoded;
+    }
+
+    private final DataInput source;
+    private final int position;
+    private ModelNode node;
+
+    private EncodedNode(DataInput source, int position) {
+        this.source = source;
+        this.position = position;
+    }
+
+    /**
+     * Copies this node. If the node hasn't been decoded yet, the copy refers to the same encoding and remains undecoded.
+     */
+    EncodedNode copy() {
+        if (node == null) {
+            return new EncodedNode(source, position);
+        }
+        return of(node.clone());
+    }
+
+    ModelNode get() {
+        if (node == null) {
+            node = new ModelNode();
+            node.readExternal(source.at(position), true);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import com.google.common.io.BaseEncoding;
+
+import elemental2.core.JsArray;
+import elemental2.core.JsObject;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static elemental2.core.Global.JSON;
+
+/**
+ * Creates model nodes from the JSON format used by the management endpoint. The JSON text is parsed by the browser's native
+ * {@code JSON.parse()} and the resulting object graph is turned into model nodes.
+ * <p>
+ * JSON doesn't carry the full DMR type information. Integral numbers become {@link ModelType#INT} or {@link ModelType#LONG}
+ * (depending on their range), all other numbers become {@link ModelType#DOUBLE}. Numbers which exceed 2<sup>53</sup> lose
+ * precision. Expressions, bytes and types use the same special keys as the management endpoint.
+ */
+class JsonReader {
+
+    private static final String BYTES_VALUE = "BYTES_VALUE";
+    private static final String EXPRESSION_VALUE = "EXPRESSION_VALUE";
+    private static final String TYPE_MODEL_VALUE = "TYPE_MODEL_VALUE";
+    private static final double MAX_SAFE_INTEGER = 9007199254740991d;
+
+    static ModelNode read(String json) {
+        ModelNode node = new ModelNode();
+        set(node, JSON.parse(json));
+        return node;
+    }
+
+    private static void set(ModelNode node, Object value) {
+        if (value == null) {
+            return; // leave undefined
+        }
+        if (value instanceof String) {
+            node.set((String) value);
+        } else if (value instanceof Boolean) {
+            node.set((Boolean) value);
+        } else if (value instanceof Double) {
+            setNumber(node, (Double) value);
+        } else if (JsArray.isArray(value)) {
+            JsArray<Object> array = Js.uncheckedCast(value);
+            node.setEmptyList();
+            for (int i = 0; i < array.length; i++) {
+                set(node.add(), array.getAt(i));
+            }
+        } else {
+            setObject(node, Js.asPropertyMap(value));
+        }
+    }
+
+    private static void setNumber(ModelNode node, double number) {
+        if (number == Math.floor(number) && !Double.isInfinite(number)) {
+            if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+                node.set((int) number);
+                return;
+            } else if (Math.abs(number) <= MAX_SAFE_INTEGER) {
+                node.set((long) number);
+                return;
+            }
+        }
+        node.set(number);
+    }
+
+    private static void setObject(ModelNode node, JsPropertyMap<Object> object) {
+        JsArray<String> keys = JsObject.keys(Js.uncheckedCast(object));
+        if (keys.length == 1) {
+            String key = keys.getAt(0);
+            Object value = object.get(key);
+            if (value instanceof String) {
+                switch (key) {
+                    case BYTES_VALUE:
+                        node.set(BaseEncoding.base64().decode((String) value));
+                        return;
+                    case EXPRESSION_VALUE:
+                        node.setExpression((String) value);
+                        return;
+                    case TYPE_MODEL_VALUE:
+                        node.set(ModelType.valueOf((String) value));
+                        return;
+                    default:
+                        break;
+                }
+            }
+        }
+        node.setEmptyObject();
+        for (int i = 0; i < keys.length; i++) {
+            String key = keys.getAt(i);
+            set(node.get(key), object.get(key));
+        }
+    }
+
+    private JsonReader() {
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List value which is read from the binary encoding, but decodes its elements only when they're accessed. All other
+ * operations work as for a regular {@link ListModelValue}.
+ */
+class LazyListModelValue extends ListModelValue {
+
+    private final LazyList list;
+
+    LazyListModelValue(DataInput in) {
+        this(new LazyList(in));
+    }
+
+    private LazyListModelValue(LazyList list) {
+        super(list);
+        this.list = list;
+    }
+
+    @Override
+    ModelValue protect() {
+        super.protect();
+        return new ListModelValue(Collections.unmodifiableList(list));
+    }
+
+    /** Copies this value without decoding the elements which haven't been accessed yet. */
+    @Override
+    ModelValue copy() {
+        return new LazyListModelValue(new LazyList(list));
+    }
+
+    private static class LazyList extends AbstractList<ModelNode> implements RandomAccess {
+
+        private final List<EncodedNode> elements;
+
+        LazyList(DataInput in) {
+            int count = in.readInt();
+            elements = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                elements.add(EncodedNode.skip(in));
+            }
+        }
+
+        LazyList(LazyList original) {
+            elements = new ArrayList<>(original.elements.size());
+            for (EncodedNode element : original.elements) {
+                elements.add(element.copy());
+            }
+        }
+
+        @Override
+        public ModelNode get(int index) {
+            return elements.get(index).get();
+        }
+
+        @Override
+        public ModelNode set(int index, ModelNode element) {
+            return elements.set(index, EncodedNode.of(element)).get();
+        }
+
+        @Override
+        public void add(int index, ModelNode element) {
+            elements.add(index, EncodedNode.of(element));
+        }
+
+        @Override
+        public ModelNode remove(int index) {
+            return elements.remove(index).get();
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+}
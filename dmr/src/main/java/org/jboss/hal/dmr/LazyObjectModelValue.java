@@ -0,0 +1,189 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Object value which is read from the binary encoding, but decodes its children only when they're accessed. Reading this
+ * value decodes the keys and records the position of each child. All other operations work as for a regular
+ * {@link ObjectModelValue}.
+ */
+class LazyObjectModelValue extends ObjectModelValue {
+
+    private final LazyMap map;
+
+    LazyObjectModelValue(DataInput in) {
+        this(new LazyMap(in));
+    }
+
+    private LazyObjectModelValue(LazyMap map) {
+        super(map);
+        this.map = map;
+    }
+
+    @Override
+    ModelValue protect() {
+        super.protect();
+        return new ObjectModelValue(Collections.unmodifiableMap(map));
+    }
+
+    /** Copies this value without decoding the children which haven't been accessed yet. */
+    @Override
+    ModelValue copy() {
+        return new LazyObjectModelValue(new LazyMap(map));
+    }
+
+    private static class LazyMap extends AbstractMap<String, ModelNode> {
+
+        private final LinkedHashMap<String, EncodedNode> entries;
+
+        LazyMap(DataInput in) {
+            int count = in.readInt();
+            entries = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                entries.put(key, EncodedNode.skip(in));
+            }
+        }
+
+        LazyMap(LazyMap original) {
+            entries = new LinkedHashMap<>();
+            for (Map.Entry<String, EncodedNode> entry : original.entries.entrySet()) {
+                entries.put(entry.getKey(), entry.getValue().copy());
+            }
+        }
+
+        @Override
+        public int size() {
+            return entries.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return entries.isEmpty();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public ModelNode get(Object key) {
+            EncodedNode encoded = entries.get(key);
+            return encoded != null ? encoded.get() : null;
+        }
+
+        @Override
+        public ModelNode put(String key, ModelNode value) {
+            EncodedNode previous = entries.put(key, EncodedNode.of(value));
+            return previous != null ? previous.get() : null;
+        }
+
+        @Override
+        public ModelNode remove(Object key) {
+            EncodedNode removed = entries.remove(key);
+            return removed != null ? removed.get() : null;
+        }
+
+        @Override
+        public void clear() {
+            entries.clear();
+        }
+
+        @Override
+        public Set<String> keySet() {
+            return entries.keySet();
+        }
+
+        @Override
+        public Set<Entry<String, ModelNode>> entrySet() {
+            return new AbstractSet<Entry<String, ModelNode>>() {
+                @Override
+                public Iterator<Entry<String, ModelNode>> iterator() {
+                    Iterator<Entry<String, EncodedNode>> iterator = entries.entrySet().iterator();
+                    return new Iterator<Entry<String, ModelNode>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, ModelNode> next() {
+                            Entry<String, EncodedNode> entry = iterator.next();
+                            return new LazyEntry(entry);
+                        }
+
+                        @Override
+                        public void remove() {
+                            iterator.remove();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return entries.size();
+                }
+            };
+        }
+    }
+
+    private static class LazyEntry implements Map.Entry<String, ModelNode> {
+
+        private final Map.Entry<String, EncodedNode> entry;
+
+        LazyEntry(Map.Entry<String, EncodedNode> entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public String getKey() {
+            return entry.getKey();
+        }
+
+        @Override
+        public ModelNode getValue() {
+            return entry.getValue().get();
+        }
+
+        @Override
+        public ModelNode setValue(ModelNode value) {
+            return entry.setValue(EncodedNode.of(value)).get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+            return getKey().equals(that.getKey()) && getValue().equals(that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+    }
+}
@@ -902,6 +902,7 @@ public interface ModelDescriptionConstants {
     String SINGLETON = "singleton";
     String SIZE_ROTATING_FILE_AUDIT_LOG = "size-rotating-file-audit-log";
     String SIZE_ROTATING_FILE_HANDLER = "size-rotating-file-handler";
+    String SKIP = "skip";
     String SMTP = "smtp";
     String SOCKET_BINDING = "socket-binding";
     String SOCKET_BINDING_DEFAULT_INTERFACE = "socket-binding-default-interface";
@@ -25,6 +25,8 @@ import java.util.Set;
 
 import com.google.common.base.CharMatcher;
 
+import elemental2.core.ArrayBuffer;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
@@ -44,20 +46,71 @@ public class ModelNode implements Cloneable {
      * @return the new model node
      */
     public static ModelNode fromBase64(String encoded) {
+        return fromBase64(encoded, false);
+    }
+
+    /**
+     * Creates a new node from a base64 encoded string.
+     * <p>
+     * If {@code lazy} is {@code true}, the children of objects and lists are decoded only when they're accessed. Use this for
+     * large payloads where only a few attributes are read.
+     *
+     * @param encoded The base64 encoded string.
+     * @param lazy    whether to decode children of objects and lists on first access
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBase64(String encoded, boolean lazy) {
         // Bloody IE can't cope with line breaks when decoding base64!
         String safeEncoded = CharMatcher.breakingWhitespace().removeFrom(encoded);
+        return fromArrayBuffer(asArrayBuffer(Base64.decode(safeEncoded)), lazy);
+    }
+
+    /**
+     * Creates a new node from the binary DMR encoding. The buffer is read in place: numbers are read using a
+     * {@code DataView} and strings are decoded using the native {@code TextDecoder}.
+     *
+     * @param buffer The binary DMR encoding.
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromArrayBuffer(ArrayBuffer buffer) {
+        return fromArrayBuffer(buffer, false);
+    }
+
+    /**
+     * Creates a new node from the binary DMR encoding.
+     *
+     * @param buffer The binary DMR encoding.
+     * @param lazy   whether to decode children of objects and lists on first access
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromArrayBuffer(ArrayBuffer buffer, boolean lazy) {
         ModelNode node = new ModelNode();
-        String decoded = Base64.decode(safeEncoded);
-        node.readExternal(new DataInput(toBytes(decoded)));
+        node.readExternal(new ArrayBufferDataInput(buffer), lazy);
         return node;
     }
 
-    private static native byte[] toBytes(String str) /*-{
-        var bytes = [];
-        for (var i = 0; i < str.length; ++i) {
-            bytes.push(str.charCodeAt(i));
+    /**
+     * Creates a new node from the JSON format used by the management endpoint. The JSON is parsed using the browser's native
+     * {@code JSON.parse()}. Please note that JSON doesn't carry the full type information of the DMR encoding.
+     *
+     * @param json The JSON string.
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromJSONString(String json) {
+        return JsonReader.read(json);
+    }
+
+    private static native ArrayBuffer asArrayBuffer(String str) /*-{
+        var length = str.length;
+        var bytes = new Uint8Array(length);
+        for (var i = 0; i < length; ++i) {
+            bytes[i] = str.charCodeAt(i);
         }
-        return bytes;
+        return bytes.buffer;
     }-*/;
 
     private static final String NEW_VALUE_IS_NULL = "newValue is null";
@@ -1293,6 +1346,13 @@ public class ModelNode implements Cloneable {
         return Base64.encode(out.toString());
     }
 
+    /** @return the binary DMR encoding of this node which can be read using {@link #fromArrayBuffer(ArrayBuffer)} */
+    public ArrayBuffer toArrayBuffer() {
+        DataOutput out = new DataOutput();
+        writeExternal(out);
+        return out.toArrayBuffer();
+    }
+
     /**
      * Return a copy of this model node, with all system property expressions locally resolved. The caller must have permission
      * to access all of the system properties named in the node tree.
@@ -1385,6 +1445,16 @@ public class ModelNode implements Cloneable {
      * @param in the source from which the content should be read
      */
     void readExternal(DataInput in) {
+        readExternal(in, false);
+    }
+
+    /**
+     * Read this node's content in binary format from the given source.
+     *
+     * @param in   the source from which the content should be read
+     * @param lazy whether to decode children of objects and lists on first access
+     */
+    void readExternal(DataInput in, boolean lazy) {
         checkProtect();
         byte[] b; // used by some of these
         try {
@@ -1419,13 +1489,13 @@ public class ModelNode implements Cloneable {
                     value = new IntModelValue(in.readInt());
                     return;
                 case LIST:
-                    value = new ListModelValue(in);
+                    value = lazy ? new LazyListModelValue(in) : new ListModelValue(in);
                     return;
                 case LONG:
                     value = new LongModelValue(in.readLong());
                     return;
                 case OBJECT:
-                    value = new ObjectModelValue(in);
+                    value = lazy ? new LazyObjectModelValue(in) : new ObjectModelValue(in);
                     return;
                 case PROPERTY:
                     value = new PropertyModelValue(in);
@@ -1444,6 +1514,67 @@ public class ModelNode implements Cloneable {
         }
     }
 
+    /**
+     * Skip over the next node in binary format without decoding it.
+     *
+     * @param in the source positioned at the node to skip
+     */
+    static void skipExternal(DataInput in) {
+        try {
+            ModelType type = ModelType.forChar((char) (in.readByte() & 0xff));
+            int count;
+            switch (type) {
+                case UNDEFINED:
+                    return;
+                case BOOLEAN:
+                case TYPE:
+                    in.skip(1);
+                    return;
+                case INT:
+                    in.skip(4);
+                    return;
+                case DOUBLE:
+                case LONG:
+                    in.skip(8);
+                    return;
+                case BIG_INTEGER:
+                case BYTES:
+                    in.skip(in.readInt());
+                    return;
+                case BIG_DECIMAL:
+                case EXPRESSION:
+                case STRING:
+                    skipUTF(in);
+                    return;
+                case LIST:
+                    count = in.readInt();
+                    for (int i = 0; i < count; i++) {
+                        skipExternal(in);
+                    }
+                    return;
+                case OBJECT:
+                    count = in.readInt();
+                    for (int i = 0; i < count; i++) {
+                        skipUTF(in);
+                        skipExternal(in);
+                    }
+                    return;
+                case PROPERTY:
+                    skipUTF(in);
+                    skipExternal(in);
+                    return;
+                default:
+                    throw new IllegalStateException("Invalid type read: " + type);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage(), e.getCause());
+        }
+    }
+
+    private static void skipUTF(DataInput in) {
+        in.skip(in.readShort() & 0xFFFF);
+    }
+
     private void checkProtect() {
         if (protect) {
             throw new UnsupportedOperationException();
@@ -36,7 +36,7 @@ class ObjectModelValue extends ModelValue {
         map = new LinkedHashMap<>();
     }
 
-    private ObjectModelValue(Map<String, ModelNode> map) {
+    ObjectModelValue(Map<String, ModelNode> map) {
         super(ModelType.OBJECT);
         this.map = map;
     }
@@ -25,8 +25,6 @@ import java.util.Set;
  */
 class PropertyModelValue extends ModelValue {
 
-    /** JSON Key used to identify PropertyModelValue. */
-    private static final String TYPE_KEY = "PROPERTY_VALUE";
     private final Property property;
 
     PropertyModelValue(String name, ModelNode value) {
@@ -138,22 +136,10 @@ class PropertyModelValue extends ModelValue {
         return property.getName().equals(name) ? property.getValue() : super.requireChild(name);
     }
 
+    /** Properties are formatted as JSON object with one key (the same format as the management endpoint uses). */
+    @Override
     void formatAsJSON(StringBuilder builder, int indent, boolean multiLineRequested) {
-        builder.append('{');
-        if (multiLineRequested) {
-            indent(builder.append('\n'), indent + 1);
-        } else {
-            builder.append(' ');
-        }
-        builder.append(jsonEscape(TYPE_KEY));
-        builder.append(" : ");
-        formatPropertyAsJSON(builder, indent + 1, multiLineRequested);
-        if (multiLineRequested) {
-            indent(builder.append('\n'), indent);
-        } else {
-            builder.append(' ');
-        }
-        builder.append('}');
+        formatPropertyAsJSON(builder, indent, multiLineRequested);
     }
 
     private void formatPropertyAsJSON(StringBuilder writer, int indent, boolean multiLineRequested) {
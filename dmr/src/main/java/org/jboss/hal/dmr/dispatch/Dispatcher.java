@@ -68,13 +68,17 @@ import static elemental2.core.Global.encodeURIComponent;
 import static elemental2.dom.DomGlobal.fetch;
 import static elemental2.dom.DomGlobal.navigator;
 import static java.util.stream.Collectors.joining;
+import static org.jboss.hal.config.Settings.Key.BATCH_WINDOW;
+import static org.jboss.hal.config.Settings.Key.CACHE_TTL;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
+import static org.jboss.hal.config.Settings.Key.WIRE_FORMAT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INSTALLED_DRIVER_LIST;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.QUERY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE_HEADERS;
@@ -108,6 +112,9 @@ public class Dispatcher implements RecordingHandler {
     private final ResponseHeadersProcessors responseHeadersProcessors;
     private final Macros macros;
     private final ErrorCallback errorCallback;
+    private final InFlightRequests inFlightRequests;
+    private final OperationBatcher batcher;
+    private final ResponseCache responseCache;
 
     @Inject
     public Dispatcher(Environment environment, Endpoints endpoints, Settings settings,
@@ -122,6 +129,12 @@ public class Dispatcher implements RecordingHandler {
 
         this.eventBus.addHandler(RecordingEvent.getType(), this);
         this.errorCallback = (operation, error) -> logger.error("Dispatcher error: {}, operation {}", error, operation.asCli());
+        this.inFlightRequests = new InFlightRequests();
+        this.batcher = new OperationBatcher(operation -> {
+            WireFormat wireFormat = wireFormat();
+            return dmr(operation, wireFormat, wireFormat.encode(runAs(operation)));
+        }, this::batch, this::dispatcherError);
+        this.responseCache = new ResponseCache(System::currentTimeMillis);
     }
 
     // ------------------------------------------------------ execute composite
@@ -199,16 +212,95 @@ public class Dispatcher implements RecordingHandler {
      * "result" attribute.
      */
     public Promise<ModelNode> dmr(Operation operation) {
-        RequestInit init = requestInit(POST, true);
-        init.setBody(runAs(operation).toBase64String());
+        WireFormat wireFormat = wireFormat();
+        String body = wireFormat.encode(runAs(operation));
+        // while a macro records read operations, reads skip cache, sharing and batching to be recorded one by one
+        if (readOnlyOperation(operation) && !recordingReadOperations()) {
+            String key = wireFormat.value() + body;
+            long ttl = ResponseCache.ttl(operation, settings.get(CACHE_TTL).asInt(0) * 1000L);
+            if (ttl > 0) {
+                ModelNode cached = responseCache.get(key);
+                if (cached != null) {
+                    return Promise.resolve(cached);
+                }
+            }
+
+            // identical read-only operations (same address, name, parameters and headers) share one request
+            int batchWindow = settings.get(BATCH_WINDOW).asInt(-1);
+            return inFlightRequests.join(key, () -> {
+                long generation = responseCache.generation();
+                Promise<ModelNode> request = batchWindow >= 0 && batchable(operation)
+                        ? batcher.add(operation, batchWindow)
+                        : dmr(operation, wireFormat, body);
+                if (ttl > 0) {
+                    return request.then(payload -> {
+                        responseCache.put(key, operation.getAddress(), payload, ttl, generation);
+                        return Promise.resolve(payload);
+                    });
+                }
+                return request;
+            });
+        }
+        return evictOnResponse(operation, dmr(operation, wireFormat, body));
+    }
+
+    private Promise<ModelNode> dmr(Operation operation, WireFormat wireFormat, String body) {
+        RequestInit init = requestInit(POST, wireFormat);
+        init.setBody(body);
         Request request = new Request(endpoints.dmr(), init);
 
         return fetch(request)
-                .then(processResponse())
-                .then(processText(operation, new DmrPayloadProcessor(), true))
+                .then(processResponse(wireFormat))
+                .then(processText(operation, wireFormat, wireFormat.payloadProcessor(), true))
                 .catch_(rejectWithError());
     }
 
+    /** Sends the batched operations and resolves with the payload even if the composite failed. */
+    private Promise<ModelNode> batch(Composite composite) {
+        WireFormat wireFormat = wireFormat();
+        RequestInit init = requestInit(POST, wireFormat);
+        init.setBody(wireFormat.encode(runAs(composite)));
+        Request request = new Request(endpoints.dmr(), init);
+
+        return fetch(request)
+                .then(processResponse(wireFormat))
+                .then(text -> {
+                    // record the operations as if they had been executed one by one
+                    composite.forEach(this::recordOperation);
+                    logger.trace("DMR batch: {}", composite);
+                    ModelNode payload = wireFormat.payloadProcessor().processPayload(POST, wireFormat.contentType(), text);
+                    if (!payload.isFailure()) {
+                        processResponseHeaders(payload);
+                    }
+                    return Promise.resolve(payload);
+                })
+                .catch_(rejectWithError());
+    }
+
+    /**
+     * Evicts the cached responses related to the operation before the caller sees the response. Failed operations evict as
+     * well, since composites might have been applied partially.
+     */
+    private Promise<ModelNode> evictOnResponse(Operation operation, Promise<ModelNode> request) {
+        request.then(payload -> {
+            responseCache.evict(operation);
+            return null;
+        }, error -> {
+            responseCache.evict(operation);
+            return null;
+        });
+        return request;
+    }
+
+    private boolean batchable(Operation operation) {
+        // operations with their own headers can't be merged into a composite without changing their semantics
+        return !(operation instanceof Composite) && !operation.hasDefined(OPERATION_HEADERS);
+    }
+
+    private WireFormat wireFormat() {
+        return WireFormat.from(settings.get(WIRE_FORMAT).value());
+    }
+
     // ------------------------------------------------------ upload
 
     public void upload(File file, Operation operation, Consumer<ModelNode> success) {
@@ -241,14 +333,14 @@ public class Dispatcher implements RecordingHandler {
         }
         formData.append(OPERATION, new Blob(new ConstructorBlobPartsArrayUnionType[] { blob }, options));
 
-        RequestInit init = requestInit(POST, false);
+        RequestInit init = requestInit(POST, null);
         init.setBody(formData);
         Request request = new Request(endpoints.upload(), init);
 
-        return fetch(request)
-                .then(processResponse())
-                .then(processText(operation, new UploadPayloadProcessor(), false))
-                .catch_(rejectWithError());
+        return evictOnResponse(operation, fetch(request)
+                .then(processResponse(WireFormat.DMR))
+                .then(processText(operation, WireFormat.DMR, new UploadPayloadProcessor(), false))
+                .catch_(rejectWithError()));
     }
 
     // ------------------------------------------------------ download
@@ -256,7 +348,7 @@ public class Dispatcher implements RecordingHandler {
     public void download(Operation operation, Consumer<String> success) {
         Operation downloadOperation = runAs(operation);
         String downloadUrl = downloadUrl(downloadOperation);
-        RequestInit init = requestInit(GET, true);
+        RequestInit init = requestInit(GET, WireFormat.DMR);
         Request request = new Request(downloadUrl, init);
 
         fetch(request)
@@ -335,11 +427,12 @@ public class Dispatcher implements RecordingHandler {
 
     // ------------------------------------------------------ request && promise handlers
 
-    RequestInit requestInit(HttpMethod method, boolean dmr) {
+    /** @param wireFormat the format used for the accept and content type header or {@code null} to omit these headers */
+    RequestInit requestInit(HttpMethod method, WireFormat wireFormat) {
         Headers headers = new Headers();
-        if (dmr) {
-            headers.set(ACCEPT.header(), APPLICATION_DMR_ENCODED);
-            headers.set(CONTENT_TYPE.header(), APPLICATION_DMR_ENCODED);
+        if (wireFormat != null) {
+            headers.set(ACCEPT.header(), wireFormat.contentType());
+            headers.set(CONTENT_TYPE.header(), wireFormat.contentType());
         }
         headers.set(X_MANAGEMENT_CLIENT_NAME.header(), HEADER_MANAGEMENT_CLIENT_VALUE);
         String bearerToken = getBearerToken();
@@ -357,45 +450,29 @@ public class Dispatcher implements RecordingHandler {
 
     // ------------------------------------------------------ promise handlers
 
-    ThenOnFulfilledCallbackFn<Response, String> processResponse() {
+    ThenOnFulfilledCallbackFn<Response, String> processResponse(WireFormat wireFormat) {
         return response -> {
             if (!response.ok && response.status != 500) {
                 return Promise.reject(statusError(response.status));
             }
             String contentType = response.headers.get(CONTENT_TYPE.header());
-            if (!contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+            if (contentType == null || !contentType.startsWith(wireFormat.contentType())) {
                 return Promise.reject(PARSE_ERROR + contentType);
             }
             return response.text();
         };
     }
 
-    ThenOnFulfilledCallbackFn<String, ModelNode> processText(Operation operation, PayloadProcessor payloadProcessor,
-            boolean recordOperation) {
+    ThenOnFulfilledCallbackFn<String, ModelNode> processText(Operation operation, WireFormat wireFormat,
+            PayloadProcessor payloadProcessor, boolean recordOperation) {
         return text -> {
             if (recordOperation) {
                 recordOperation(operation);
             }
             logger.trace("DMR operation: {}", operation);
-            ModelNode payload = payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text);
+            ModelNode payload = payloadProcessor.processPayload(POST, wireFormat.contentType(), text);
             if (!payload.isFailure()) {
-                if (environment.isStandalone()) {
-                    if (payload.hasDefined(RESPONSE_HEADERS)) {
-                        Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
-                        for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
-                            processor.process(headers);
-                        }
-                    }
-                } else {
-                    if (payload.hasDefined(SERVER_GROUPS)) {
-                        Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
-                        if (headers.length != 0) {
-                            for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
-                                processor.process(headers);
-                            }
-                        }
-                    }
-                }
+                processResponseHeaders(payload);
                 return Promise.resolve(payload);
             } else {
                 return Promise.reject(payload.getFailureDescription());
@@ -403,6 +480,26 @@ public class Dispatcher implements RecordingHandler {
         };
     }
 
+    private void processResponseHeaders(ModelNode payload) {
+        if (environment.isStandalone()) {
+            if (payload.hasDefined(RESPONSE_HEADERS)) {
+                Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+                for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
+                    processor.process(headers);
+                }
+            }
+        } else {
+            if (payload.hasDefined(SERVER_GROUPS)) {
+                Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
+                if (headers.length != 0) {
+                    for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
+                        processor.process(headers);
+                    }
+                }
+            }
+        }
+    }
+
     private Header[] collectHeaders(ModelNode serverGroups) {
         List<Header> headers = new ArrayList<>();
         for (Property serverGroup : serverGroups.asPropertyList()) {
@@ -428,10 +525,12 @@ public class Dispatcher implements RecordingHandler {
     // ------------------------------------------------------ error handling
 
     CatchOnRejectedCallbackFn<ModelNode> rejectWithError() {
-        return error -> {
-            logger.error("Dispatcher error: {}", error);
-            return Promise.reject("Dispatcher error: " + error);
-        };
+        return error -> Promise.reject(dispatcherError(error));
+    }
+
+    private Object dispatcherError(Object error) {
+        logger.error("Dispatcher error: {}", error);
+        return "Dispatcher error: " + error;
     }
 
     private String statusError(int status) {
@@ -469,6 +568,11 @@ public class Dispatcher implements RecordingHandler {
         }
     }
 
+    private boolean recordingReadOperations() {
+        return macros.current() != null && !macros.current().isSealed()
+                && !macros.currentOptions().omitReadOperations();
+    }
+
     private void recordOperation(Operation operation) {
         if (macros.current() != null && !macros.current().isSealed()) {
             if (macros.currentOptions().omitReadOperations() && readOnlyOperation(operation)) {
@@ -28,7 +28,8 @@ public class DmrPayloadProcessor implements PayloadProcessor {
         ModelNode node;
         if (contentType.startsWith(Dispatcher.APPLICATION_DMR_ENCODED)) {
             try {
-                node = ModelNode.fromBase64(payload);
+                // most callers read only a few attributes: decode children on first access
+                node = ModelNode.fromBase64(payload, true);
                 if (method == GET && !node.isFailure()) {
                     // For GET request the response is purely the model nodes result. The outcome
                     // is not send as part of the response but expressed with the HTTP status code.
@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.ModelNode;
+
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+/**
+ * Shares in-flight requests between concurrent callers. A caller which executes an identical request while the first one is
+ * still running, joins that request instead of sending a new one.
+ * <p>
+ * When the response arrives, every caller gets its own copy of the payload, so that callers can't interfere with each
+ * other.
+ */
+class InFlightRequests {
+
+    private final Map<String, Waiters> requests;
+
+    InFlightRequests() {
+        this.requests = new HashMap<>();
+    }
+
+    /**
+     * Joins the in-flight request with the given key or starts a new one.
+     *
+     * @param key     identifies the request
+     * @param request starts the request if there's no in-flight request for the key
+     *
+     * @return a promise which is resolved with a copy of the payload
+     */
+    Promise<ModelNode> join(String key, Supplier<Promise<ModelNode>> request) {
+        Waiters waiters = requests.get(key);
+        if (waiters == null) {
+            Waiters newWaiters = new Waiters();
+            requests.put(key, newWaiters);
+            request.get().then(payload -> {
+                requests.remove(key);
+                newWaiters.resolve(payload);
+                return null;
+            }, error -> {
+                requests.remove(key);
+                newWaiters.reject(error);
+                return null;
+            });
+            waiters = newWaiters;
+        }
+        return waiters.add();
+    }
+
+    private static class Waiters {
+
+        private final List<ResolveCallbackFn<ModelNode>> resolves = new ArrayList<>();
+        private final List<RejectCallbackFn> rejects = new ArrayList<>();
+
+        Promise<ModelNode> add() {
+            return new Promise<>((resolve, reject) -> {
+                resolves.add(resolve);
+                rejects.add(reject);
+            });
+        }
+
+        void resolve(ModelNode payload) {
+            // the callbacks run asynchronously: all copies are made before anyone sees the original payload
+            int last = resolves.size() - 1;
+            for (int i = 0; i < resolves.size(); i++) {
+                resolves.get(i).onInvoke(i == last ? payload : payload.clone());
+            }
+        }
+
+        void reject(Object error) {
+            for (RejectCallbackFn reject : rejects) {
+                reject.onInvoke(error);
+            }
+        }
+    }
+}
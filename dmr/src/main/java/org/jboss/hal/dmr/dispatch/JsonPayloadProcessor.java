@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
+
+/** Processes {@code application/json} responses using the browser's native JSON parser. */
+public class JsonPayloadProcessor implements PayloadProcessor {
+
+    @Override
+    public ModelNode processPayload(final HttpMethod method, final String contentType, final String payload) {
+        ModelNode node;
+        if (contentType.startsWith(Dispatcher.APPLICATION_JSON)) {
+            try {
+                node = ModelNode.fromJSONString(payload);
+                if (method == GET && !node.isFailure()) {
+                    // see DmrPayloadProcessor
+                    ModelNode repackaged = new ModelNode();
+                    repackaged.get(OUTCOME).set(SUCCESS);
+                    repackaged.get(RESULT).set(node);
+                    node = repackaged;
+                }
+            } catch (Throwable e) {
+                ModelNode err = new ModelNode();
+                err.get(OUTCOME).set(FAILED);
+                err.get(FAILURE_DESCRIPTION)
+                        .set("Failed to parse response: " + e.getClass().getName() + ": " + e.getMessage()); // NON-NLS
+                node = err;
+            }
+
+        } else {
+            node = new ModelNode();
+            node.get(OUTCOME).set(FAILED);
+            node.get(FAILURE_DESCRIPTION).set(PARSE_ERROR + contentType); // NON-NLS
+        }
+        return node;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.Collections.singletonList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Collects operations which are executed within a short window and sends them as one composite operation. The steps of the
+ * composite result are handed back to the individual callers.
+ * <p>
+ * A window of 0 milliseconds collects the operations executed in the same event loop tick. The window starts with the first
+ * operation and is not extended by later ones, so no operation waits longer than the window.
+ * <p>
+ * Composites are executed as a unit: If one step fails, the whole composite is rolled back. In that case only the callers
+ * of the failed steps are rejected and the other operations are sent again without them.
+ */
+class OperationBatcher {
+
+    static final int MAX_BATCH_SIZE = 50;
+
+    private final Function<Operation, Promise<ModelNode>> single;
+    private final Function<Composite, Promise<ModelNode>> composite;
+    private final Function<Object, Object> error;
+    private final List<Pending> pending;
+    private double timeoutHandle;
+
+    /**
+     * @param single    sends an operation on its own
+     * @param composite sends a composite and resolves with the payload even if the composite failed
+     * @param error     turns the failure description of a step into the error used to reject its caller
+     */
+    OperationBatcher(Function<Operation, Promise<ModelNode>> single, Function<Composite, Promise<ModelNode>> composite,
+            Function<Object, Object> error) {
+        this.single = single;
+        this.composite = composite;
+        this.error = error;
+        this.pending = new ArrayList<>();
+        this.timeoutHandle = -1;
+    }
+
+    /**
+     * Adds the operation to the current batch.
+     *
+     * @param operation the operation to execute
+     * @param window    the number of milliseconds to wait for more operations
+     *
+     * @return a promise which is resolved with the response of the operation
+     */
+    Promise<ModelNode> add(Operation operation, int window) {
+        return new Promise<>((resolve, reject) -> {
+            pending.add(new Pending(operation, resolve, reject));
+            if (pending.size() >= MAX_BATCH_SIZE) {
+                flush();
+            } else if (pending.size() == 1) {
+                timeoutHandle = setTimeout(__ -> flush(), window);
+            }
+        });
+    }
+
+    private void flush() {
+        if (timeoutHandle != -1) {
+            clearTimeout(timeoutHandle);
+            timeoutHandle = -1;
+        }
+        List<Pending> batch = new ArrayList<>(pending);
+        pending.clear();
+        send(batch);
+    }
+
+    private void send(List<Pending> batch) {
+        if (batch.size() == 1) {
+            Pending p = batch.get(0);
+            single.apply(p.operation).then(payload -> {
+                p.resolve.onInvoke(payload);
+                return null;
+            }, error -> {
+                p.reject.onInvoke(error);
+                return null;
+            });
+
+        } else if (!batch.isEmpty()) {
+            List<Operation> operations = new ArrayList<>();
+            batch.forEach(p -> operations.add(p.operation));
+            composite.apply(new Composite(operations)).then(payload -> {
+                List<Pending> remaining = complete(batch, payload);
+                if (remaining.size() == batch.size()) {
+                    // no failed step found: send the operations one by one
+                    remaining.forEach(p -> send(singletonList(p)));
+                } else {
+                    send(remaining);
+                }
+                return null;
+            }, error -> {
+                batch.forEach(p -> p.reject.onInvoke(error));
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Hands the steps of the composite payload over to the callers. If the composite failed, only the callers of the
+     * failed steps are rejected, since the results of the other steps have been rolled back.
+     *
+     * @return the operations which have to be sent again
+     */
+    List<Pending> complete(List<Pending> batch, ModelNode payload) {
+        List<Pending> remaining = new ArrayList<>();
+        CompositeResult result = new CompositeResult(payload.get(RESULT));
+        for (int i = 0; i < batch.size(); i++) {
+            Pending p = batch.get(i);
+            ModelNode step = result.step(i);
+            if (step.isFailure() && step.hasDefined(FAILURE_DESCRIPTION)) {
+                p.reject.onInvoke(error.apply(step.getFailureDescription()));
+            } else if (payload.isFailure()) {
+                remaining.add(p);
+            } else if (!step.isDefined()) {
+                p.reject.onInvoke(error.apply("No result for " + p.operation.asCli()));
+            } else {
+                p.resolve.onInvoke(step);
+            }
+        }
+        return remaining;
+    }
+
+    static class Pending {
+
+        private final Operation operation;
+        private final ResolveCallbackFn<ModelNode> resolve;
+        private final RejectCallbackFn reject;
+
+        Pending(Operation operation, ResolveCallbackFn<ModelNode> resolve, RejectCallbackFn reject) {
+            this.operation = operation;
+            this.resolve = resolve;
+            this.reject = reject;
+        }
+    }
+}
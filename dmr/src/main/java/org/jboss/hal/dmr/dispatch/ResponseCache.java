@@ -0,0 +1,185 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+
+/**
+ * Bounded LRU cache for the responses of read-only operations. Entries expire after a time to live which depends on the
+ * operation.
+ * <p>
+ * Write operations evict all entries along the path of their address: entries for the address itself, for its children and
+ * for its parents (which might read the address as child). To prevent a read which was sent before a write from putting a
+ * stale response into the cache, the cache keeps a generation counter which is incremented by every eviction.
+ */
+class ResponseCache {
+
+    static final int MAX_ENTRIES = 250;
+
+    private static final String ANY = "*";
+    private static final Set<String> CONFIGURATION_READS = new HashSet<>(Arrays.asList(READ_RESOURCE_OPERATION,
+            READ_CHILDREN_RESOURCES_OPERATION, READ_CHILDREN_NAMES_OPERATION));
+    private static final Set<String> DESCRIPTION_READS = new HashSet<>(Arrays.asList(READ_RESOURCE_DESCRIPTION_OPERATION,
+            READ_CHILDREN_TYPES_OPERATION, "read-operation-names", "read-operation-description"));
+    private static final int DESCRIPTION_FACTOR = 10;
+
+    /**
+     * Returns the time to live for the response of the given operation. Runtime values are never cached, descriptions are
+     * cached longer than configuration values.
+     *
+     * @param operation the read-only operation
+     * @param ttl       the time to live in milliseconds for configuration values
+     *
+     * @return the time to live in milliseconds or 0 if the response must not be cached
+     */
+    static long ttl(Operation operation, long ttl) {
+        if (operation instanceof Composite) {
+            return 0;
+        } else if (DESCRIPTION_READS.contains(operation.getName())) {
+            return ttl * DESCRIPTION_FACTOR;
+        } else if (CONFIGURATION_READS.contains(operation.getName())) {
+            boolean runtime = operation.hasDefined(INCLUDE_RUNTIME) && operation.get(INCLUDE_RUNTIME).asBoolean();
+            return runtime ? 0 : ttl;
+        }
+        return 0;
+    }
+
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries;
+    private long generation;
+
+    ResponseCache(LongSupplier clock) {
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.generation = 0;
+    }
+
+    /** @return a copy of the cached payload or {@code null} if there's no payload or the payload has expired */
+    ModelNode get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expires > clock.getAsLong()) {
+                return entry.payload.clone();
+            }
+            entries.remove(key);
+        }
+        return null;
+    }
+
+    /** @return the current generation which has to be passed to {@link #put(String, ResourceAddress, ModelNode, long, long)} */
+    long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches a copy of the payload unless an eviction happened since the given generation.
+     *
+     * @param generation the generation when the operation was sent
+     */
+    void put(String key, ResourceAddress address, ModelNode payload, long ttl, long generation) {
+        if (ttl > 0 && generation == this.generation) {
+            entries.put(key, new Entry(address, payload.clone(), clock.getAsLong() + ttl));
+        }
+    }
+
+    /** Evicts the entries along the path of the operation's address or the addresses of the composite's steps. */
+    void evict(Operation operation) {
+        generation++;
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                evict(step.getAddress());
+            }
+        } else {
+            evict(operation.getAddress());
+        }
+    }
+
+    private void evict(ResourceAddress address) {
+        if (address.isEmpty()) {
+            entries.clear();
+        } else {
+            for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext();) {
+                if (samePath(iterator.next().address, address)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** @return whether one address is a prefix of the other. Wildcards match any value. */
+    private boolean samePath(ResourceAddress a1, ResourceAddress a2) {
+        int size = Math.min(a1.size(), a2.size());
+        if (size == 0) {
+            return true;
+        }
+        Iterator<Property> i1 = a1.asPropertyList().iterator();
+        Iterator<Property> i2 = a2.asPropertyList().iterator();
+        for (int i = 0; i < size; i++) {
+            Property p1 = i1.next();
+            Property p2 = i2.next();
+            if (!p1.getName().equals(p2.getName())) {
+                return false;
+            }
+            String v1 = p1.getValue().asString();
+            String v2 = p2.getValue().asString();
+            if (!v1.equals(v2) && !ANY.equals(v1) && !ANY.equals(v2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Entry {
+
+        private final ResourceAddress address;
+        private final ModelNode payload;
+        private final long expires;
+
+        private Entry(ResourceAddress address, ModelNode payload, long expires) {
+            this.address = address;
+            this.payload = payload;
+            this.expires = expires;
+        }
+    }
+}
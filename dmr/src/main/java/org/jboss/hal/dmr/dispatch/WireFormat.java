@@ -0,0 +1,70 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.Operation;
+
+import static org.jboss.hal.dmr.dispatch.Dispatcher.APPLICATION_DMR_ENCODED;
+import static org.jboss.hal.dmr.dispatch.Dispatcher.APPLICATION_JSON;
+
+/**
+ * The formats used to exchange operations with the management endpoint. Which format is used, is controlled by
+ * {@link Settings.Key#WIRE_FORMAT}.
+ */
+public enum WireFormat {
+
+    /** The base64 encoded DMR format. This is the default. */
+    DMR("dmr", APPLICATION_DMR_ENCODED),
+
+    /** JSON. Responses are parsed using the browser's native JSON parser and are about a third smaller than in DMR. */
+    JSON("json", APPLICATION_JSON);
+
+    public static WireFormat from(String value) {
+        if (value != null) {
+            for (WireFormat wireFormat : values()) {
+                if (wireFormat.value.equalsIgnoreCase(value)) {
+                    return wireFormat;
+                }
+            }
+        }
+        return DMR;
+    }
+
+    private final String value;
+    private final String contentType;
+
+    WireFormat(String value, String contentType) {
+        this.value = value;
+        this.contentType = contentType;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    String contentType() {
+        return contentType;
+    }
+
+    String encode(Operation operation) {
+        return this == JSON ? operation.toJSONString(true) : operation.toBase64String();
+    }
+
+    PayloadProcessor payloadProcessor() {
+        return this == JSON ? new JsonPayloadProcessor() : new DmrPayloadProcessor();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ByteArrayDataInputTest {
+
+    @Test
+    public void numbers() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeLong(Long.MIN_VALUE);
+        out.writeLong(-1L);
+        out.writeLong(0x12345678_9ABCDEF0L);
+        out.writeDouble(Math.PI);
+        out.writeDouble(-0.5);
+        out.writeInt(Integer.MIN_VALUE);
+
+        DataInput in = new ByteArrayDataInput(baos.toByteArray());
+        assertEquals(Long.MIN_VALUE, in.readLong());
+        assertEquals(-1L, in.readLong());
+        assertEquals(0x12345678_9ABCDEF0L, in.readLong());
+        assertEquals(Math.PI, in.readDouble(), 0);
+        assertEquals(-0.5, in.readDouble(), 0);
+        assertEquals(Integer.MIN_VALUE, in.readInt());
+    }
+
+    @Test
+    public void utf() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeUTF("");
+        out.writeUTF("read-resource-description");
+        out.writeUTF("Grüße €");
+
+        DataInput in = new ByteArrayDataInput(baos.toByteArray());
+        assertEquals("", in.readUTF());
+        assertEquals("read-resource-description", in.readUTF());
+        assertEquals("Grüße €", in.readUTF());
+    }
+
+    @Test
+    public void byteOrderMark() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(baos);
+        out.writeUTF("\uFEFF");
+        out.writeUTF("\uFEFFvalue");
+
+        byte[] bytes = baos.toByteArray();
+        assertArrayEquals(new byte[] { 0, 3, (byte) 0xEF, (byte) 0xBB, (byte) 0xBF }, Arrays.copyOf(bytes, 5));
+        DataInput in = new ByteArrayDataInput(bytes);
+        assertEquals("\uFEFF", in.readUTF());
+        assertEquals("\uFEFFvalue", in.readUTF());
+    }
+}
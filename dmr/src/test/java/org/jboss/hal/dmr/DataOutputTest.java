@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class DataOutputTest {
+
+    @Test
+    public void negativeBytes() {
+        byte[] bytes = new byte[] { -128, -1, 0, 1, 127 };
+        DataOutput out = new DataOutput();
+        out.write(bytes);
+        out.writeByte(-42);
+
+        DataInput in = new ByteArrayDataInput(out.toByteArray());
+        for (byte b : bytes) {
+            assertEquals(b, in.readByte());
+        }
+        assertEquals(-42, in.readByte());
+    }
+
+    @Test
+    public void numbers() {
+        DataOutput out = new DataOutput();
+        out.writeInt(Integer.MIN_VALUE);
+        out.writeLong(-1L);
+        out.writeDouble(-0.5);
+
+        DataInput in = new ByteArrayDataInput(out.toByteArray());
+        assertEquals(Integer.MIN_VALUE, in.readInt());
+        assertEquals(-1L, in.readLong());
+        assertEquals(-0.5, in.readDouble(), 0);
+    }
+
+    @Test
+    public void grow() {
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        DataOutput out = new DataOutput();
+        out.write(bytes);
+        assertArrayEquals(bytes, out.toByteArray());
+    }
+
+    @Test
+    public void modelNode() {
+        ModelNode node = new ModelNode();
+        node.get("bytes").set(new byte[] { -1, -128, 127 });
+        node.get("int").set(-42);
+        node.get("long").set(Long.MIN_VALUE);
+        node.get("double").set(-0.25);
+        node.get("string").set("Grüße €");
+
+        DataOutput out = new DataOutput();
+        node.writeExternal(out);
+        ModelNode copy = new ModelNode();
+        copy.readExternal(new ByteArrayDataInput(out.toByteArray()));
+        assertEquals(node, copy);
+        assertArrayEquals(new byte[] { -1, -128, 127 }, copy.get("bytes").asBytes());
+    }
+}
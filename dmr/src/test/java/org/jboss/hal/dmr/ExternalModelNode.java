@@ -23,16 +23,27 @@ import java.io.InputStream;
 public class ExternalModelNode {
 
     public static ModelNode read(InputStream inputStream) {
+        return read(inputStream, false);
+    }
+
+    public static ModelNode read(InputStream inputStream, boolean lazy) {
+        try {
+            return read(org.jboss.dmr.ModelNode.fromStream(inputStream), lazy);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read DMR from input stream: " + e.getMessage());
+        }
+    }
+
+    public static ModelNode read(org.jboss.dmr.ModelNode external, boolean lazy) {
         try {
-            org.jboss.dmr.ModelNode fromStream = org.jboss.dmr.ModelNode.fromStream(inputStream);
             ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            fromStream.writeExternal(new DataOutputStream(baos));
+            external.writeExternal(new DataOutputStream(baos));
 
             ModelNode modelNode = new ModelNode();
-            modelNode.readExternal(new DataInput(baos.toByteArray()));
+            modelNode.readExternal(new ByteArrayDataInput(baos.toByteArray()), lazy);
             return modelNode;
         } catch (IOException e) {
-            throw new RuntimeException("Unable to read DMR from input stream: " + e.getMessage());
+            throw new RuntimeException("Unable to write external DMR: " + e.getMessage());
         }
     }
 }
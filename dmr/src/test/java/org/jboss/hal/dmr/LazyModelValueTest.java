@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class LazyModelValueTest {
+
+    private org.jboss.dmr.ModelNode external;
+
+    @Before
+    public void setUp() {
+        external = new org.jboss.dmr.ModelNode();
+        external.get("outcome").set("success");
+        org.jboss.dmr.ModelNode result = external.get("result");
+        result.get("string").set("Grüße");
+        result.get("int").set(42);
+        result.get("long").set(Long.MAX_VALUE);
+        result.get("double").set(2.5);
+        result.get("boolean").set(true);
+        result.get("big-decimal").set(new BigDecimal("3.14"));
+        result.get("big-integer").set(new BigInteger("12345678901234567890"));
+        result.get("bytes").set(new byte[] { 1, 2, 3 });
+        result.get("expression").set(new org.jboss.dmr.ValueExpression("${foo:bar}"));
+        result.get("type").set(org.jboss.dmr.ModelType.LONG);
+        result.get("property").set("name", "value");
+        result.get("undefined");
+        result.get("list").add("a").add(1).add().get("nested").set("value");
+        result.get("object", "nested", "deep").set("value");
+    }
+
+    @Test
+    public void sameAsEager() {
+        ModelNode eager = ExternalModelNode.read(external, false);
+        ModelNode lazy = ExternalModelNode.read(external, true);
+
+        assertEquals(eager, lazy);
+        assertEquals(eager.toString(), lazy.toString());
+        assertEquals(eager.toJSONString(), lazy.toJSONString());
+    }
+
+    @Test
+    public void keys() {
+        ModelNode lazy = ExternalModelNode.read(external, true);
+        assertEquals(asList("outcome", "result"), asList(lazy.keys().toArray()));
+        assertEquals(14, lazy.get("result").keys().size());
+        assertTrue(lazy.get("result").has("undefined"));
+        assertFalse(lazy.get("result").hasDefined("undefined"));
+    }
+
+    @Test
+    public void values() {
+        ModelNode result = ExternalModelNode.read(external, true).get("result");
+        assertEquals("Grüße", result.get("string").asString());
+        assertEquals(42, result.get("int").asInt());
+        assertEquals(Long.MAX_VALUE, result.get("long").asLong());
+        assertEquals(new BigInteger("12345678901234567890"), result.get("big-integer").asBigInteger());
+        assertEquals(ModelType.LONG, result.get("type").asType());
+        assertEquals("value", result.get("property").asProperty().getValue().asString());
+        assertEquals("value", result.get("object", "nested", "deep").asString());
+
+        List<ModelNode> list = result.get("list").asList();
+        assertEquals(3, list.size());
+        assertEquals("a", list.get(0).asString());
+        assertEquals("value", list.get(2).get("nested").asString());
+    }
+
+    @Test
+    public void modify() {
+        ModelNode lazy = ExternalModelNode.read(external, true);
+        ModelNode result = lazy.get("result");
+        result.get("int").set(23);
+        result.remove("string");
+        result.get("new").set("value");
+        result.get("list").add("b");
+
+        assertEquals(23, result.get("int").asInt());
+        assertFalse(result.has("string"));
+        assertEquals("value", result.get("new").asString());
+        assertEquals(4, result.get("list").asList().size());
+
+        ModelNode copy = lazy.clone();
+        assertEquals(lazy, copy);
+    }
+
+    @Test
+    public void copy() {
+        ModelNode lazy = ExternalModelNode.read(external, true);
+        lazy.get("result").get("int").asInt(); // decode some children before copying
+
+        ModelNode copy = lazy.clone();
+        assertEquals(lazy, copy);
+
+        copy.get("result").get("int").set(23);
+        copy.get("result").get("list").add("b");
+        copy.get("result", "object", "nested", "deep").set("changed");
+        assertEquals(42, lazy.get("result").get("int").asInt());
+        assertEquals(3, lazy.get("result").get("list").asList().size());
+        assertEquals("value", lazy.get("result", "object", "nested", "deep").asString());
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Collections;
 import org.junit.Test;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -86,6 +87,26 @@ public class OperationTest {
         assertOperation(operation.runAs(Collections.singleton("Administrator")), "Administrator");
     }
 
+    @Test
+    public void toJSONString() {
+        ResourceAddress address = new ResourceAddress()
+                .add("subsystem", "datasources")
+                .add("data-source", "foo");
+
+        Operation operation = new Operation.Builder(address, ADD)
+                .param(JNDI_NAME, "java:/bar")
+                .param("bytes", new ModelNode().set(new byte[] { 1, 2, 3 }))
+                .build();
+
+        // must be understood by the management endpoint
+        org.jboss.dmr.ModelNode json = org.jboss.dmr.ModelNode.fromJSONString(operation.toJSONString(true));
+        assertEquals(ADD, json.get(OP).asString());
+        assertEquals("datasources", json.get(ADDRESS).get(0).get("subsystem").asString());
+        assertEquals("foo", json.get(ADDRESS).get(1).get("data-source").asString());
+        assertEquals("java:/bar", json.get(JNDI_NAME).asString());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, json.get("bytes").asBytes());
+    }
+
     private void assertOperation(Operation operation) {
         assertOperation(operation, null);
     }
@@ -0,0 +1,150 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.OperationBatcher.Pending;
+import org.junit.Before;
+import org.junit.Test;
+
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class OperationBatcherTest {
+
+    private OperationBatcher batcher;
+    private Map<String, ModelNode> resolved;
+    private Map<String, Object> rejected;
+
+    @Before
+    public void setUp() {
+        batcher = new OperationBatcher(null, null, error -> "Dispatcher error: " + error);
+        resolved = new HashMap<>();
+        rejected = new HashMap<>();
+    }
+
+    @Test
+    public void success() {
+        List<Pending> batch = batch("a", "b");
+        List<Pending> remaining = batcher.complete(batch, payload(SUCCESS, step("a"), step("b")));
+
+        assertTrue(remaining.isEmpty());
+        assertEquals("a", resolved.get("a").get(RESULT).asString());
+        assertEquals("b", resolved.get("b").get(RESULT).asString());
+        assertTrue(rejected.isEmpty());
+    }
+
+    @Test
+    public void missingStep() {
+        List<Pending> batch = batch("a", "b");
+        List<Pending> remaining = batcher.complete(batch, payload(SUCCESS, step("a")));
+
+        assertTrue(remaining.isEmpty());
+        assertEquals(1, resolved.size());
+        assertTrue(rejected.get("b").toString().startsWith("Dispatcher error: No result for"));
+    }
+
+    @Test
+    public void failedStep() {
+        List<Pending> batch = batch("a", "b", "c");
+        List<Pending> remaining = batcher.complete(batch,
+                payload(FAILED, step("a"), failedStep("b"), cancelledStep()));
+
+        // the composite has been rolled back: only the failed step is rejected, the others are sent again
+        assertEquals(2, remaining.size());
+        assertTrue(resolved.isEmpty());
+        assertEquals(1, rejected.size());
+        assertEquals("Dispatcher error: \"b failed\"", rejected.get("b"));
+
+        List<Pending> retry = batcher.complete(remaining, payload(SUCCESS, step("a"), step("c")));
+        assertTrue(retry.isEmpty());
+        assertEquals(2, resolved.size());
+        assertEquals("c", resolved.get("c").get(RESULT).asString());
+    }
+
+    @Test
+    public void failedWithoutStep() {
+        List<Pending> batch = batch("a", "b");
+        ModelNode payload = payload(FAILED);
+        payload.get(FAILURE_DESCRIPTION).set("composite failed");
+        List<Pending> remaining = batcher.complete(batch, payload);
+
+        assertEquals(2, remaining.size());
+        assertTrue(resolved.isEmpty());
+        assertTrue(rejected.isEmpty());
+    }
+
+    private List<Pending> batch(String... names) {
+        List<Pending> batch = new ArrayList<>();
+        for (String name : names) {
+            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_ATTRIBUTE_OPERATION)
+                    .param(NAME, name)
+                    .build();
+            batch.add(new Pending(operation, new ResolveCallbackFn<ModelNode>() {
+                @Override
+                public void onInvoke(ModelNode value) {
+                    resolved.put(name, value);
+                }
+
+                @Override
+                public void onInvoke(ResolveUnionType<ModelNode> value) {
+                    onInvoke(value.asT());
+                }
+            }, error -> rejected.put(name, error)));
+        }
+        return batch;
+    }
+
+    private ModelNode payload(String outcome, ModelNode... steps) {
+        ModelNode payload = new ModelNode();
+        payload.get(OUTCOME).set(outcome);
+        for (int i = 0; i < steps.length; i++) {
+            payload.get(RESULT).get("step-" + (i + 1)).set(steps[i]);
+        }
+        return payload;
+    }
+
+    private ModelNode step(String result) {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(SUCCESS);
+        step.get(RESULT).set(result);
+        return step;
+    }
+
+    private ModelNode failedStep(String name) {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(FAILED);
+        step.get(FAILURE_DESCRIPTION).set(name + " failed");
+        return step;
+    }
+
+    private ModelNode cancelledStep() {
+        ModelNode step = new ModelNode();
+        step.get(OUTCOME).set(CANCELLED);
+        return step;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class ResponseCacheTest {
+
+    private static final long TTL = 1000;
+
+    private long now;
+    private ResponseCache cache;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        cache = new ResponseCache(() -> now);
+    }
+
+    @Test
+    public void ttl() {
+        ResourceAddress address = ResourceAddress.from("subsystem=datasources");
+        assertEquals(TTL, ResponseCache.ttl(new Operation.Builder(address, READ_RESOURCE_OPERATION).build(), TTL));
+        assertEquals(0, ResponseCache.ttl(new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true).build(), TTL));
+        assertEquals(10 * TTL, ResponseCache.ttl(new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
+                .param(INCLUDE_RUNTIME, true).build(), TTL));
+        assertEquals(0, ResponseCache.ttl(new Operation.Builder(address, READ_ATTRIBUTE_OPERATION).build(), TTL));
+        assertEquals(0, ResponseCache.ttl(new Composite(new Operation.Builder(address, READ_RESOURCE_OPERATION).build()),
+                TTL));
+    }
+
+    @Test
+    public void getCopy() {
+        ModelNode payload = payload("foo");
+        cache.put("key", ResourceAddress.root(), payload, TTL, cache.generation());
+
+        ModelNode cached = cache.get("key");
+        assertEquals(payload, cached);
+        assertNotSame(payload, cached);
+        cached.get(RESULT).set("bar");
+        assertEquals(payload, cache.get("key"));
+    }
+
+    @Test
+    public void expire() {
+        cache.put("key", ResourceAddress.root(), payload("foo"), TTL, cache.generation());
+        now = TTL - 1;
+        assertNotNull(cache.get("key"));
+        now = TTL;
+        assertNull(cache.get("key"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void bounded() {
+        for (int i = 0; i <= ResponseCache.MAX_ENTRIES; i++) {
+            cache.put("key" + i, ResourceAddress.root(), payload("foo"), TTL, cache.generation());
+        }
+        assertEquals(ResponseCache.MAX_ENTRIES, cache.size());
+        assertNull(cache.get("key0"));
+        assertNotNull(cache.get("key1"));
+    }
+
+    @Test
+    public void evictPath() {
+        put("/");
+        put("/subsystem=datasources");
+        put("/subsystem=datasources/data-source=foo");
+        put("/subsystem=datasources/data-source=bar");
+        put("/subsystem=undertow");
+        put("/host=*/server=*/subsystem=datasources");
+
+        cache.evict(new Operation.Builder(ResourceAddress.from("/subsystem=datasources/data-source=foo"),
+                WRITE_ATTRIBUTE_OPERATION).build());
+        assertNull(cache.get("/"));
+        assertNull(cache.get("/subsystem=datasources"));
+        assertNull(cache.get("/subsystem=datasources/data-source=foo"));
+        assertNotNull(cache.get("/subsystem=datasources/data-source=bar"));
+        assertNotNull(cache.get("/subsystem=undertow"));
+        assertNotNull(cache.get("/host=*/server=*/subsystem=datasources"));
+    }
+
+    @Test
+    public void evictWildcard() {
+        put("/host=master/server=one/subsystem=datasources");
+        put("/host=master/server=two/subsystem=datasources");
+        put("/host=slave/server=one/subsystem=datasources");
+
+        cache.evict(new Operation.Builder(ResourceAddress.from("/host=master/server=*"), "reload").build());
+        assertNull(cache.get("/host=master/server=one/subsystem=datasources"));
+        assertNull(cache.get("/host=master/server=two/subsystem=datasources"));
+        assertNotNull(cache.get("/host=slave/server=one/subsystem=datasources"));
+    }
+
+    @Test
+    public void evictRoot() {
+        put("/subsystem=datasources");
+        put("/subsystem=undertow");
+        cache.evict(new Operation.Builder(ResourceAddress.root(), "reload").build());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void evictComposite() {
+        put("/subsystem=datasources");
+        put("/subsystem=undertow");
+        put("/subsystem=logging");
+        cache.evict(new Composite(
+                new Operation.Builder(ResourceAddress.from("/subsystem=datasources"), ADD).build(),
+                new Operation.Builder(ResourceAddress.from("/subsystem=undertow"), REMOVE).build()));
+        assertNull(cache.get("/subsystem=datasources"));
+        assertNull(cache.get("/subsystem=undertow"));
+        assertNotNull(cache.get("/subsystem=logging"));
+    }
+
+    @Test
+    public void staleGeneration() {
+        long generation = cache.generation();
+        cache.evict(new Operation.Builder(ResourceAddress.from("/subsystem=undertow"), ADD).build());
+        cache.put("key", ResourceAddress.from("/subsystem=datasources"), payload("foo"), TTL, generation);
+        assertNull(cache.get("key"));
+    }
+
+    private void put(String address) {
+        cache.put(address, ResourceAddress.from(address), payload(address), TTL, cache.generation());
+    }
+
+    private ModelNode payload(String result) {
+        ModelNode payload = new ModelNode();
+        payload.get(OUTCOME).set(SUCCESS);
+        payload.get(RESULT).set(result);
+        return payload;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Calculates the delay between two iterations of a {@linkplain Flow#repeat(FlowContext, Task) repeated} task.
+ * <ul>
+ * <li>If the task takes longer than the current delay, the delay grows to the latency of the task.</li>
+ * <li>If the task fails, the delay is doubled (exponential backoff with jitter).</li>
+ * <li>If the task succeeds faster than the current delay, the delay is halved until it's back at the interval or the
+ * latency, whichever is greater.</li>
+ * </ul>
+ * The delay never falls below the interval and never exceeds {@value #MAX_DELAY_FACTOR} times the interval.
+ */
+class AdaptiveDelay {
+
+    static final int MAX_DELAY_FACTOR = 8;
+    static final double JITTER = 0.2;
+
+    private final long interval;
+    private final long maxDelay;
+    private final DoubleSupplier random;
+    private long current;
+
+    AdaptiveDelay(long interval) {
+        this(interval, Math::random);
+    }
+
+    AdaptiveDelay(long interval, DoubleSupplier random) {
+        this.interval = Math.max(0, interval);
+        this.maxDelay = this.interval * MAX_DELAY_FACTOR;
+        this.random = random;
+        this.current = this.interval;
+    }
+
+    /** Returns the delay after a successful iteration which took {@code latency} milliseconds. */
+    long succeeded(long latency) {
+        long target = Math.max(interval, latency);
+        if (target >= current) {
+            current = target;
+        } else {
+            // decay slowly: a single fast response doesn't mean the server has recovered
+            current = Math.max(target, current / 2);
+        }
+        current = Math.min(current, maxDelay);
+        return current;
+    }
+
+    /** Returns the delay after a failed iteration. */
+    long failed() {
+        current = Math.min(Math.max(current, interval) * 2, maxDelay);
+        double jitter = 1 + JITTER * (2 * random.getAsDouble() - 1);
+        return Math.round(current * jitter);
+    }
+
+    long current() {
+        return current;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import static java.util.Comparator.comparingInt;
+
+/**
+ * Bookkeeping of a {@linkplain Flow#concurrent(FlowContext, List, int) concurrent} flow: Starts the tasks in the order
+ * of their priority and keeps at most {@code maxInFlight} tasks running. Promises and timers are wired by
+ * {@link SequenceImpl}, which reports the outcome of each started task using {@link #succeeded()} and
+ * {@link #failed(Object)}.
+ */
+class ConcurrentScheduler<T> {
+
+    interface Callbacks<T> {
+
+        void start(T task);
+
+        void tick();
+
+        void resolve();
+
+        void reject(Object error);
+    }
+
+    private final Deque<T> queue;
+    private final int maxInFlight;
+    private final boolean failFast;
+    private final Callbacks<T> callbacks;
+    private int inFlight;
+    private boolean settled;
+
+    ConcurrentScheduler(List<T> tasks, ToIntFunction<T> priority, int maxInFlight, boolean failFast,
+            Callbacks<T> callbacks) {
+        // List.sort() is stable: tasks with the same priority keep their order
+        List<T> sorted = new ArrayList<>(tasks);
+        sorted.sort(comparingInt(priority).reversed());
+        this.queue = new ArrayDeque<>(sorted);
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.failFast = failFast;
+        this.callbacks = callbacks;
+        this.inFlight = 0;
+        this.settled = false;
+    }
+
+    /** Starts as many tasks as allowed and resolves the flow if all tasks have finished. */
+    void pump() {
+        while (!settled && inFlight < maxInFlight && !queue.isEmpty()) {
+            inFlight++;
+            callbacks.start(queue.poll());
+        }
+        if (!settled && inFlight == 0 && queue.isEmpty()) {
+            settled = true;
+            callbacks.resolve();
+        }
+    }
+
+    /** Must be called exactly once for each started task which succeeded. */
+    void succeeded() {
+        inFlight--;
+        next();
+    }
+
+    /** Must be called exactly once for each started task which failed. */
+    void failed(Object error) {
+        inFlight--;
+        if (!settled && failFast) {
+            settled = true;
+            callbacks.reject(error);
+        } else {
+            next();
+        }
+    }
+
+    void timeout() {
+        if (!settled) {
+            settled = true;
+            callbacks.reject(FlowRunner.TIMEOUT_ERROR);
+        }
+    }
+
+    int inFlight() {
+        return inFlight;
+    }
+
+    boolean settled() {
+        return settled;
+    }
+
+    private void next() {
+        if (!settled) {
+            try {
+                callbacks.tick();
+            } finally {
+                pump();
+            }
+        }
+    }
+}
@@ -21,7 +21,8 @@ import static org.jboss.hal.flow.SequenceImpl.Mode.PARALLEL;
 import static org.jboss.hal.flow.SequenceImpl.Mode.SEQUENTIAL;
 
 /**
- * An interface to execute a list of {@linkplain Task asynchronous tasks} in parallel or sequentially, or to execute a single
+ * An interface to execute a list of {@linkplain Task asynchronous tasks} in parallel, with bounded concurrency or
+ * sequentially, or to execute a single
  * {@linkplain Task task} {@linkplain #repeat(FlowContext, Task) repeatedly} as long as certain conditions are met.
  * <p>
  * The {@linkplain Task tasks} share a {@linkplain FlowContext context} that can be used to store data in a map or on a stack.
@@ -52,6 +53,22 @@ public interface Flow {
         return new SequenceImpl<>(SEQUENTIAL, context, tasks);
     }
 
+    /**
+     * Executes a list of {@linkplain Task asynchronous tasks} with bounded concurrency. At most {@code maxInFlight} tasks
+     * are running at the same time. The remaining tasks are queued and started as soon as a running task has finished. Tasks
+     * with a higher {@linkplain Task#priority() priority} are started first, tasks with the same priority are started in
+     * order.
+     *
+     * @param context the context shared between tasks
+     * @param tasks the list of tasks to execute
+     * @param maxInFlight the maximum number of tasks running at the same time
+     * @param <C> the type of the shared context
+     * @return an interface to control whether the execution of the tasks should fail fast or fail last
+     */
+    static <C extends FlowContext> Sequence<C> concurrent(C context, List<Task<C>> tasks, int maxInFlight) {
+        return new SequenceImpl<>(context, tasks, maxInFlight);
+    }
+
     /**
      * Executes the given {@linkplain Task task} repeatedly as long as the conditions defined by {@link Repeat} are met.
      *
@@ -58,7 +58,12 @@ public interface Repeat<C extends FlowContext> extends Promisable<C>, Subscripti
     Repeat<C> failFast(boolean failFast);
 
     /**
-     * The interval in milliseconds between the iterations. Defaults to {@value Repeat#DEFAULT_INTERVAL} milliseconds.
+     * The interval in milliseconds between the end of an iteration and the start of the next iteration. Defaults to
+     * {@value Repeat#DEFAULT_INTERVAL} milliseconds.
+     * <p>
+     * The interval is the minimal delay between two iterations. If the task takes longer than the interval, the next
+     * iteration is delayed accordingly. If the task fails and fail fast is turned off, the delay grows exponentially.
+     * Once the task is fast again, the delay decays back to the interval.
      */
     Repeat<C> interval(long interval);
 
@@ -71,4 +76,26 @@ public interface Repeat<C extends FlowContext> extends Promisable<C>, Subscripti
      * The maximal number of iterations of the loop. Defaults to an infinite loop ({@value Repeat#DEFAULT_ITERATIONS}).
      */
     Repeat<C> iterations(int iterations);
+
+    /**
+     * Registers a callback which is called after each iteration to report the timings of the iteration.
+     */
+    Repeat<C> onIteration(IterationCallback callback);
+
+    /**
+     * Callback to report the timings of an iteration.
+     */
+    @FunctionalInterface
+    interface IterationCallback {
+
+        /**
+         * Called after each iteration.
+         *
+         * @param iteration the number of the iteration, starting with 1
+         * @param latency the time in milliseconds the task took
+         * @param delay the delay in milliseconds until the next iteration, 0 if there's no next iteration
+         * @param failed whether the task failed
+         */
+        void onIteration(int iteration, long latency, long delay, boolean failed);
+    }
 }
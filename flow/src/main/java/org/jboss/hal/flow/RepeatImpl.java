@@ -21,11 +21,16 @@ import elemental2.promise.Promise;
 import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
 import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
 
+/**
+ * Executes the task repeatedly. The next iteration is scheduled when the previous iteration has finished, so there's never
+ * more than one iteration in flight.
+ * <p>
+ * The delay between two iterations is calculated by {@link AdaptiveDelay}: It grows with slow responses and failures
+ * (if fail fast is turned off) and decays back to the interval once the task is fast again.
+ */
 class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<C> {
 
     private final Task<C> task;
@@ -34,10 +39,14 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
     private long interval;
     private long timeout;
     private int iterations;
+    private IterationCallback iterationCallback;
     private int index;
+    private int attempts;
+    private AdaptiveDelay adaptiveDelay;
+    private boolean done;
     private String lastFailure;
     private double timeoutHandle;
-    private double intervalHandle;
+    private double iterationHandle;
 
     RepeatImpl(final C context, final Task<C> task) {
         super(context, 1);
@@ -47,10 +56,14 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
         this.interval = DEFAULT_INTERVAL;
         this.timeout = DEFAULT_TIMEOUT;
         this.iterations = DEFAULT_ITERATIONS;
+        this.iterationCallback = null;
         this.index = 0;
+        this.attempts = 0;
+        this.adaptiveDelay = null;
+        this.done = false;
         this.lastFailure = null;
         this.timeoutHandle = 0;
-        this.intervalHandle = 0;
+        this.iterationHandle = 0;
     }
 
     // ------------------------------------------------------ repeat API
@@ -85,42 +98,69 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
         return this;
     }
 
+    @Override
+    public Repeat<C> onIteration(final IterationCallback callback) {
+        this.iterationCallback = callback;
+        return this;
+    }
+
     // ------------------------------------------------------ run
 
     @Override
     Promise<C> run() {
         return new Promise<>((resolve, reject) -> {
-            timeoutHandle = setTimeout(__ -> cancel(reject, TIMEOUT_ERROR), timeout);
             if (!predicate.test(context)) {
                 finish(resolve, context);
+            } else {
+                adaptiveDelay = new AdaptiveDelay(interval);
+                timeoutHandle = setTimeout(__ -> cancel(reject, TIMEOUT_ERROR), timeout);
+                schedule(resolve, reject, interval);
             }
-            until(resolve, reject);
         });
     }
 
-    private void until(ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
-        intervalHandle = setInterval(__ -> {
-            if (failFast && lastFailure != null) {
-                cancel(reject, lastFailure);
-            } else {
-                task.apply(context)
-                        .then(c -> {
-                            index++;
-                            c.progress.tick();
-                            if (areWeDone(c)) {
-                                finish(resolve, c);
-                            }
-                            return null;
-                        })
-                        .catch_(error -> {
-                            lastFailure = String.valueOf(error);
-                            if (failFast) {
-                                cancel(reject, lastFailure);
-                            }
-                            return null;
-                        });
-            }
-        }, interval);
+    private void schedule(ResolveCallbackFn<C> resolve, RejectCallbackFn reject, long delay) {
+        iterationHandle = setTimeout(__ -> iterate(resolve, reject), delay);
+    }
+
+    private void iterate(ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
+        if (done) {
+            return;
+        }
+        attempts++;
+        long start = System.currentTimeMillis();
+        // then(onFulfilled, onRejected): an error while handling the result must not count as failed iteration
+        task.apply(context)
+                .then(c -> {
+                    long latency = System.currentTimeMillis() - start;
+                    if (!done) {
+                        index++;
+                        c.progress.tick();
+                        if (areWeDone(c)) {
+                            report(latency, 0, false);
+                            finish(resolve, c);
+                        } else {
+                            long next = adaptiveDelay.succeeded(latency);
+                            report(latency, next, false);
+                            schedule(resolve, reject, next);
+                        }
+                    }
+                    return null;
+                }, error -> {
+                    long latency = System.currentTimeMillis() - start;
+                    if (!done) {
+                        lastFailure = String.valueOf(error);
+                        if (failFast) {
+                            report(latency, 0, true);
+                            cancel(reject, lastFailure);
+                        } else {
+                            long next = adaptiveDelay.failed();
+                            report(latency, next, true);
+                            schedule(resolve, reject, next);
+                        }
+                    }
+                    return null;
+                });
     }
 
     // ------------------------------------------------------ helper methods
@@ -133,6 +173,12 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
         }
     }
 
+    private void report(long latency, long delay, boolean failed) {
+        if (iterationCallback != null) {
+            iterationCallback.onIteration(attempts, latency, delay, failed);
+        }
+    }
+
     private void finish(ResolveCallbackFn<C> resolve, C context) {
         cleanup();
         context.progress.finish();
@@ -145,7 +191,8 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
     }
 
     private void cleanup() {
-        clearInterval(intervalHandle);
+        done = true;
+        clearTimeout(iterationHandle);
         clearTimeout(timeoutHandle);
     }
 }
@@ -43,8 +43,8 @@ public interface Sequence<C extends FlowContext> extends Promisable<C>, Subscrip
     /**
      * The timeout in milliseconds for the sequence. Defaults to no timeout ({@value #DEFAULT_TIMEOUT}).
      * <p>
-     * Please note that this only applies to sequential flows. The timeout has no effect for parallel flows. The promise API
-     * does not provide a method to cancel running promises.
+     * Please note that this only applies to sequential and concurrent flows. The timeout has no effect for parallel flows. The
+     * promise API does not provide a method to cancel running promises.
      */
     Sequence<C> timeout(long timeout);
 }
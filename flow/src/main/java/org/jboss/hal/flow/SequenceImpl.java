@@ -28,22 +28,33 @@ import static elemental2.dom.DomGlobal.setTimeout;
 class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Sequence<C> {
 
     enum Mode {
-        PARALLEL, SEQUENTIAL
+        PARALLEL, SEQUENTIAL, CONCURRENT
     }
 
     private final Mode mode;
     private final List<Task<C>> tasks;
     private final Iterator<Task<C>> iterator;
+    private final int maxInFlight;
+    private ConcurrentScheduler<Task<C>> scheduler;
     private boolean failFast;
     private long timeout;
     private double timeoutHandle;
     private boolean timedOut;
 
     SequenceImpl(final Mode mode, final C context, final List<Task<C>> tasks) {
+        this(mode, context, tasks, tasks.size());
+    }
+
+    SequenceImpl(final C context, final List<Task<C>> tasks, final int maxInFlight) {
+        this(Mode.CONCURRENT, context, tasks, maxInFlight);
+    }
+
+    private SequenceImpl(final Mode mode, final C context, final List<Task<C>> tasks, final int maxInFlight) {
         super(context, tasks.size());
         this.mode = mode;
         this.tasks = tasks;
         this.iterator = tasks.iterator();
+        this.maxInFlight = maxInFlight;
         this.failFast = DEFAULT_FAIL_FAST;
         this.timeout = DEFAULT_TIMEOUT;
         this.timeoutHandle = 0;
@@ -76,6 +87,8 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
                     return parallel();
                 case SEQUENTIAL:
                     return sequential();
+                case CONCURRENT:
+                    return concurrent();
                 default:
                     throw new IllegalStateException("Unexpected flow execution mode: " + mode);
             }
@@ -153,6 +166,53 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
         }
     }
 
+    // ------------------------------------------------------ run concurrent
+
+    private Promise<C> concurrent() {
+        return new Promise<C>((resolve, reject) -> {
+            scheduler = new ConcurrentScheduler<>(tasks, Task::priority, maxInFlight, failFast,
+                    new ConcurrentScheduler.Callbacks<Task<C>>() {
+                        @Override
+                        public void start(Task<C> task) {
+                            // then(onFulfilled, onRejected): an error in succeeded() must not report the task twice
+                            task.apply(context).then(c -> {
+                                scheduler.succeeded();
+                                return null;
+                            }, error -> {
+                                scheduler.failed(error);
+                                return null;
+                            });
+                        }
+
+                        @Override
+                        public void tick() {
+                            context.progress.tick();
+                        }
+
+                        @Override
+                        public void resolve() {
+                            resolve.onInvoke(context);
+                        }
+
+                        @Override
+                        public void reject(Object error) {
+                            reject.onInvoke(error);
+                        }
+                    });
+            if (timeout > 0) {
+                timeoutHandle = setTimeout(__ -> scheduler.timeout(), timeout);
+            }
+            scheduler.pump();
+        }).then(c -> {
+            clearTimeout(timeoutHandle);
+            context.progress.finish();
+            return Promise.resolve(context);
+        }).catch_(error -> {
+            clearTimeout(timeoutHandle);
+            return Promise.reject(error);
+        });
+    }
+
     // ------------------------------------------------------ helper methods
 
     private void rejectWithTimeout(RejectCallbackFn reject) {
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.flow;
 
+import java.util.List;
+
 import elemental2.promise.Promise;
 
 /**
@@ -31,6 +33,34 @@ import elemental2.promise.Promise;
 @FunctionalInterface
 public interface Task<C extends FlowContext> {
 
+    /**
+     * The default priority of a task.
+     */
+    int DEFAULT_PRIORITY = 0;
+
+    /**
+     * Returns a task with the given priority. The priority is used by {@linkplain Flow#concurrent(FlowContext, List, int)
+     * concurrent} flows: tasks with a higher priority are started first.
+     *
+     * @param priority the priority of the task
+     * @param task the task to execute
+     * @param <C> the type of the shared context
+     * @return a task which delegates to the given task
+     */
+    static <C extends FlowContext> Task<C> withPriority(int priority, Task<C> task) {
+        return new Task<C>() {
+            @Override
+            public Promise<C> apply(C context) {
+                return task.apply(context);
+            }
+
+            @Override
+            public int priority() {
+                return priority;
+            }
+        };
+    }
+
     /**
      * Executes the task.
      *
@@ -38,4 +68,11 @@ public interface Task<C extends FlowContext> {
      * @return a promise containing the shared context
      */
     Promise<C> apply(C context);
+
+    /**
+     * The priority of this task. Defaults to {@value #DEFAULT_PRIORITY}.
+     */
+    default int priority() {
+        return DEFAULT_PRIORITY;
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.flow.AdaptiveDelay.MAX_DELAY_FACTOR;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveDelayTest {
+
+    private static final long INTERVAL = 1_000;
+
+    private AdaptiveDelay delay;
+
+    @Before
+    public void setUp() {
+        // no jitter
+        delay = new AdaptiveDelay(INTERVAL, () -> 0.5);
+    }
+
+    @Test
+    public void fast() {
+        assertEquals(INTERVAL, delay.succeeded(10));
+        assertEquals(INTERVAL, delay.succeeded(INTERVAL));
+    }
+
+    @Test
+    public void slow() {
+        assertEquals(2_500, delay.succeeded(2_500));
+        assertEquals(4_000, delay.succeeded(4_000));
+    }
+
+    @Test
+    public void decay() {
+        delay.succeeded(6_000);
+        assertEquals(3_000, delay.succeeded(10));
+        assertEquals(1_500, delay.succeeded(10));
+        assertEquals(INTERVAL, delay.succeeded(10));
+        assertEquals(INTERVAL, delay.succeeded(10));
+    }
+
+    @Test
+    public void decayToLatency() {
+        delay.succeeded(6_000);
+        assertEquals(3_000, delay.succeeded(2_000));
+        assertEquals(2_000, delay.succeeded(2_000));
+    }
+
+    @Test
+    public void backoff() {
+        assertEquals(2_000, delay.failed());
+        assertEquals(4_000, delay.failed());
+        assertEquals(8_000, delay.failed());
+        assertEquals(INTERVAL * MAX_DELAY_FACTOR, delay.failed());
+    }
+
+    @Test
+    public void recover() {
+        delay.failed();
+        delay.failed();
+        assertEquals(2_000, delay.succeeded(10));
+        assertEquals(INTERVAL, delay.succeeded(10));
+    }
+
+    @Test
+    public void max() {
+        assertEquals(INTERVAL * MAX_DELAY_FACTOR, delay.succeeded(60_000));
+        for (int i = 0; i < 100; i++) {
+            delay.failed();
+        }
+        assertEquals(INTERVAL * MAX_DELAY_FACTOR, delay.current());
+    }
+
+    @Test
+    public void jitter() {
+        AdaptiveDelay low = new AdaptiveDelay(INTERVAL, () -> 0.0);
+        AdaptiveDelay high = new AdaptiveDelay(INTERVAL, () -> 1.0);
+        assertEquals(Math.round(2_000 * (1 - AdaptiveDelay.JITTER)), low.failed());
+        assertEquals(Math.round(2_000 * (1 + AdaptiveDelay.JITTER)), high.failed());
+        for (int i = 0; i < 20; i++) {
+            long next = new AdaptiveDelay(INTERVAL).failed();
+            assertTrue(next >= 1_600 && next <= 2_400);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class ConcurrentSchedulerTest {
+
+    @Test
+    public void empty() {
+        Recorder recorder = new Recorder();
+        ConcurrentScheduler<Item> scheduler = scheduler(emptyList(), 2, true, recorder);
+        scheduler.pump();
+
+        assertEquals(1, recorder.resolved);
+        assertEquals(0, recorder.rejected.size());
+    }
+
+    @Test
+    public void concurrencyLimit() {
+        Recorder recorder = new Recorder();
+        ConcurrentScheduler<Item> scheduler = scheduler(items(5), 2, true, recorder);
+        scheduler.pump();
+        assertEquals(2, recorder.started.size());
+        assertEquals(2, scheduler.inFlight());
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(scheduler.inFlight() <= 2);
+            scheduler.succeeded();
+        }
+        assertEquals(5, recorder.started.size());
+        assertEquals(5, recorder.ticks);
+        assertEquals(0, scheduler.inFlight());
+        assertEquals(1, recorder.resolved);
+    }
+
+    @Test
+    public void minimumConcurrency() {
+        Recorder recorder = new Recorder();
+        ConcurrentScheduler<Item> scheduler = scheduler(items(3), 0, true, recorder);
+        scheduler.pump();
+        assertEquals(1, recorder.started.size());
+    }
+
+    @Test
+    public void priority() {
+        Recorder recorder = new Recorder();
+        List<Item> items = asList(new Item("a", 0), new Item("b", 5), new Item("c", 0), new Item("d", 10),
+                new Item("e", 5));
+        ConcurrentScheduler<Item> scheduler = scheduler(items, 1, true, recorder);
+        scheduler.pump();
+        for (int i = 0; i < items.size(); i++) {
+            scheduler.succeeded();
+        }
+        assertEquals(asList("d", "b", "e", "a", "c"), recorder.names());
+    }
+
+    @Test
+    public void failFast() {
+        Recorder recorder = new Recorder();
+        ConcurrentScheduler<Item> scheduler = scheduler(items(5), 2, true, recorder);
+        scheduler.pump();
+        scheduler.failed("boom");
+        assertEquals(asList("boom"), recorder.rejected);
+        assertTrue(scheduler.settled());
+
+        // the other task in flight finishes after the flow has been rejected
+        scheduler.succeeded();
+        assertEquals(2, recorder.started.size());
+        assertEquals(0, recorder.ticks);
+        assertEquals(0, recorder.resolved);
+        assertEquals(1, recorder.rejected.size());
+    }
+
+    @Test
+    public void continueOnError() {
+        Recorder recorder = new Recorder();
+        ConcurrentScheduler<Item> scheduler = scheduler(items(4), 2, false, recorder);
+        scheduler.pump();
+        scheduler.failed("boom");
+        scheduler.succeeded();
+        scheduler.failed("boom");
+        scheduler.succeeded();
+
+        assertEquals(4, recorder.started.size());
+        assertEquals(4, recorder.ticks);
+        assertEquals(1, recorder.resolved);
+        assertEquals(0, recorder.rejected.size());
+    }
+
+    @Test
+    public void timeout() {
+        Recorder recorder = new Recorder();
+        ConcurrentScheduler<Item> scheduler = scheduler(items(4), 2, true, recorder);
+        scheduler.pump();
+        scheduler.timeout();
+        assertEquals(asList(FlowRunner.TIMEOUT_ERROR), recorder.rejected);
+
+        // late results neither start new tasks nor settle the flow again
+        scheduler.succeeded();
+        scheduler.failed("boom");
+        scheduler.timeout();
+        assertEquals(2, recorder.started.size());
+        assertEquals(0, recorder.resolved);
+        assertEquals(1, recorder.rejected.size());
+    }
+
+    @Test
+    public void tickFails() {
+        Recorder recorder = new Recorder() {
+            @Override
+            public void tick() {
+                super.tick();
+                throw new IllegalStateException("tick");
+            }
+        };
+        ConcurrentScheduler<Item> scheduler = scheduler(items(2), 1, true, recorder);
+        scheduler.pump();
+        try {
+            scheduler.succeeded();
+        } catch (IllegalStateException ignored) {
+            // expected
+        }
+        // the next task is started nevertheless and the counter stays consistent
+        assertEquals(2, recorder.started.size());
+        assertEquals(1, scheduler.inFlight());
+    }
+
+    // ------------------------------------------------------ helper
+
+    private ConcurrentScheduler<Item> scheduler(List<Item> items, int maxInFlight, boolean failFast,
+            Recorder recorder) {
+        return new ConcurrentScheduler<>(items, item -> item.priority, maxInFlight, failFast, recorder);
+    }
+
+    private List<Item> items(int count) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new Item("task-" + i, 0));
+        }
+        return items;
+    }
+
+    private static class Item {
+
+        final String name;
+        final int priority;
+
+        Item(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+    }
+
+    private static class Recorder implements ConcurrentScheduler.Callbacks<Item> {
+
+        final List<Item> started = new ArrayList<>();
+        final List<Object> rejected = new ArrayList<>();
+        int ticks;
+        int resolved;
+
+        @Override
+        public void start(Item task) {
+            started.add(task);
+        }
+
+        @Override
+        public void tick() {
+            ticks++;
+        }
+
+        @Override
+        public void resolve() {
+            resolved++;
+        }
+
+        @Override
+        public void reject(Object error) {
+            rejected.add(error);
+        }
+
+        List<String> names() {
+            List<String> names = new ArrayList<>();
+            for (Item item : started) {
+                names.add(item.name);
+            }
+            return names;
+        }
+    }
+}
@@ -32,6 +32,8 @@ import elemental2.dom.HTMLElement;
 import jsinterop.base.JsPropertyMap;
 
 import static elemental2.core.Global.decodeURIComponent;
+import static elemental2.dom.DomGlobal.requestIdleCallback;
+import static elemental2.dom.DomGlobal.setTimeout;
 import static elemental2.dom.DomGlobal.window;
 
 public final class JsHelper {
@@ -68,6 +70,25 @@ public final class JsHelper {
             'FormData' in window && 'FileReader' in window;
     }-*/;
 
+    /**
+     * Runs the callback when the browser is idle, but no later than the given timeout. Falls back to a timeout of 0 if the
+     * browser doesn't support {@code requestIdleCallback()}.
+     *
+     * @param callback the callback to run
+     * @param timeout  the maximum number of milliseconds to wait
+     */
+    public static void requestIdle(Runnable callback, int timeout) {
+        if (supportsIdleCallback()) {
+            requestIdleCallback(deadline -> callback.run(), timeout);
+        } else {
+            setTimeout(__ -> callback.run(), 0);
+        }
+    }
+
+    private static native boolean supportsIdleCallback() /*-{
+        return 'requestIdleCallback' in $wnd;
+    }-*/;
+
     public static HandlerRegistration addDropHandler(HTMLElement element, EventCallbackFn<DragEvent> handler) {
         EventCallbackFn<DragEvent> noop = event -> {
             event.preventDefault();
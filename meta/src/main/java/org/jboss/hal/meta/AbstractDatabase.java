@@ -15,20 +15,38 @@
  */
 package org.jboss.hal.meta;
 
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.hal.db.Document;
 import org.jboss.hal.db.PouchDB;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import elemental2.core.ArrayBuffer;
+import elemental2.dom.Blob;
 import elemental2.promise.Promise;
 
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toMap;
 import static java.util.stream.Collectors.toSet;
 
-/** Abstract database which uses the specified statement context to resolve address templates. */
-public abstract class AbstractDatabase<T> implements Database<T> {
+/**
+ * Abstract database which uses the specified statement context to resolve address templates.
+ * <p>
+ * The metadata is stored in documents of schema version {@value Database#SCHEMA_VERSION}: the binary DMR encoding is
+ * posted as {@code ArrayBuffer} in the {@value Database#PAYLOAD} property. The worker ({@code app/src/web/script/worker.js})
+ * moves it to an attachment, compresses it if the browser supports {@code CompressionStream} and sets the
+ * {@value Database#ENCODING} property accordingly. Documents without schema version contain the base64 encoded DMR in the
+ * {@value Database#PAYLOAD} property and can still be read. Documents with an unknown schema version are ignored.
+ */
+public abstract class AbstractDatabase<T extends ModelNode> implements Database<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(AbstractDatabase.class);
 
     private final StatementContext statementContext;
     private final String type;
@@ -53,31 +71,72 @@ public abstract class AbstractDatabase<T> implements Database<T> {
         Set<String> ids = templates.stream()
                 .map(template -> template.resolve(statementContext).toString())
                 .collect(toSet());
-        return database().getAll(ids)
-                .then(documents -> {
-                    Map<ResourceAddress, T> metadata = documents.stream().collect(toMap(
-                            document -> ResourceAddress.from(document.getId()),
-                            this::asMetadata));
-                    return Promise.resolve(metadata);
-                });
+        return database().getAll(ids).then(this::asMetadata);
     }
 
     @Override
     public Promise<Map<ResourceAddress, T>> getRecursive(AddressTemplate template) {
         String id = template.resolve(statementContext).toString();
-        return database().prefixSearch(id)
-                .then(documents -> {
-                    Map<ResourceAddress, T> metadata = documents.stream().collect(toMap(
-                            document -> ResourceAddress.from(document.getId()),
-                            this::asMetadata));
-                    return Promise.resolve(metadata);
+        return database().prefixSearch(id).then(this::asMetadata);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Promise<Map<ResourceAddress, T>> asMetadata(List<Document> documents) {
+        Promise<T>[] metadata = documents.stream().map(this::asMetadata).toArray(Promise[]::new);
+        return Promise.all(metadata).then(values -> {
+            Map<ResourceAddress, T> map = new HashMap<>();
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null) {
+                    map.put(ResourceAddress.from(documents.get(i).getId()), values[i]);
+                }
+            }
+            return Promise.resolve(map);
+        });
+    }
+
+    @Override
+    public Promise<T> asMetadata(Document document) {
+        Promise<ModelNode> payload;
+        if (!document.has(SCHEMA)) {
+            payload = Promise.resolve(ModelNode.fromBase64(document.getAsAny(PAYLOAD).asString()));
+        } else if (document.getAsAny(SCHEMA).asInt() == SCHEMA_VERSION && document.getAttachment(PAYLOAD) != null) {
+            boolean gzip = GZIP.equals(document.get(ENCODING));
+            payload = read(document.getAttachment(PAYLOAD), gzip).then(buffer -> Promise.resolve(
+                    ModelNode.fromArrayBuffer(buffer, true)));
+        } else {
+            logger.warn("Ignore {} {} with unknown schema {}", type, document.getId(), document.get(SCHEMA));
+            return Promise.resolve((T) null);
+        }
+        return payload
+                .then(node -> Promise.resolve(createMetadata(node)))
+                .catch_(error -> {
+                    logger.warn("Unable to read {} {}: {}", type, document.getId(), error);
+                    return Promise.resolve((T) null);
                 });
     }
 
+    @Override
+    public Document asDocument(ResourceAddress address, T metadata) {
+        Document document = Document.of(address.toString());
+        document.set(SCHEMA, SCHEMA_VERSION);
+        document.set(PAYLOAD, metadata.toArrayBuffer());
+        return document;
+    }
+
     @Override
     public String type() {
         return type;
     }
 
+    /** Creates the metadata from the decoded payload. */
+    protected abstract T createMetadata(ModelNode payload);
+
     protected abstract PouchDB database();
+
+    private static native Promise<ArrayBuffer> read(Blob blob, boolean gzip) /*-{
+        if (gzip) {
+            return new $wnd.Response(blob.stream().pipeThrough(new $wnd.DecompressionStream("gzip"))).arrayBuffer();
+        }
+        return new $wnd.Response(blob).arrayBuffer();
+    }-*/;
 }
@@ -26,6 +26,10 @@ import elemental2.promise.Promise;
 public interface Database<T> {
 
     String PAYLOAD = "payload";
+    String SCHEMA = "schema";
+    int SCHEMA_VERSION = 2;
+    String ENCODING = "encoding";
+    String GZIP = "gzip";
 
     /** Turns a template into a resource addresses for later lookup. */
     ResourceAddress resolveTemplate(AddressTemplate template);
@@ -39,8 +43,8 @@ public interface Database<T> {
     /** Returns a map with metadata whose address starts with the specified template */
     Promise<Map<ResourceAddress, T>> getRecursive(AddressTemplate template);
 
-    /** Returns metadata for a given document */
-    T asMetadata(Document document);
+    /** Returns metadata for a given document or {@code null} if the document can't be read */
+    Promise<T> asMetadata(Document document);
 
     /** Returns a document for a given metadata */
     Document asDocument(ResourceAddress address, T metadata);
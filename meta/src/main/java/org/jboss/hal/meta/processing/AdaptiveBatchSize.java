@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+/**
+ * Adapts the number of r-r-d operations per composite operation to the measured latency and response size. The size is
+ * increased by one if a full batch was fast and small and is halved if a batch was slow or too big.
+ * <p>
+ * The response size is measured as the number of resource descriptions and security contexts, which is known after
+ * parsing the response.
+ */
+class AdaptiveBatchSize {
+
+    /** Latency in milliseconds above which the batch size is reduced. */
+    static final long TARGET_LATENCY = 750;
+
+    /** Number of parsed descriptions above which the batch size is reduced. */
+    static final int TARGET_DESCRIPTIONS = 250;
+
+    private final int max;
+    private int size;
+
+    AdaptiveBatchSize(int initial, int max) {
+        this.size = initial;
+        this.max = max;
+    }
+
+    /** @return the number of operations for the next composite operation */
+    int get() {
+        return size;
+    }
+
+    /**
+     * Records the measurements of an executed composite operation.
+     *
+     * @param operations   the number of operations in the composite
+     * @param latency      the time in milliseconds until the response was parsed
+     * @param descriptions the number of resource descriptions and security contexts in the response
+     */
+    void record(int operations, long latency, int descriptions) {
+        if (latency > TARGET_LATENCY || descriptions > TARGET_DESCRIPTIONS) {
+            size = Math.max(1, Math.min(size, operations) / 2);
+        } else if (operations >= size && latency < TARGET_LATENCY / 2 && descriptions < TARGET_DESCRIPTIONS / 2) {
+            size = Math.min(max, size + 1);
+        }
+    }
+}
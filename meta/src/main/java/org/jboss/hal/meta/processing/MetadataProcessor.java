@@ -58,9 +58,18 @@ public class MetadataProcessor {
     /** Recursive depth for the r-r-d operations. Keep this small - some browsers choke on too big payload size */
     static final int RRD_DEPTH = 3;
 
-    /** Number of r-r-d operations part of one composite operation. */
+    /** Initial number of r-r-d operations part of one composite operation. */
     private static final int BATCH_SIZE = 3;
 
+    /** Upper limit for the adaptive number of r-r-d operations part of one composite operation. */
+    private static final int MAX_BATCH_SIZE = 12;
+
+    /**
+     * Number of composite operations executed at the same time. Browsers limit the number of connections per host, so leave
+     * some connections for the rest of the console.
+     */
+    private static final int CONCURRENCY = 4;
+
     private static final Logger logger = LoggerFactory.getLogger(MetadataProcessor.class);
 
     private final Environment environment;
@@ -74,6 +83,7 @@ public class MetadataProcessor {
     private final SecurityContextRegistry securityContextRegistry;
     private final Settings settings;
     private final WorkerChannel workerChannel;
+    private final AdaptiveBatchSize batchSize;
 
     @Inject
     public MetadataProcessor(Environment environment,
@@ -98,6 +108,7 @@ public class MetadataProcessor {
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.settings = settings;
         this.workerChannel = workerChannel;
+        this.batchSize = new AdaptiveBatchSize(BATCH_SIZE, MAX_BATCH_SIZE);
     }
 
     public void lookup(AddressTemplate template, Progress progress, MetadataCallback callback) {
@@ -148,7 +159,8 @@ public class MetadataProcessor {
             if (!ie) {
                 tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
             }
-            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
+            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, batchSize, CONCURRENCY,
+                    RRD_DEPTH));
             tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
             if (!ie) {
                 tasks.add(new UpdateDatabaseTask(workerChannel));
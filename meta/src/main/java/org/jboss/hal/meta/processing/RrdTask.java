@@ -15,7 +15,9 @@
  */
 package org.jboss.hal.meta.processing;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -31,25 +33,31 @@ import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.collect.Lists;
-
 import elemental2.promise.Promise;
 
-import static java.util.stream.Collectors.toList;
-
-/** Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata. */
+/**
+ * Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata.
+ * <p>
+ * The operations are executed as composite operations by up to {@code concurrency} workers, which take the next
+ * operations from a shared queue until the queue is empty. The number of operations per composite is taken from
+ * {@link AdaptiveBatchSize}. Optional operations are executed as one composite per operation with a lower priority, so
+ * that errors can be ignored per operation.
+ */
 final class RrdTask implements Task<LookupContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(RrdTask.class);
+    private static final int OPTIONAL_PRIORITY = Task.DEFAULT_PRIORITY - 1;
 
     private final Dispatcher dispatcher;
-    private final int batchSize;
+    private final AdaptiveBatchSize batchSize;
+    private final int concurrency;
     private final CreateRrdOperations rrdOps;
 
     RrdTask(Environment environment, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            int batchSize, int depth) {
+            AdaptiveBatchSize batchSize, int concurrency, int depth) {
         this.dispatcher = dispatcher;
         this.batchSize = batchSize;
+        this.concurrency = concurrency;
         this.rrdOps = new CreateRrdOperations(environment, statementContext, settings.get(Settings.Key.LOCALE).value(),
                 depth);
     }
@@ -57,63 +65,76 @@ final class RrdTask implements Task<LookupContext> {
     @Override
     public Promise<LookupContext> apply(final LookupContext context) {
         boolean recursive = context.recursive;
-        List<Task<LookupContext>> tasks = new ArrayList<>();
-
-        // create and partition non-optional operations
         List<Operation> operations = rrdOps.create(context, recursive, false);
-        List<List<Operation>> piles = Lists.partition(operations, batchSize);
-        List<Composite> composites = piles.stream().map(Composite::new).collect(toList());
-        for (Composite composite : composites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite).then(result -> {
-                parseRrdAction(context, composite, result);
-                return Promise.resolve(c);
-            }));
-        }
-
-        // create optional operations w/o partitioning!
         List<Operation> optionalOperations = rrdOps.create(context, recursive, true);
-        // Do not refactor to
-        // List<Composite> optionalComposites = optionalOperations.stream().map(Composite::new).collect(toList());
-        // the GWT compiler will crash with an ArrayIndexOutOfBoundsException!
-        List<Composite> optionalComposites = new ArrayList<>();
-        optionalOperations.forEach(operation -> optionalComposites.add(new Composite(operation)));
-        for (Composite composite : optionalComposites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite)
-                    .then(result -> {
-                        parseRrdAction(context, composite, result);
-                        return Promise.resolve(c);
-                    })
-                    .catch_(error -> {
-                        logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
-                        return Promise.resolve(c);
-                    }));
-        }
 
-        if (!tasks.isEmpty()) {
+        if (!operations.isEmpty() || !optionalOperations.isEmpty()) {
             if (logger.isDebugEnabled()) {
-                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional)",
-                        composites.size() + optionalComposites.size(), composites.size(), optionalComposites.size());
-                String compositeOps = composites.stream().map(Composite::asCli).collect(Collectors.joining(", "));
-                logger.debug("Composite operations: {}", compositeOps);
-                if (!optionalComposites.isEmpty()) {
-                    String optionalOps = optionalComposites.stream()
-                            .map(Composite::asCli)
+                logger.debug("About to execute {} ({}+{}) operations (regular+optional) in up to {} concurrent " +
+                        "composite operations", operations.size() + optionalOperations.size(), operations.size(),
+                        optionalOperations.size(), concurrency);
+                String ops = operations.stream().map(Operation::asCli).collect(Collectors.joining(", "));
+                logger.debug("Operations: {}", ops);
+                if (!optionalOperations.isEmpty()) {
+                    String optionalOps = optionalOperations.stream()
+                            .map(Operation::asCli)
                             .collect(Collectors.joining(", "));
                     logger.debug("Optional operations: {}", optionalOps);
                 }
             }
-            return Flow.sequential(context, tasks).promise();
+            Deque<Operation> queue = new ArrayDeque<>(operations);
+            List<Task<LookupContext>> tasks = new ArrayList<>();
+            int workers = Math.min(concurrency, operations.size());
+            for (int i = 0; i < workers; i++) {
+                tasks.add(c -> drain(c, queue));
+            }
+            for (Operation operation : optionalOperations) {
+                Composite composite = new Composite(operation);
+                tasks.add(Task.withPriority(OPTIONAL_PRIORITY, c -> dispatcher.execute(composite)
+                        .then(result -> {
+                            parseRrdAction(c, composite, result);
+                            return Promise.resolve(c);
+                        })
+                        .catch_(error -> {
+                            logger.debug("Ignore errors on optional resource operation {}", composite.asCli());
+                            return Promise.resolve(c);
+                        })));
+            }
+            return Flow.concurrent(context, tasks, concurrency).promise();
         } else {
             logger.debug("No DMR operations necessary");
             return Promise.resolve(context);
         }
     }
 
-    private void parseRrdAction(LookupContext context, Composite composite, CompositeResult compositeResult) {
+    /**
+     * Executes the queued operations as composites until the queue is empty. The size of each composite is determined
+     * right before it is executed.
+     */
+    private Promise<LookupContext> drain(LookupContext context, Deque<Operation> queue) {
+        if (queue.isEmpty()) {
+            return Promise.resolve(context);
+        }
+        List<Operation> pile = new ArrayList<>();
+        int size = Math.min(batchSize.get(), queue.size());
+        for (int i = 0; i < size; i++) {
+            pile.add(queue.poll());
+        }
+        Composite composite = new Composite(pile);
+        long start = System.currentTimeMillis();
+        return dispatcher.execute(composite).then(result -> {
+            int descriptions = parseRrdAction(context, composite, result);
+            batchSize.record(composite.size(), System.currentTimeMillis() - start, descriptions);
+            return drain(context, queue);
+        });
+    }
+
+    private int parseRrdAction(LookupContext context, Composite composite, CompositeResult compositeResult) {
         RrdResult rrdResult = new CompositeRrdParser(composite).parse(compositeResult);
         context.toResourceDescriptionRegistry.putAll(rrdResult.resourceDescriptions);
         context.toResourceDescriptionDatabase.putAll(rrdResult.resourceDescriptions);
         context.toSecurityContextRegistry.putAll(rrdResult.securityContexts);
         context.toSecurityContextDatabase.putAll(rrdResult.securityContexts);
+        return rrdResult.resourceDescriptions.size() + rrdResult.securityContexts.size();
     }
 }
@@ -0,0 +1,125 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Bookkeeping of the updates posted by {@link WorkerChannel}: Only one update is in progress at a time. The next one is
+ * posted when the previous one has been acknowledged or timed out. Timers and the worker are wired by
+ * {@link WorkerChannel}.
+ * <p>
+ * Flush callbacks run once the queue is empty and the last update has been acknowledged or timed out. As long as a flush
+ * is pending, the updates are posted right away instead of waiting for the browser to become idle. A flush never waits
+ * forever: a worker which doesn't answer delays it by at most one timeout per queued update.
+ */
+class UpdateQueue<T> {
+
+    interface Callbacks<T> {
+
+        /** Calls {@link UpdateQueue#post()} either right away or when the browser is idle. */
+        void schedule(boolean now);
+
+        /** Posts the update. Its outcome has to be reported using {@link #done(int)} or {@link #timeout(int)}. */
+        void post(T update, int id);
+    }
+
+    private final Deque<T> queue;
+    private final List<Runnable> flushCallbacks;
+    private final Callbacks<T> callbacks;
+    private int nextId;
+    private int inProgress;
+    private boolean scheduled;
+    private boolean scheduledNow;
+
+    UpdateQueue(Callbacks<T> callbacks) {
+        this.queue = new ArrayDeque<>();
+        this.flushCallbacks = new ArrayList<>();
+        this.callbacks = callbacks;
+        this.nextId = 0;
+        this.inProgress = -1;
+        this.scheduled = false;
+        this.scheduledNow = false;
+    }
+
+    void add(T update) {
+        queue.add(update);
+        schedule();
+    }
+
+    void flush(Runnable callback) {
+        flushCallbacks.add(callback);
+        schedule();
+    }
+
+    /** Posts the next update unless another one is still in progress. */
+    void post() {
+        scheduled = false;
+        scheduledNow = false;
+        if (inProgress == -1) {
+            T update = queue.poll();
+            if (update != null) {
+                inProgress = nextId++;
+                callbacks.post(update, inProgress);
+            }
+        }
+    }
+
+    /** Must be called when the update has been written or could not be posted. */
+    void done(int id) {
+        finish(id);
+    }
+
+    /** @return {@code true} if the update was still in progress, {@code false} if it has been acknowledged in time */
+    boolean timeout(int id) {
+        return finish(id);
+    }
+
+    boolean idle() {
+        return queue.isEmpty() && inProgress == -1;
+    }
+
+    private boolean finish(int id) {
+        if (id == inProgress) {
+            inProgress = -1;
+            schedule();
+            return true;
+        }
+        return false;
+    }
+
+    private void schedule() {
+        if (inProgress == -1) {
+            if (queue.isEmpty()) {
+                if (!flushCallbacks.isEmpty()) {
+                    List<Runnable> flushed = new ArrayList<>(flushCallbacks);
+                    flushCallbacks.clear();
+                    flushed.forEach(Runnable::run);
+                }
+            } else {
+                boolean now = !flushCallbacks.isEmpty();
+                if (!scheduled || (now && !scheduledNow)) {
+                    scheduled = true;
+                    scheduledNow = now;
+                    callbacks.schedule(now);
+                }
+            }
+        }
+    }
+}
@@ -15,24 +15,48 @@
  */
 package org.jboss.hal.meta.processing;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.db.Document;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.js.Browser;
+import org.jboss.hal.js.JsHelper;
+import org.jboss.hal.meta.Database;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.security.SecurityContext;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import elemental2.core.Transferable;
+import elemental2.dom.MessageEvent;
 import elemental2.dom.Worker;
+import elemental2.promise.Promise;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
 
+import static elemental2.dom.DomGlobal.setTimeout;
 import static jsinterop.annotations.JsPackage.GLOBAL;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 import static org.jboss.hal.resources.UIConstants.OBJECT;
 
+/**
+ * Posts metadata to the worker defined in {@code app/src/web/script/worker.js}, which stores the metadata in the databases.
+ * <p>
+ * The metadata of one lookup is posted as one message and written by the worker in one bulk operation per database. To not
+ * compete with the UI, the documents are created and posted when the browser is idle. Only one message is processed by the
+ * worker at a time; further updates are queued until the worker acknowledged the previous one. If the worker doesn't
+ * acknowledge a message within {@value #DONE_TIMEOUT} ms, the next update is posted anyway.
+ * <p>
+ * Use {@link #flush()} to post the queued updates right away and wait until they're written.
+ */
 public class WorkerChannel {
 
     // provided by app/src/web/script/index.js
@@ -42,9 +66,16 @@ public class WorkerChannel {
         @JsProperty static Worker metadataChannel;
     }
 
+    private static final String UPDATE = "update";
+    private static final String DONE = "done";
+    private static final int IDLE_TIMEOUT = 2000;
+    private static final int DONE_TIMEOUT = 30_000;
+    private static final Logger logger = LoggerFactory.getLogger(WorkerChannel.class);
+
     private final ResourceDescriptionDatabase resourceDescriptionDatabase;
     private final SecurityContextDatabase securityContextDatabase;
     private final Worker worker;
+    private final UpdateQueue<PendingUpdate> updates;
 
     @Inject
     public WorkerChannel(ResourceDescriptionDatabase resourceDescriptionDatabase,
@@ -52,32 +83,119 @@ public class WorkerChannel {
         this.resourceDescriptionDatabase = resourceDescriptionDatabase;
         this.securityContextDatabase = securityContextDatabase;
         this.worker = Browser.isIE() ? null : WorkerProvider.metadataChannel;
-    }
+        this.updates = new UpdateQueue<>(new UpdateQueue.Callbacks<PendingUpdate>() {
+            @Override
+            public void schedule(boolean now) {
+                if (now) {
+                    setTimeout(__ -> updates.post(), 0);
+                } else {
+                    JsHelper.requestIdle(updates::post, IDLE_TIMEOUT);
+                }
+            }
 
-    void postResourceDescription(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
+            @Override
+            public void post(PendingUpdate update, int id) {
+                WorkerChannel.this.post(update, id);
+            }
+        });
         if (worker != null) {
-            resourceDescription.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = resourceDescriptionDatabase.name();
-            message.document = resourceDescriptionDatabase.asDocument(address, resourceDescription);
-            worker.postMessage(message);
+            worker.addEventListener("message", event -> {
+                UpdateMessage message = Js.cast(((MessageEvent<?>) event).data);
+                if (DONE.equals(message.type)) {
+                    updates.done(message.id);
+                }
+            });
         }
     }
 
-    void postSecurityContext(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
+    /** Queues the resource descriptions and security contexts. They're posted to the worker when the browser is idle. */
+    void postMetadata(Map<ResourceAddress, ResourceDescription> resourceDescriptions,
+            Map<ResourceAddress, SecurityContext> securityContexts, boolean recursive) {
         if (worker != null) {
-            securityContext.get(HAL_RECURSIVE).set(recursive);
+            updates.add(new PendingUpdate(resourceDescriptions, securityContexts, recursive));
+        }
+    }
+
+    /**
+     * Posts the queued updates without waiting for the browser to become idle.
+     *
+     * @return a promise which is resolved when the worker has acknowledged all updates. Updates which are not
+     * acknowledged within {@value #DONE_TIMEOUT} ms don't block the promise.
+     */
+    public Promise<Void> flush() {
+        if (worker == null || updates.idle()) {
+            return Promise.resolve((Void) null);
+        }
+        return new Promise<>((resolve, reject) -> updates.flush(() -> resolve.onInvoke((Void) null)));
+    }
+
+    private void post(PendingUpdate pending, int id) {
+        try {
+            List<Transferable> payloads = new ArrayList<>();
+            Update[] updates = new Update[] {
+                    update(resourceDescriptionDatabase, pending.resourceDescriptions, pending.recursive, payloads),
+                    update(securityContextDatabase, pending.securityContexts, pending.recursive, payloads),
+            };
             UpdateMessage message = new UpdateMessage();
-            message.database = securityContextDatabase.name();
-            message.document = securityContextDatabase.asDocument(address, securityContext);
-            worker.postMessage(message);
+            message.type = UPDATE;
+            message.id = id;
+            message.updates = updates;
+            setTimeout(__ -> {
+                if (this.updates.timeout(id)) {
+                    logger.warn("Worker did not acknowledge update {} within {} ms", id, DONE_TIMEOUT);
+                }
+            }, DONE_TIMEOUT);
+            // transfer the payloads instead of copying them
+            worker.postMessage(message, payloads.toArray(new Transferable[0]));
+            logger.debug("Posted {} resource descriptions and {} security contexts to the worker",
+                    pending.resourceDescriptions.size(), pending.securityContexts.size());
+        } catch (RuntimeException e) {
+            logger.error("Unable to post update {} to the worker: {}", id, e.getMessage());
+            this.updates.done(id);
+        }
+    }
+
+    private <T extends ModelNode> Update update(Database<T> database, Map<ResourceAddress, T> metadata,
+            boolean recursive, List<Transferable> payloads) {
+        List<Document> documents = new ArrayList<>();
+        metadata.forEach((address, value) -> {
+            value.get(HAL_RECURSIVE).set(recursive);
+            Document document = database.asDocument(address, value);
+            payloads.add(Js.uncheckedCast(document.get(Database.PAYLOAD)));
+            documents.add(document);
+        });
+        Update update = new Update();
+        update.database = database.name();
+        update.documents = documents.toArray(new Document[0]);
+        return update;
+    }
+
+    private static class PendingUpdate {
+
+        private final Map<ResourceAddress, ResourceDescription> resourceDescriptions;
+        private final Map<ResourceAddress, SecurityContext> securityContexts;
+        private final boolean recursive;
+
+        private PendingUpdate(Map<ResourceAddress, ResourceDescription> resourceDescriptions,
+                Map<ResourceAddress, SecurityContext> securityContexts, boolean recursive) {
+            this.resourceDescriptions = resourceDescriptions;
+            this.securityContexts = securityContexts;
+            this.recursive = recursive;
         }
     }
 
     @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
     private static class UpdateMessage {
 
+        String type;
+        int id;
+        Update[] updates;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class Update {
+
         String database;
-        Document document;
+        Document[] documents;
     }
 }
@@ -0,0 +1,129 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.meta.processing.AdaptiveBatchSize.TARGET_DESCRIPTIONS;
+import static org.jboss.hal.meta.processing.AdaptiveBatchSize.TARGET_LATENCY;
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveBatchSizeTest {
+
+    private static final long FAST = TARGET_LATENCY / 4;
+    private static final long SLOW = TARGET_LATENCY * 2;
+    private static final int SMALL = TARGET_DESCRIPTIONS / 4;
+    private static final int BIG = TARGET_DESCRIPTIONS * 2;
+
+    private AdaptiveBatchSize batchSize;
+
+    @Before
+    public void setUp() {
+        batchSize = new AdaptiveBatchSize(3, 5);
+    }
+
+    @Test
+    public void initial() {
+        assertEquals(3, batchSize.get());
+    }
+
+    @Test
+    public void increase() {
+        batchSize.record(3, FAST, SMALL);
+        assertEquals(4, batchSize.get());
+        batchSize.record(4, FAST, SMALL);
+        assertEquals(5, batchSize.get());
+    }
+
+    @Test
+    public void max() {
+        for (int i = 0; i < 10; i++) {
+            batchSize.record(batchSize.get(), FAST, SMALL);
+        }
+        assertEquals(5, batchSize.get());
+    }
+
+    @Test
+    public void partialBatch() {
+        // a batch with fewer operations says nothing about bigger batches
+        batchSize.record(1, FAST, SMALL);
+        assertEquals(3, batchSize.get());
+    }
+
+    @Test
+    public void slow() {
+        batchSize.record(3, SLOW, SMALL);
+        assertEquals(1, batchSize.get());
+    }
+
+    @Test
+    public void big() {
+        batchSize.record(3, FAST, BIG);
+        assertEquals(1, batchSize.get());
+    }
+
+    @Test
+    public void decreaseFromMax() {
+        for (int i = 0; i < 10; i++) {
+            batchSize.record(batchSize.get(), FAST, SMALL);
+        }
+        batchSize.record(5, SLOW, SMALL);
+        assertEquals(2, batchSize.get());
+    }
+
+    @Test
+    public void min() {
+        for (int i = 0; i < 10; i++) {
+            batchSize.record(batchSize.get(), SLOW, BIG);
+        }
+        assertEquals(1, batchSize.get());
+    }
+
+    @Test
+    public void stable() {
+        batchSize.record(3, TARGET_LATENCY / 2 + 1, SMALL);
+        assertEquals(3, batchSize.get());
+    }
+
+    @Test
+    public void slowPartialBatch() {
+        // halve the size of the batch which was actually slow
+        batchSize.record(2, SLOW, SMALL);
+        assertEquals(1, batchSize.get());
+    }
+
+    @Test
+    public void thresholds() {
+        // exactly on target: neither slow nor big, but not fast and small enough to grow either
+        batchSize.record(3, TARGET_LATENCY, TARGET_DESCRIPTIONS);
+        assertEquals(3, batchSize.get());
+        batchSize.record(3, TARGET_LATENCY + 1, SMALL);
+        assertEquals(1, batchSize.get());
+        batchSize.record(1, FAST, TARGET_DESCRIPTIONS + 1);
+        assertEquals(1, batchSize.get());
+    }
+
+    @Test
+    public void recover() {
+        batchSize.record(3, SLOW, SMALL);
+        assertEquals(1, batchSize.get());
+        for (int i = 0; i < 10; i++) {
+            batchSize.record(batchSize.get(), FAST, SMALL);
+        }
+        assertEquals(5, batchSize.get());
+    }
+}
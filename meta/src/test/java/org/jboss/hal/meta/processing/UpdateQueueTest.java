@@ -0,0 +1,151 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class UpdateQueueTest {
+
+    private List<Boolean> schedules;
+    private List<String> posted;
+    private int flushed;
+    private UpdateQueue<String> updates;
+
+    @Before
+    public void setUp() {
+        schedules = new ArrayList<>();
+        posted = new ArrayList<>();
+        flushed = 0;
+        updates = new UpdateQueue<>(new UpdateQueue.Callbacks<String>() {
+            @Override
+            public void schedule(boolean now) {
+                schedules.add(now);
+            }
+
+            @Override
+            public void post(String update, int id) {
+                posted.add(update + id);
+            }
+        });
+    }
+
+    @Test
+    public void oneAtATime() {
+        updates.add("a");
+        updates.add("b");
+        assertEquals(singletonList(false), schedules);
+
+        updates.post();
+        updates.post(); // a second timer must not post while "a" is in progress
+        assertEquals(singletonList("a0"), posted);
+
+        updates.done(0);
+        assertEquals(asList(false, false), schedules);
+        updates.post();
+        assertEquals(asList("a0", "b1"), posted);
+        updates.done(1);
+        assertTrue(updates.idle());
+    }
+
+    @Test
+    public void flushIdle() {
+        updates.flush(() -> flushed++);
+        assertEquals(1, flushed);
+        assertTrue(schedules.isEmpty());
+    }
+
+    @Test
+    public void flushPostsRightAway() {
+        updates.add("a");
+        updates.flush(() -> flushed++);
+        assertEquals(asList(false, true), schedules);
+
+        updates.post();
+        assertEquals(0, flushed);
+        updates.done(0);
+        assertEquals(1, flushed);
+    }
+
+    @Test
+    public void flushWaitsForAcknowledge() {
+        updates.add("a");
+        updates.post();
+        updates.add("b");
+        updates.flush(() -> flushed++);
+        // nothing is scheduled while "a" is in progress
+        assertEquals(singletonList(false), schedules);
+
+        updates.done(0);
+        assertEquals(asList(false, true), schedules);
+        updates.post();
+        assertEquals(0, flushed);
+        updates.done(1);
+        assertEquals(1, flushed);
+    }
+
+    @Test
+    public void flushAfterTimeout() {
+        updates.add("a");
+        updates.add("b");
+        updates.post();
+        updates.flush(() -> flushed++);
+
+        // the worker doesn't answer: the flush goes on with the next update
+        assertTrue(updates.timeout(0));
+        assertEquals(asList(false, true), schedules);
+        updates.post();
+        assertEquals(asList("a0", "b1"), posted);
+
+        // a late acknowledge of the timed out update must not settle the flush
+        updates.done(0);
+        assertEquals(0, flushed);
+        assertFalse(updates.idle());
+
+        assertTrue(updates.timeout(1));
+        assertEquals(1, flushed);
+        assertTrue(updates.idle());
+    }
+
+    @Test
+    public void timeoutAfterDone() {
+        updates.add("a");
+        updates.post();
+        updates.done(0);
+        assertFalse(updates.timeout(0));
+        assertTrue(updates.idle());
+    }
+
+    @Test
+    public void failedPost() {
+        updates.add("a");
+        updates.post();
+        updates.flush(() -> flushed++);
+        // an update which could not be posted is reported as done
+        updates.done(0);
+        assertEquals(1, flushed);
+    }
+}
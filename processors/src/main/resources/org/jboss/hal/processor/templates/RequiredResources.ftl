@@ -52,6 +52,11 @@ public class ${className} implements org.jboss.hal.meta.resource.RequiredResourc
         </#list>
     }
 
+    @Override
+    public Set<String> getIds() {
+        return Collections.unmodifiableSet(recursive.keySet());
+    }
+
     @Override
     public Set<String> getResources(String id) {
         if (resources.containsKey(id)) {
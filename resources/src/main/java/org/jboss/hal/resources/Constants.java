@@ -632,6 +632,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
 
     String instances();
 
+    String inUse();
+
     String invalidate();
 
     String invalidateSession();
@@ -1198,6 +1200,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
 
     String viewInEditor();
 
+    String waiting();
+
     String xaProperties();
 
     String yes();
@@ -428,6 +428,10 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     SafeHtml logFileError(String name);
 
+    SafeHtml logFileReloaded(int lines, String name);
+
+    SafeHtml logFileSearchNoMatch(String query, int lines);
+
     SafeHtml longRunningManagementOperations();
 
     SafeHtml macroPlaybackError();
@@ -583,6 +587,8 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     SafeHtml readIdentityError(String identity, String realm, String error);
 
+    SafeHtml readMessagesError(String queue, String error);
+
     SafeHtml recordingStarted();
 
     SafeHtml recordingStopped();
@@ -1151,6 +1157,8 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     String logFilePreview(int lines);
 
+    String logFileRangeStatus(int from, int to, String lastUpdate);
+
     String mailColumnFilterDescription();
 
     String membershipColumnFilterDescription();